@@ -0,0 +1,147 @@
+package seedu.address.benchmarkutil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Kpi;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Position;
+
+/**
+ * Generates the words and persons that benchmarks search, the same for every run.
+ */
+public class BenchmarkDataUtil {
+    private static final long SEED = 42;
+    private static final int FIRST_PHONE_NUMBER = 80000000;
+    /** The number of persons for each word that their names are made of. */
+    private static final int PERSONS_PER_NAME_WORD = 20;
+    private static final int MIN_NAME_WORD_COUNT = 1000;
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final String[] SYLLABLES = {
+        "al", "an", "ar", "ba", "be", "bo", "ca", "ch", "da", "de", "di", "el", "en", "er", "fa", "ga", "ha", "he",
+        "in", "is", "ja", "ka", "ke", "la", "le", "li", "lo", "ma", "mi", "na", "ne", "ni", "on", "or", "pa", "ra",
+        "ri", "ro", "sa", "se", "sh", "si", "ta", "th", "to", "va", "wa", "ya", "yu", "za"
+    };
+
+    /**
+     * Returns a random number generator that gives the same numbers in every run.
+     */
+    public static Random newRandom() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Returns a word of {@code length} random lower-case letters.
+     */
+    public static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(randomLetter(random));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Returns a word that reads like a name, made of two to five syllables.
+     */
+    public static String randomName(Random random) {
+        int syllableCount = 2 + random.nextInt(4);
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < syllableCount; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return name.toString();
+    }
+
+    /**
+     * Returns {@code count} distinct words that read like names.
+     */
+    public static List<String> distinctNames(int count) {
+        Random random = newRandom();
+        Set<String> names = new LinkedHashSet<>();
+        while (names.size() < count) {
+            names.add(randomName(random));
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names of two words, which are drawn from a vocabulary of about one
+     * word for every {@value #PERSONS_PER_NAME_WORD} persons so that persons share words as they do in a real address
+     * book.
+     */
+    public static List<Person> persons(int count) {
+        Random random = newRandom();
+        List<String> nameWords = distinctNames(Math.max(MIN_NAME_WORD_COUNT, count / PERSONS_PER_NAME_WORD));
+        Set<String> fullNames = new LinkedHashSet<>();
+        while (fullNames.size() < count) {
+            fullNames.add(capitalize(nameWords.get(random.nextInt(nameWords.size()))) + " "
+                    + capitalize(nameWords.get(random.nextInt(nameWords.size()))));
+        }
+        List<Person> persons = new ArrayList<>(count);
+        int i = 0;
+        for (String fullName : fullNames) {
+            String emailName = fullName.toLowerCase().replace(' ', '.');
+            persons.add(new Person(new Name(fullName), new Phone(String.valueOf(FIRST_PHONE_NUMBER + i)),
+                    new Email(emailName + "@example.com"), new Address("Blk " + (i % 500) + " Clementi Street"),
+                    new Position("Manager"), new Kpi(String.valueOf(i % 5)), new Note("Met at a trade fair"),
+                    Collections.emptySet()));
+            i++;
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book with the {@code persons}.
+     */
+    public static AddressBook addressBookOf(List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersonsAndTags(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code word} with {@code edits} random letters replaced, inserted or deleted.
+     */
+    public static String mutate(Random random, String word, int edits) {
+        StringBuilder mutated = new StringBuilder(word);
+        for (int i = 0; i < edits; i++) {
+            int position = random.nextInt(mutated.length() + 1);
+            int edit = mutated.length() == 0 ? 0 : random.nextInt(3);
+            if (edit == 0) {
+                mutated.insert(position, randomLetter(random));
+            } else if (position == mutated.length()) {
+                mutated.deleteCharAt(position - 1);
+            } else if (edit == 1) {
+                mutated.setCharAt(position, randomLetter(random));
+            } else {
+                mutated.deleteCharAt(position);
+            }
+        }
+        return mutated.toString();
+    }
+
+    /**
+     * Returns {@code word} with its first letter in upper case.
+     */
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Returns a random lower-case letter.
+     */
+    private static char randomLetter(Random random) {
+        return LETTERS.charAt(random.nextInt(LETTERS.length()));
+    }
+}
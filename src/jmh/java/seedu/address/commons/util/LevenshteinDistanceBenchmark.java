@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.benchmarkutil.FullMatrixLevenshteinDistance;
+
+/**
+ * Compares the edit distance kernels of {@link LevenshteinDistanceUtil} with the full-matrix kernel they replaced.
+ *
+ * Each benchmark works out the distances of the same pairs of words, half of which are a few edits apart, as the
+ * words close to a search key are, and half of which are unrelated, as most words are.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LevenshteinDistanceBenchmark {
+    private static final int PAIR_COUNT = 1000;
+
+    @Param({"6", "12", "40"})
+    private int length;
+
+    @Param({"1", "3"})
+    private int maxDistance;
+
+    private String[] lefts;
+    private String[] rights;
+
+    /**
+     * Generates the pairs of words.
+     */
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkDataUtil.newRandom();
+        lefts = new String[PAIR_COUNT];
+        rights = new String[PAIR_COUNT];
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            lefts[i] = BenchmarkDataUtil.randomWord(random, length);
+            rights[i] = i % 2 == 0
+                    ? BenchmarkDataUtil.mutate(random, lefts[i], 1 + random.nextInt(2))
+                    : BenchmarkDataUtil.randomWord(random, length);
+        }
+    }
+
+    /**
+     * Returns the total of the distances given by the full-matrix kernel.
+     */
+    @Benchmark
+    public int fullMatrixDistance() {
+        int total = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            total += FullMatrixLevenshteinDistance.levenshteinDistance(lefts[i], rights[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the distances given by the banded kernel.
+     */
+    @Benchmark
+    public int bandedDistance() {
+        int total = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            total += LevenshteinDistanceUtil.bandedDistance(lefts[i], rights[i], maxDistance, false);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the distances given by the banded kernel with transpositions.
+     */
+    @Benchmark
+    public int damerauLevenshteinDistance() {
+        int total = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            total += LevenshteinDistanceUtil.damerauLevenshteinDistance(lefts[i], rights[i], maxDistance);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total of the distances given by the bit-parallel kernel.
+     */
+    @Benchmark
+    public int bitParallelDistance() {
+        int total = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            total += LevenshteinDistanceUtil.bitParallelDistance(lefts[i], rights[i], maxDistance);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.XmlAddressBookCodec;
+import seedu.address.storage.XmlSerializableAddressBook;
+
+/**
+ * Times saving a large address book as xml through {@link XmlUtil}, which reuses its JAXB context and marshaller,
+ * against creating a new context for every save, as {@code XmlUtil} used to.
+ * Also times the streaming writer that saves the data file, for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class XmlUtilBenchmark {
+    @Param({"100", "50000"})
+    private int personCount;
+
+    @Param({"true", "false"})
+    private boolean isFormatted;
+
+    private AddressBook addressBook;
+    private Path directory;
+    private Path file;
+
+    /**
+     * Builds the address book and creates the file to save it to.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkDataUtil.addressBookOf(BenchmarkDataUtil.persons(personCount));
+        directory = Files.createTempDirectory("benchmark");
+        file = Files.createFile(directory.resolve("addressbook.xml"));
+    }
+
+    /**
+     * Deletes the file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+        Files.delete(directory);
+    }
+
+    /**
+     * Saves the address book with the cached context and this thread's marshaller.
+     */
+    @Benchmark
+    public Path saveWithCachedContext() throws IOException, JAXBException {
+        XmlUtil.saveDataToFile(file, new XmlSerializableAddressBook(addressBook), isFormatted);
+        return file;
+    }
+
+    /**
+     * Saves the address book with a context and marshaller created for this save.
+     */
+    @Benchmark
+    public Path saveWithNewContext() throws JAXBException {
+        Marshaller marshaller = JAXBContext.newInstance(XmlSerializableAddressBook.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormatted);
+        marshaller.marshal(new XmlSerializableAddressBook(addressBook), file.toFile());
+        return file;
+    }
+
+    /**
+     * Saves the address book with the streaming writer.
+     */
+    @Benchmark
+    public Path saveStreamed() throws IOException {
+        XmlAddressBookCodec.write(file, addressBook, isFormatted);
+        return file;
+    }
+}
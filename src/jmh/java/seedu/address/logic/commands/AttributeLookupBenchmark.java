@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.parser.ListCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+
+/**
+ * Times looking persons up by phone and email in the attribute index of a large address book, against testing every
+ * person as the predicates used to. Also times {@code list k/}, which looks the persons up by KPI and then filters
+ * the displayed list down to them.
+ *
+ * A model of 200,000 persons and its indexes takes more than the default heap of a small machine, so the benchmark
+ * runs with a larger one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AttributeLookupBenchmark {
+    @Param({"200000"})
+    private int personCount;
+
+    private List<Person> persons;
+    private Model model;
+    private String phone;
+    private String phonePrefix;
+    private String email;
+
+    /**
+     * Builds the model, and picks the phone and email of a person to look up.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkDataUtil.persons(personCount);
+        model = new ModelManager(BenchmarkDataUtil.addressBookOf(persons), new UserPrefs());
+        Person person = persons.get(personCount / 2);
+        phone = person.getPhone().value;
+        // Shared by the 100 persons whose phones differ only in the last two digits
+        phonePrefix = phone.substring(0, phone.length() - 2);
+        email = person.getEmail().value;
+    }
+
+    /**
+     * Looks up the person with a phone in the index.
+     */
+    @Benchmark
+    public List<Person> findByPhone() {
+        return model.findPersons(PersonAttribute.PHONE, phone);
+    }
+
+    /**
+     * Looks up the persons whose phones start with a prefix in the index.
+     */
+    @Benchmark
+    public List<Person> findByPhonePrefix() {
+        return model.findPersonsByPrefix(PersonAttribute.PHONE, phonePrefix);
+    }
+
+    /**
+     * Looks up the person with an email in the index.
+     */
+    @Benchmark
+    public List<Person> findByEmail() {
+        return model.findPersons(PersonAttribute.EMAIL, email);
+    }
+
+    /**
+     * Finds the person with a phone by testing every person.
+     */
+    @Benchmark
+    public List<Person> scanByPhone() {
+        return persons.stream().filter(person -> person.getPhone().value.equals(phone)).collect(Collectors.toList());
+    }
+
+    /**
+     * Lists the persons with a KPI.
+     */
+    @Benchmark
+    public String listKpi() throws Exception {
+        return new ListCommandParser().parse(" k/3").execute(model, new CommandHistory()).feedbackToUser;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.logic.commands;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchableField;
+
+/**
+ * Times {@code find n/} over a large address book, and the name keyword predicate that tests the cached lower-case
+ * words of a person against testing each person by splitting its name, as the predicates used to.
+ * Also times {@code find sn/}, which looks names up in the phonetic index, against encoding every word of every name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FindCommandBenchmark {
+    @Param({"100000"})
+    private int personCount;
+
+    private List<Person> persons;
+    private Model model;
+    private String keyword;
+    private String misspeltKeyword;
+
+    /**
+     * Builds the model, and picks a word of a name and a misspelling of it to search for.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkDataUtil.persons(personCount);
+        model = new ModelManager(BenchmarkDataUtil.addressBookOf(persons), new UserPrefs());
+        keyword = persons.get(personCount / 2).getName().fullName.split(" ")[0];
+        misspeltKeyword = BenchmarkDataUtil.mutate(new Random(personCount), keyword, 1);
+    }
+
+    /**
+     * Finds the persons with a word of a name.
+     */
+    @Benchmark
+    public String findName() throws Exception {
+        return execute(" n/" + keyword);
+    }
+
+    /**
+     * Finds the persons with a misspelling of a word of a name.
+     */
+    @Benchmark
+    public String findMisspeltName() throws Exception {
+        return execute(" n/" + misspeltKeyword);
+    }
+
+    /**
+     * Finds the persons with a name that sounds like a word of a name.
+     */
+    @Benchmark
+    public String findNameSoundingLike() throws Exception {
+        return execute(" sn/" + keyword);
+    }
+
+    /**
+     * Returns the number of distinct words of names that sound like a word of a name, encoding every word.
+     */
+    @Benchmark
+    public int scanNamesSoundingLike() {
+        Set<String> names = new LinkedHashSet<>();
+        for (Person person : persons) {
+            for (String word : person.getWords(SearchableField.NAME)) {
+                if (PhoneticUtil.soundsLike(keyword, word)) {
+                    names.add(word);
+                }
+            }
+        }
+        return names.size();
+    }
+
+    /**
+     * Returns the number of persons with a word of a name, testing their cached lower-case words.
+     */
+    @Benchmark
+    public int filterByNameKeywordsPredicate() {
+        return count(new NameContainsKeywordsPredicate(Collections.singletonList(keyword)));
+    }
+
+    /**
+     * Returns the number of persons with a word of a name, splitting each name.
+     */
+    @Benchmark
+    public int filterBySplittingNames() {
+        return count(person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+    }
+
+    /**
+     * Returns the total of the hash codes of the persons.
+     */
+    @Benchmark
+    public int hashPersons() {
+        int total = 0;
+        for (Person person : persons) {
+            total += person.hashCode();
+        }
+        return total;
+    }
+
+    /**
+     * Executes the find command with {@code args} on the model, returning its feedback.
+     */
+    private String execute(String args) throws Exception {
+        return new FindCommandParser().parse(args).execute(model, new CommandHistory()).feedbackToUser;
+    }
+
+    /**
+     * Returns the number of persons that pass {@code predicate}.
+     */
+    private int count(Predicate<Person> predicate) {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+
+/**
+ * Edits one field of a person and commits, {@value #EDIT_COUNT} times, in an address book kept by each undo history,
+ * and prints the heap that the history retains afterwards.
+ *
+ * {@code personListCopy} is the baseline of a history that copies the person list and the activities at every commit,
+ * as {@code VersionedAddressBook} used to. It is a lower bound of that history, which copied the tag map as well.
+ * Run with {@code -prof gc} to also see the memory allocated by the edits.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UndoHistoryBenchmark {
+    private static final int EDIT_COUNT = 1000;
+
+    @Param({"50000"})
+    private int personCount;
+
+    @Param({"operations", "snapshots", "personListCopy"})
+    private String history;
+
+    private List<Person> persons;
+    private VersionedAddressBook versionedAddressBook;
+    private AddressBook addressBook;
+    private List<List<Person>> personListCopies;
+    private List<List<Activity>> activityListCopies;
+    private long usedBytesBefore;
+
+    /**
+     * Generates the persons.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkDataUtil.persons(personCount);
+    }
+
+    /**
+     * Builds the address book with an empty history, and measures the heap in use before the edits.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        if (history.equals("personListCopy")) {
+            addressBook = BenchmarkDataUtil.addressBookOf(persons);
+            personListCopies = new ArrayList<>();
+            activityListCopies = new ArrayList<>();
+        } else {
+            VersionedAddressBook.HistoryMode historyMode = history.equals("snapshots")
+                    ? VersionedAddressBook.HistoryMode.SNAPSHOTS
+                    : VersionedAddressBook.HistoryMode.OPERATIONS;
+            versionedAddressBook = new VersionedAddressBook(BenchmarkDataUtil.addressBookOf(persons), historyMode,
+                    Long.MAX_VALUE);
+            addressBook = versionedAddressBook;
+        }
+        usedBytesBefore = usedBytesAfterGc();
+    }
+
+    /**
+     * Prints the heap retained by the edits and the history, and drops the address book.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        System.out.println(String.format("%n%s history after %d edits of %d persons: %d bytes retained", history,
+                EDIT_COUNT, personCount, usedBytesAfterGc() - usedBytesBefore));
+        versionedAddressBook = null;
+        addressBook = null;
+        personListCopies = null;
+        activityListCopies = null;
+    }
+
+    /**
+     * Edits the note of a person and commits, {@value #EDIT_COUNT} times.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook editAndCommit() {
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            Person person = addressBook.getPersonList().get(i * (personCount / EDIT_COUNT));
+            addressBook.updatePerson(person, new Person(person.getId(), person.getName(), person.getPhone(),
+                    person.getEmail(), person.getAddress(), person.getPosition(), person.getKpi(),
+                    new Note("Edited " + i), person.getTags()));
+            if (versionedAddressBook != null) {
+                versionedAddressBook.commit();
+            } else {
+                personListCopies.add(new ArrayList<>(addressBook.getPersonList()));
+                activityListCopies.add(new ArrayList<>(addressBook.getActivityList()));
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the bytes of heap in use once the garbage collector has freed what it can.
+     */
+    private static long usedBytesAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long usedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            usedBytes = Math.min(usedBytes, memory.getHeapMemoryUsage().getUsed());
+        }
+        return usedBytes;
+    }
+}
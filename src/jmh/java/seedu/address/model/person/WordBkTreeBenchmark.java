@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.benchmarkutil.FullMatrixLevenshteinDistance;
+
+/**
+ * Compares finding the closest words to a search key in a {@link WordBkTree} with working out the full distance from
+ * the key to every word, as {@link ClosestMatchList} used to.
+ *
+ * Each search finds the distance to the closest word and then the words within one of it, as
+ * {@code ClosestMatchList} does. Half of the search keys are misspellings of a word in the tree and half are words
+ * that may not be close to any. The tree is searched both on one thread and split across the common fork-join pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class WordBkTreeBenchmark {
+    private static final int SEARCH_KEY_COUNT = 10;
+
+    @Param({"10000", "100000", "500000", "1000000"})
+    private int wordCount;
+
+    private List<String> words;
+    private WordBkTree tree;
+    private String[] searchKeys;
+
+    /**
+     * Builds the tree of the words, and picks the search keys.
+     */
+    @Setup
+    public void setUp() {
+        words = BenchmarkDataUtil.distinctNames(wordCount);
+        tree = new WordBkTree();
+        words.forEach(tree::add);
+
+        Random random = new Random(wordCount);
+        searchKeys = new String[SEARCH_KEY_COUNT];
+        for (int i = 0; i < SEARCH_KEY_COUNT; i++) {
+            searchKeys[i] = i % 2 == 0
+                    ? BenchmarkDataUtil.mutate(random, words.get(random.nextInt(wordCount)), 1)
+                    : BenchmarkDataUtil.randomName(random);
+        }
+    }
+
+    /**
+     * Returns the total number of words found for the search keys, searching the tree on one thread.
+     */
+    @Benchmark
+    public int searchTree() {
+        tree.setParallelThreshold(Integer.MAX_VALUE);
+        return search();
+    }
+
+    /**
+     * Returns the total number of words found for the search keys, searching the tree on the common fork-join pool.
+     */
+    @Benchmark
+    public int searchTreeInParallel() {
+        tree.setParallelThreshold(0);
+        return search();
+    }
+
+    /**
+     * Returns the total number of words within one edit of the search keys, searching the tree on one thread.
+     * This shows how much of the time of {@link #searchTree} goes to the wider searches of keys with no close word.
+     */
+    @Benchmark
+    public int searchTreeWithinOne() {
+        tree.setParallelThreshold(Integer.MAX_VALUE);
+        int[] found = new int[1];
+        for (String searchKey : searchKeys) {
+            tree.forEachWithin(searchKey, 1, (word, distance) -> found[0]++);
+        }
+        return found[0];
+    }
+
+    /**
+     * Returns the total number of words found for the search keys, working out the full distance to every word.
+     */
+    @Benchmark
+    public int scanWords() {
+        int found = 0;
+        int[] distances = new int[wordCount];
+        for (String searchKey : searchKeys) {
+            int closestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < wordCount; i++) {
+                distances[i] = FullMatrixLevenshteinDistance.levenshteinDistance(searchKey, words.get(i));
+                closestDistance = Math.min(closestDistance, distances[i]);
+            }
+            for (int distance : distances) {
+                if (distance <= closestDistance + 1) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the total number of words found for the search keys, searching the tree.
+     */
+    private int search() {
+        int[] found = new int[1];
+        for (String searchKey : searchKeys) {
+            int closestDistance = tree.closestDistance(searchKey);
+            tree.forEachWithin(searchKey, closestDistance + 1, (word, distance) -> found[0]++);
+        }
+        return found[0];
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.BenchmarkDataUtil;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares loading a large data file saved as unformatted xml with loading it saved in the binary format.
+ * The size of the data file in each format is printed when the benchmark ends.
+ *
+ * Loading ends by building the address book and its indexes from the persons read, which costs the same in both
+ * formats, so that step is also timed on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DataFileFormatBenchmark {
+    @Param({"100000"})
+    private int personCount;
+
+    @Param({"xml", "binary"})
+    private String format;
+
+    private List<Person> persons;
+    private Path directory;
+    private XmlAddressBookStorage storage;
+
+    /**
+     * Saves the persons to a data file in the format being benchmarked.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        persons = BenchmarkDataUtil.persons(personCount);
+        directory = Files.createTempDirectory("benchmark");
+        storage = new XmlAddressBookStorage(directory.resolve("addressbook.xml"), false, format.equals("binary"));
+        storage.saveAddressBook(BenchmarkDataUtil.addressBookOf(persons));
+    }
+
+    /**
+     * Prints the size of the data file and deletes it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Path filePath = storage.getAddressBookFilePath();
+        System.out.println(String.format("%n%s data file of %d persons: %d bytes", format, personCount,
+                Files.size(filePath)));
+        Files.delete(filePath);
+        Files.delete(directory);
+    }
+
+    /**
+     * Reads the data file into an address book.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataConversionException, IOException {
+        return storage.readAddressBook().get();
+    }
+
+    /**
+     * Builds the address book from persons that were already read, as both formats do at the end of loading.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook buildAddressBook() {
+        return BenchmarkDataUtil.addressBookOf(persons);
+    }
+}
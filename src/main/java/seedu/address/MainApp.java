@@ -30,8 +30,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedAddressBook;
+import seedu.address.model.util.FootprintUtil;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -66,12 +69,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        XmlAddressBookStorage dataFileStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isDataFileFormatted(), config.isDataFileBinary());
+        AddressBookStorage addressBookStorage = config.getAddressBookJournalLimitBytes() > 0
+                ? new JournaledAddressBookStorage(dataFileStorage, config.getAddressBookJournalLimitBytes())
+                : dataFileStorage;
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getMaxSaveStalenessMillis(),
+                Platform::runLater);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, config);
 
         logic = new LogicManager(model);
 
@@ -85,7 +93,7 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, UserPrefs userPrefs, Config config) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -102,7 +110,14 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        logger.info(FootprintUtil.describe(initialData.getPersonList()));
+        VersionedAddressBook.HistoryMode undoHistoryMode = config.isUndoHistorySnapshotted()
+                ? VersionedAddressBook.HistoryMode.SNAPSHOTS
+                : VersionedAddressBook.HistoryMode.OPERATIONS;
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, undoHistoryMode,
+                config.getUndoHistoryLimitBytes());
+        modelManager.setParallelSearchThreshold(config.getParallelSearchThreshold());
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -213,6 +228,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.stopAddressBookSaver();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
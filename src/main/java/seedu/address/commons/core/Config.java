@@ -16,6 +16,13 @@ public class Config {
     private String appTitle = "CorpProC";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long maxSaveStalenessMillis = 500;
+    private long addressBookJournalLimitBytes = 1024 * 1024;
+    private boolean isDataFileFormatted = true;
+    private boolean isDataFileBinary = false;
+    private long undoHistoryLimitBytes = 16 * 1024 * 1024;
+    private boolean isUndoHistorySnapshotted = false;
+    private int parallelSearchThreshold = 10000;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +48,90 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the longest time, in milliseconds, that an address book change may wait before it is saved.
+     * Changes made within this window are saved together. 0 saves every change immediately.
+     */
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    /**
+     * Returns the size, in bytes, that the address book journal may grow to before it is folded into the data file.
+     * 0 disables the journal, so that every save rewrites the whole data file.
+     */
+    public long getAddressBookJournalLimitBytes() {
+        return addressBookJournalLimitBytes;
+    }
+
+    public void setAddressBookJournalLimitBytes(long addressBookJournalLimitBytes) {
+        this.addressBookJournalLimitBytes = addressBookJournalLimitBytes;
+    }
+
+    /**
+     * Returns true if the address book data file is indented for readability.
+     * An unformatted data file is smaller and faster to write.
+     */
+    public boolean isDataFileFormatted() {
+        return isDataFileFormatted;
+    }
+
+    public void setDataFileFormatted(boolean isDataFileFormatted) {
+        this.isDataFileFormatted = isDataFileFormatted;
+    }
+
+    /**
+     * Returns true if the address book data file is saved in the compact binary format instead of xml.
+     * Data files in either format can always be read.
+     */
+    public boolean isDataFileBinary() {
+        return isDataFileBinary;
+    }
+
+    public void setDataFileBinary(boolean isDataFileBinary) {
+        this.isDataFileBinary = isDataFileBinary;
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, that the undo history may take up before its oldest commands are
+     * forgotten. The last command can always be undone.
+     */
+    public long getUndoHistoryLimitBytes() {
+        return undoHistoryLimitBytes;
+    }
+
+    public void setUndoHistoryLimitBytes(long undoHistoryLimitBytes) {
+        this.undoHistoryLimitBytes = undoHistoryLimitBytes;
+    }
+
+    /**
+     * Returns true if the undo history saves the state of the address book after each command, sharing the unchanged
+     * persons between states, instead of recording the changes made by each command.
+     */
+    public boolean isUndoHistorySnapshotted() {
+        return isUndoHistorySnapshotted;
+    }
+
+    public void setUndoHistorySnapshotted(boolean isUndoHistorySnapshotted) {
+        this.isUndoHistorySnapshotted = isUndoHistorySnapshotted;
+    }
+
+    /**
+     * Returns the number of distinct words that a field of the persons must have for {@code find} to search its
+     * words in parallel. Smaller fields are searched on one thread, as splitting them up costs more than it saves.
+     */
+    public int getParallelSearchThreshold() {
+        return parallelSearchThreshold;
+    }
+
+    public void setParallelSearchThreshold(int parallelSearchThreshold) {
+        this.parallelSearchThreshold = parallelSearchThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +145,21 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && maxSaveStalenessMillis == o.maxSaveStalenessMillis
+                && addressBookJournalLimitBytes == o.addressBookJournalLimitBytes
+                && isDataFileFormatted == o.isDataFileFormatted
+                && isDataFileBinary == o.isDataFileBinary
+                && undoHistoryLimitBytes == o.undoHistoryLimitBytes
+                && isUndoHistorySnapshotted == o.isUndoHistorySnapshotted
+                && parallelSearchThreshold == o.parallelSearchThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, maxSaveStalenessMillis,
+                addressBookJournalLimitBytes, isDataFileFormatted, isDataFileBinary, undoHistoryLimitBytes,
+                isUndoHistorySnapshotted, parallelSearchThreshold);
     }
 
     @Override
@@ -68,6 +168,13 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMax save staleness (ms) : " + maxSaveStalenessMillis);
+        sb.append("\nAddress book journal limit (bytes) : " + addressBookJournalLimitBytes);
+        sb.append("\nFormatted data file : " + isDataFileFormatted);
+        sb.append("\nBinary data file : " + isDataFileBinary);
+        sb.append("\nUndo history limit (bytes) : " + undoHistoryLimitBytes);
+        sb.append("\nSnapshot undo history : " + isUndoHistorySnapshotted);
+        sb.append("\nParallel search threshold (words) : " + parallelSearchThreshold);
         return sb.toString();
     }
 
@@ -1,19 +1,35 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
-/** Indicates the AddressBook in the model has changed*/
+/**
+ * Indicates the AddressBook in the model has changed.
+ * Subscribers can apply {@code changes} to bring their view of the previous {@code version} up to date, or rebuild
+ * from {@code data}, which is always the whole new version.
+ */
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    public final long version;
+    public final AddressBookChanges changes;
 
+    /**
+     * Creates an event that tells subscribers to rebuild from {@code data}.
+     */
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, 0, AddressBookChanges.fullReload());
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, long version, AddressBookChanges changes) {
         this.data = data;
+        this.version = version;
+        this.changes = changes;
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getPersonList().size();
+        return "version " + version + ", " + changes + ", number of persons " + data.getPersonList().size();
     }
 }
@@ -0,0 +1,14 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates a request to write all pending address book changes to the hard disk before continuing
+ */
+public class AddressBookFlushRequestEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one instance among equal immutable values, so that a value repeated many times takes memory only once.
+ *
+ * The shared instances are only weakly held, so a value that is no longer used anywhere else can still be garbage
+ * collected. Safe for use by several threads at once.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the shared instance that equals {@code value}, making {@code value} the shared instance if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance != null) {
+            return instance;
+        }
+        instances.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of shared instances that are still in use.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
@@ -2,58 +2,231 @@
 package seedu.address.commons.util;
 
 /**
- * Solution below adapted from:
- * https://en.wikibooks.org/wiki/Algorithm_Implementation/Strings/Levenshtein_distance#Java
- * Computes levenshteinDistance from strings
+ * Computes the edit distance between strings.
+ *
+ * The bounded variants take a maximum distance {@code k} and return {@code k + 1} for any larger distance. They only
+ * fill the diagonal band of the distance matrix that can hold a distance of at most {@code k} (Ukkonen), and stop as
+ * soon as a whole row of the band is over {@code k}, which must not be negative. Strings of up to
+ * {@value #MAX_BIT_PARALLEL_LENGTH} characters are compared one text character at a time with the pattern held in
+ * the bits of a {@code long} (Myers).
+ * The rows of the matrix are kept in buffers that are reused by each thread, so no call allocates.
  */
-public interface LevenshteinDistanceUtil {
+public class LevenshteinDistanceUtil {
+    /** The length of the longest string that fits in the bits of a {@code long} for the bit-parallel distance. */
+    public static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+
+    /** The number of characters with a bit mask in the lookup table of the bit-parallel distance. */
+    private static final int MASK_TABLE_SIZE = 256;
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
     /**
      * Computes levenshteinDistance from strings
      */
-    static int levenshteinDistance (CharSequence lhs, CharSequence rhs) {
-        int len0 = lhs.length() + 1;
-        int len1 = rhs.length() + 1;
-
-        // the array of distances
-        int[] cost = new int[len0];
-        int[] newcost = new int[len0];
+    public static int levenshteinDistance(CharSequence lhs, CharSequence rhs) {
+        return levenshteinDistance(lhs, rhs, Math.max(lhs.length(), rhs.length()));
+    }
 
-        // initial cost of skipping prefix in String s0
-        for (int i = 0; i < len0; i++) {
-            cost[i] = i;
+    /**
+     * Returns the Levenshtein distance between {@code lhs} and {@code rhs}, or {@code maxDistance + 1} if it is more
+     * than {@code maxDistance}.
+     * Uses the bit-parallel distance if the shorter string is short enough, and the banded distance otherwise.
+     */
+    public static int levenshteinDistance(CharSequence lhs, CharSequence rhs, int maxDistance) {
+        if (Math.min(lhs.length(), rhs.length()) <= MAX_BIT_PARALLEL_LENGTH) {
+            return bitParallelDistance(lhs, rhs, maxDistance);
         }
+        return bandedDistance(lhs, rhs, maxDistance, false);
+    }
 
-        // dynamically computing the array of distances
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code lhs} and {@code rhs}, which also counts swapping two
+     * adjacent characters as one edit, or {@code maxDistance + 1} if it is more than {@code maxDistance}.
+     * A swapped pair is not edited again (the optimal string alignment distance), so unlike the Levenshtein distance
+     * this does not obey the triangle inequality.
+     */
+    public static int damerauLevenshteinDistance(CharSequence lhs, CharSequence rhs, int maxDistance) {
+        return bandedDistance(lhs, rhs, maxDistance, true);
+    }
 
-        // transformation cost for each letter in s1
-        for (int j = 1; j < len1; j++) {
-            // initial cost of skipping prefix in String s1
-            newcost[0] = j;
+    /**
+     * Returns the Levenshtein distance between {@code lhs} and {@code rhs}, or {@code maxDistance + 1} if it is more
+     * than {@code maxDistance}, filling only the band of the distance matrix within {@code maxDistance} of its
+     * diagonal. Swapping two adjacent characters counts as one edit if {@code allowTranspositions} is true.
+     */
+    public static int bandedDistance(CharSequence lhs, CharSequence rhs, int maxDistance,
+                                     boolean allowTranspositions) {
+        // The columns are the characters of the shorter string, so that the rows are as short as possible.
+        CharSequence pattern = lhs.length() <= rhs.length() ? lhs : rhs;
+        CharSequence text = pattern == lhs ? rhs : lhs;
+        int start = 0;
+        int patternEnd = pattern.length();
+        int textEnd = text.length();
+        if (!allowTranspositions) {
+            // Characters that both strings start or end with never need an edit.
+            while (start < patternEnd && pattern.charAt(start) == text.charAt(start)) {
+                start++;
+            }
+            while (patternEnd > start && pattern.charAt(patternEnd - 1) == text.charAt(textEnd - 1)) {
+                patternEnd--;
+                textEnd--;
+            }
+        }
+        int m = patternEnd - start;
+        int n = textEnd - start;
+        int limit = Math.min(maxDistance, n);
+        if (n - m > limit) {
+            return maxDistance + 1;
+        }
+        if (m == 0) {
+            return n;
+        }
 
-            // transformation cost for each letter in s0
-            for (int i = 1; i < len0; i++) {
-                // matching current letters in both strings
-                int match = (lhs.charAt(i - 1) == rhs.charAt(j - 1)) ? 0 : 1;
+        int tooFar = limit + 1;
+        Buffers buffers = BUFFERS.get();
+        buffers.ensureRowCapacity(m + 1);
+        int[] previous = buffers.previous;
+        int[] current = buffers.current;
+        int[] beforePrevious = buffers.beforePrevious;
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= limit ? j : tooFar;
+        }
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - limit);
+            int to = Math.min(m, i + limit);
+            current[from - 1] = from == 1 && i <= limit ? i : tooFar;
+            int rowMinimum = current[from - 1];
+            char textChar = text.charAt(start + i - 1);
+            for (int j = from; j <= to; j++) {
+                char patternChar = pattern.charAt(start + j - 1);
+                int distance = previous[j - 1] + (patternChar == textChar ? 0 : 1);
+                distance = Math.min(distance, previous[j] + 1);
+                distance = Math.min(distance, current[j - 1] + 1);
+                if (allowTranspositions && i > 1 && j > 1 && patternChar == text.charAt(start + i - 2)
+                        && pattern.charAt(start + j - 2) == textChar) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = Math.min(distance, tooFar);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < m) {
+                // The next row reads one column past this row's band.
+                current[to + 1] = tooFar;
+            }
+            if (rowMinimum > limit) {
+                return maxDistance + 1;
+            }
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m] > limit ? maxDistance + 1 : previous[m];
+    }
 
-                // computing cost for each transformation
-                int costReplace = cost[i - 1] + match;
-                int costInsert = cost[i] + 1;
-                int costDelete = newcost[i - 1] + 1;
+    /**
+     * Returns the Levenshtein distance between {@code lhs} and {@code rhs}, or {@code maxDistance + 1} if it is more
+     * than {@code maxDistance}, with the shorter string, which must have at most {@value #MAX_BIT_PARALLEL_LENGTH}
+     * characters, held as bit vectors, so each character of the longer string takes a few word operations.
+     * Stops once the distance so far is too far above {@code maxDistance} for the characters left to bring it back.
+     */
+    public static int bitParallelDistance(CharSequence lhs, CharSequence rhs, int maxDistance) {
+        CharSequence pattern = lhs.length() <= rhs.length() ? lhs : rhs;
+        CharSequence text = pattern == lhs ? rhs : lhs;
+        int m = pattern.length();
+        int n = text.length();
+        if (m > MAX_BIT_PARALLEL_LENGTH) {
+            throw new IllegalArgumentException("Both strings are longer than " + MAX_BIT_PARALLEL_LENGTH);
+        }
+        if (n - m > maxDistance) {
+            return maxDistance + 1;
+        }
+        if (m == 0) {
+            return n;
+        }
 
-                // keep minimum cost
-                newcost[i] = Math.min(Math.min(costInsert, costDelete), costReplace);
+        long[] masks = BUFFERS.get().masks;
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(i);
+            if (c < MASK_TABLE_SIZE) {
+                masks[c] |= 1L << i;
             }
-
-            // swap cost/newcost arrays
-            int[] swap = cost;
-            cost = newcost;
-            newcost = swap;
         }
+        long lastBit = 1L << (m - 1);
+        long positiveVertical = -1L;
+        long negativeVertical = 0L;
+        int distance = m;
+        int result = -1;
+        for (int i = 0; i < n && result < 0; i++) {
+            long equal = matchMask(pattern, text.charAt(i), masks);
+            long crossVertical = equal | negativeVertical;
+            long crossHorizontal = (((equal & positiveVertical) + positiveVertical) ^ positiveVertical) | equal;
+            long positiveHorizontal = negativeVertical | ~(crossHorizontal | positiveVertical);
+            long negativeHorizontal = positiveVertical & crossHorizontal;
+            if ((positiveHorizontal & lastBit) != 0) {
+                distance++;
+            } else if ((negativeHorizontal & lastBit) != 0) {
+                distance--;
+            }
+            if (distance - (n - i - 1) > maxDistance) {
+                // Each character left can lower the distance by at most one.
+                result = maxDistance + 1;
+            }
+            positiveHorizontal = (positiveHorizontal << 1) | 1L;
+            negativeHorizontal <<= 1;
+            positiveVertical = negativeHorizontal | ~(crossVertical | positiveHorizontal);
+            negativeVertical = positiveHorizontal & crossVertical;
+        }
+        for (int i = 0; i < m; i++) {
+            char c = pattern.charAt(i);
+            if (c < MASK_TABLE_SIZE) {
+                masks[c] = 0L;
+            }
+        }
+        if (result >= 0) {
+            return result;
+        }
+        return distance > maxDistance ? maxDistance + 1 : distance;
+    }
 
-        // the distance is the cost for transforming all letters in both strings
-        return cost[len0 - 1];
+    /**
+     * Returns the bits of the positions in {@code pattern} that hold {@code c}, from the lookup table
+     * {@code masks} if {@code c} has an entry in it.
+     */
+    private static long matchMask(CharSequence pattern, char c, long[] masks) {
+        if (c < MASK_TABLE_SIZE) {
+            return masks[c];
+        }
+        long mask = 0L;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == c) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
     }
 
-}
+    /**
+     * The rows of the distance matrix and the bit masks of the pattern, reused across the calls of one thread.
+     */
+    private static class Buffers {
+        private static final int INITIAL_ROW_CAPACITY = 32;
 
+        private int[] previous = new int[INITIAL_ROW_CAPACITY];
+        private int[] current = new int[INITIAL_ROW_CAPACITY];
+        private int[] beforePrevious = new int[INITIAL_ROW_CAPACITY];
+        private final long[] masks = new long[MASK_TABLE_SIZE];
 
+        /**
+         * Makes each row hold at least {@code capacity} columns.
+         */
+        void ensureRowCapacity(int capacity) {
+            if (previous.length < capacity) {
+                int newCapacity = Math.max(capacity, previous.length * 2);
+                previous = new int[newCapacity];
+                current = new int[newCapacity];
+                beforePrevious = new int[newCapacity];
+            }
+        }
+    }
+}
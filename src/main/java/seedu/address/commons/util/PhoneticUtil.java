@@ -0,0 +1,321 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/**
+ * Encodes words by how they sound, so that names that are spelt differently but sound alike, such as "Catherine" and
+ * "Kathryn", have a code in common.
+ *
+ * The encoding follows the main rules of Double Metaphone for English names: vowels after the first letter are
+ * dropped, letters that sound the same share a code, silent letters are skipped, and each word has a primary code
+ * and an alternate code for spellings that can be said two ways, such as the "ch" of "Charles" and "Christine" or the
+ * "th" of "Thomas" and "Catherine". Codes are at most {@value #MAX_CODE_LENGTH} characters long.
+ */
+public class PhoneticUtil {
+    public static final int MAX_CODE_LENGTH = 4;
+
+    private static final String VOWELS = "AEIOUY";
+
+    /**
+     * Returns the codes of {@code word}: its primary code, followed by its alternate code if that differs.
+     * A word without letters has no codes.
+     */
+    public static String[] encode(String word) {
+        requireNonNull(word);
+        String letters = toLetters(word);
+        if (letters.isEmpty()) {
+            return new String[0];
+        }
+        Encoding encoding = new Encoding(letters);
+        encoding.run();
+        String primary = encoding.primary.toString();
+        String alternate = encoding.alternate.toString();
+        return primary.equals(alternate) ? new String[] {primary} : new String[] {primary, alternate};
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} have a code in common.
+     */
+    public static boolean soundsLike(String first, String second) {
+        for (String firstCode : encode(first)) {
+            for (String secondCode : encode(second)) {
+                if (firstCode.equals(secondCode)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the letters of {@code word} in upper case, without any other characters.
+     */
+    private static String toLetters(String word) {
+        StringBuilder letters = new StringBuilder(word.length());
+        for (char c : word.toUpperCase(Locale.ROOT).toCharArray()) {
+            if (c >= 'A' && c <= 'Z') {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    /**
+     * The encoding of one word, which reads the letters from left to right and appends to both codes.
+     */
+    private static class Encoding {
+        private final String letters;
+        private final StringBuilder primary = new StringBuilder();
+        private final StringBuilder alternate = new StringBuilder();
+        private int position;
+
+        Encoding(String letters) {
+            this.letters = letters;
+        }
+
+        /**
+         * Encodes the letters until both codes are full or the letters run out.
+         */
+        void run() {
+            skipSilentStart();
+            while (position < letters.length()
+                    && (primary.length() < MAX_CODE_LENGTH || alternate.length() < MAX_CODE_LENGTH)) {
+                encodeLetter(letters.charAt(position));
+            }
+            primary.setLength(Math.min(primary.length(), MAX_CODE_LENGTH));
+            alternate.setLength(Math.min(alternate.length(), MAX_CODE_LENGTH));
+        }
+
+        /**
+         * Skips the silent first letter of a word that starts with "GN", "KN", "PN", "PS" or "WR".
+         */
+        private void skipSilentStart() {
+            if (startsWith(0, "GN", "KN", "PN", "PS", "WR")) {
+                position = 1;
+            }
+        }
+
+        /**
+         * Appends the sound of the letter {@code c} at the current position, and moves past the letters it uses.
+         */
+        private void encodeLetter(char c) {
+            if (isVowel(position)) {
+                if (position == 0) {
+                    add("A");
+                }
+                position++;
+                return;
+            }
+            switch (c) {
+            case 'B':
+                // The "b" of a final "mb", as in "Lamb", is silent.
+                if (!(position == letters.length() - 1 && charAt(position - 1) == 'M')) {
+                    add("P");
+                }
+                skipDouble();
+                break;
+            case 'C':
+                encodeC();
+                break;
+            case 'D':
+                if (startsWith(position, "DGE", "DGI", "DGY")) {
+                    add("J");
+                    position += 3;
+                } else {
+                    add("T");
+                    position += startsWith(position, "DT", "DD") ? 2 : 1;
+                }
+                break;
+            case 'G':
+                encodeG();
+                break;
+            case 'H':
+                // "h" is only heard before a vowel, at the start of a word or after a vowel.
+                if ((position == 0 || isVowel(position - 1)) && isVowel(position + 1)) {
+                    add("H");
+                }
+                position++;
+                break;
+            case 'K':
+                add("K");
+                skipDouble();
+                break;
+            case 'P':
+                if (charAt(position + 1) == 'H') {
+                    add("F");
+                    position += 2;
+                } else {
+                    add("P");
+                    position += startsWith(position, "PP", "PB") ? 2 : 1;
+                }
+                break;
+            case 'Q':
+                add("K");
+                skipDouble();
+                break;
+            case 'S':
+                encodeS();
+                break;
+            case 'T':
+                encodeT();
+                break;
+            case 'V':
+                add("F");
+                skipDouble();
+                break;
+            case 'W':
+                // "w" is only heard at the start of a word before a vowel, as a vowel or as an "f" in German.
+                if (position == 0 && isVowel(1)) {
+                    add("A", "F");
+                }
+                position++;
+                break;
+            case 'X':
+                add(position == 0 ? "S" : "KS");
+                position += startsWith(position, "XX") ? 2 : 1;
+                break;
+            case 'Z':
+                add("S");
+                skipDouble();
+                break;
+            default:
+                // F, J, L, M, N and R sound as they are written.
+                add(String.valueOf(c));
+                skipDouble();
+                break;
+            }
+        }
+
+        /**
+         * Encodes a "c", which sounds as "k", "s" or "ch".
+         */
+        private void encodeC() {
+            if (startsWith(position, "CIA")) {
+                add("X");
+                position += 3;
+            } else if (startsWith(position, "CH")) {
+                // As in "Charles", or as in "Christine" and "Michael".
+                if (position == 0 && !startsWith(position, "CHR", "CHL")) {
+                    add("X", "K");
+                } else {
+                    add("K", "X");
+                }
+                position += 2;
+            } else if (startsWith(position, "CI", "CE", "CY")) {
+                add("S");
+                position += 2;
+            } else {
+                add("K");
+                position += startsWith(position, "CK", "CC", "CQ", "CG") ? 2 : 1;
+            }
+        }
+
+        /**
+         * Encodes a "g", which sounds as "g" or "j", or is silent before "h" or "n".
+         */
+        private void encodeG() {
+            if (charAt(position + 1) == 'H') {
+                // As in "Ghislaine", or silent as in "Hugh" and "Knight" unless a vowel follows, as in "Meghan".
+                if (position == 0 || isVowel(position + 2)) {
+                    add("K");
+                }
+                position += 2;
+            } else if (charAt(position + 1) == 'N' && (position + 2 == letters.length()
+                    || startsWith(position + 2, "ED") && position + 4 == letters.length())) {
+                // A final "gn" or "gned", as in "Sign" and "Signed".
+                position++;
+            } else if (startsWith(position + 1, "E", "I", "Y")) {
+                add("J", "K");
+                position += 2;
+            } else {
+                add("K");
+                skipDouble();
+            }
+        }
+
+        /**
+         * Encodes an "s", which sounds as "s" or "sh".
+         */
+        private void encodeS() {
+            if (startsWith(position, "SCH")) {
+                // As in "Schmidt", which is also said with a "sk".
+                add("X", "SK");
+                position += 3;
+            } else if (startsWith(position, "SH") || startsWith(position, "SIO", "SIA")) {
+                add("X");
+                position += startsWith(position, "SH") ? 2 : 3;
+            } else if (position == 0 && startsWith(position + 1, "M", "N", "L", "W")) {
+                // As in "Smith", which is also a spelling of the German "Schmidt".
+                add("S", "X");
+                position++;
+            } else {
+                add("S");
+                skipDouble();
+            }
+        }
+
+        /**
+         * Encodes a "t", which sounds as "t", "th" or "sh".
+         */
+        private void encodeT() {
+            if (startsWith(position, "TIA", "TIO")) {
+                add("X");
+                position += 3;
+            } else if (startsWith(position, "TH")) {
+                // As in "Catherine", which is also said as in "Thomas".
+                add("0", "T");
+                position += 2;
+            } else if (startsWith(position, "TCH")) {
+                position++;
+            } else {
+                add("T");
+                position += startsWith(position, "TT", "TD") ? 2 : 1;
+            }
+        }
+
+        /**
+         * Moves past the letter at the current position, and past the next letter too if it is the same letter.
+         */
+        private void skipDouble() {
+            char c = letters.charAt(position);
+            position++;
+            if (charAt(position) == c) {
+                position++;
+            }
+        }
+
+        private void add(String sound) {
+            add(sound, sound);
+        }
+
+        private void add(String primarySound, String alternateSound) {
+            primary.append(primarySound);
+            alternate.append(alternateSound);
+        }
+
+        private boolean isVowel(int index) {
+            return index >= 0 && index < letters.length() && VOWELS.indexOf(letters.charAt(index)) >= 0;
+        }
+
+        /**
+         * Returns the letter at {@code index}, or a space if there is no such letter.
+         */
+        private char charAt(int index) {
+            return index >= 0 && index < letters.length() ? letters.charAt(index) : ' ';
+        }
+
+        /**
+         * Returns true if the letters from {@code index} start with any of {@code prefixes}.
+         */
+        private boolean startsWith(int index, String... prefixes) {
+            for (String prefix : prefixes) {
+                if (index >= 0 && letters.startsWith(prefix, index)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.StringTokenizer;
 
 import seedu.address.commons.core.index.Index;
@@ -49,6 +51,47 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence}, separated by whitespace.
+     *   <br>examples:<pre>
+     *       toWords("ABc  def") == {"ABc", "def"}
+     *       toWords("  ") == {}
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static String[] toWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isBoundary = i == sentence.length() || Character.isWhitespace(sentence.charAt(i));
+            if (isBoundary && start >= 0) {
+                words.add(sentence.substring(start, i));
+                start = -1;
+            } else if (!isBoundary && start < 0) {
+                start = i;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the words of {@code sentence}, separated by whitespace, in lower case.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords("ABc  def") == {"abc", "def"}
+     *       toLowerCaseWords("  ") == {}
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        String[] words = toWords(sentence);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].toLowerCase(Locale.ROOT);
+        }
+        return words;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -5,6 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +16,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is expensive, so one is created per class and reused. Marshallers and unmarshallers
+ * are not thread-safe, so each thread keeps its own.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,10 +48,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        return ((T) getUnmarshaller(classToConvert).unmarshal(file.toFile()));
     }
 
     /**
@@ -53,6 +61,17 @@ public class XmlUtil {
      *                               into xml and writing to the file.
      */
     public static <T> void saveDataToFile(Path file, T data) throws FileNotFoundException, JAXBException {
+        saveDataToFile(file, data, true);
+    }
+
+    /**
+     * Saves the data in the file in xml format.
+     *
+     * @param isFormatted Whether the xml is indented for readability. Unformatted xml is smaller and faster to write.
+     * @see #saveDataToFile(Path, Object)
+     */
+    public static <T> void saveDataToFile(Path file, T data, boolean isFormatted)
+            throws FileNotFoundException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -61,11 +80,46 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass());
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormatted);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns the context for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's marshaller for {@code type}.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Marshaller marshaller = marshallers.get().get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshallers.get().put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns this thread's unmarshaller for {@code type}.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.get().get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            unmarshallers.get().put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
 }
@@ -1,8 +1,6 @@
 package seedu.address.logic;
 
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.TreeMap;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
@@ -31,8 +29,8 @@ public interface Logic {
     ListElementPointer getHistorySnapshot();
 
     //@@author LowGinWee
-    /** @return the TreeMap of the Schedule */
-    TreeMap<Date, ArrayList<Activity>> getSchedule();
+    /** Returns an unmodifiable view of the activities in the schedule, sorted by date */
+    ObservableList<Activity> getActivityList();
 
     //@@author lekoook
     /**
@@ -1,8 +1,6 @@
 package seedu.address.logic;
 
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -67,8 +65,8 @@ public class LogicManager extends ComponentManager implements Logic {
 
     //@@author LowGinWee
     @Override
-    public TreeMap<Date, ArrayList<Activity>> getSchedule() {
-        return model.getSchedule();
+    public ObservableList<Activity> getActivityList() {
+        return model.getActivityList();
     }
 
     //@@author lekoook
@@ -30,9 +30,14 @@ public class ClearCommand extends Command {
             throw new CommandException(FileEncryptor.MESSAGE_ADDRESS_BOOK_LOCKED);
         }
 
-        model.resetData(new AddressBook());
-        model.commitAddressBook();
-        model.clearInPrediction();
+        model.startBatch();
+        try {
+            model.resetData(new AddressBook());
+            model.commitAddressBook();
+            model.clearInPrediction();
+        } finally {
+            model.endBatch();
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -55,11 +55,16 @@ public class DeleteCommand extends Command {
             listOfPersonsToDelete.add(lastShownList.get(index.getZeroBased()));
         }
 
-        for (Person personToDelete : listOfPersonsToDelete) {
-            model.deletePerson(personToDelete);
-            model.removePersonFromPrediction(personToDelete);
+        model.startBatch();
+        try {
+            for (Person personToDelete : listOfPersonsToDelete) {
+                model.deletePersonById(personToDelete.getId());
+                model.removePersonFromPrediction(personToDelete);
+            }
+            model.commitAddressBook();
+        } finally {
+            model.endBatch();
         }
-        model.commitAddressBook();
 
         return new CommandResult(buildMessage(listOfPersonsToDelete));
     }
@@ -123,19 +123,24 @@ public class EditCommand extends Command {
         for (Person person : lastShownList) {
             personsToCopy.add(person);
         }
-        for (Person personToEdit : personsToCopy) {
-            Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+        model.startBatch();
+        try {
+            for (Person personToEdit : personsToCopy) {
+                Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-            if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+                if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+                    throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+                }
+
+                model.updatePersonById(personToEdit.getId(), editedPerson);
+                model.editPersonInPrediction(personToEdit, editedPerson);
             }
 
-            model.updatePerson(personToEdit, editedPerson);
-            model.editPersonInPrediction(personToEdit, editedPerson);
+            model.commitAddressBook();
+        } finally {
+            model.endBatch();
         }
 
-        model.commitAddressBook();
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_ALL_SUCCESS, personsToCopy.size()));
     }
@@ -156,7 +161,7 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        model.updatePerson(personToEdit, editedPerson);
+        model.updatePersonById(personToEdit.getId(), editedPerson);
 
         model.commitAddressBook();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -167,7 +172,7 @@ public class EditCommand extends Command {
 
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editPersonDescriptor}.
+     * edited with {@code editPersonDescriptor}. The edited person keeps the id of {@code personToEdit}.
      */
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
@@ -190,7 +195,7 @@ public class EditCommand extends Command {
         if (editPersonDescriptor.removeNote) {
             updatedNote = null;
         }
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress,
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
                 updatedPosition, updatedKpi, updatedNote, updatedTags);
     }
 
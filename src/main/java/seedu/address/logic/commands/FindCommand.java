@@ -3,18 +3,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_KPI;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,16 +26,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.ClosestMatchList;
-import seedu.address.model.person.EmailContainsKeywordsPredicate;
-import seedu.address.model.person.KpiContainsKeywordPredicate;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.NoteContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PhoneContainsKeywordPredicate;
-import seedu.address.model.person.PositionContainsKeywordsPredicate;
-import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.PersonLookupPredicate;
+import seedu.address.model.person.SearchableField;
 
 
 /**
@@ -51,6 +43,8 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords and displays them as a list with index numbers.\n"
             + "Parameters: PREFIX/KEYWORD [MORE_KEYWORDS]...\n"
+            + "Use " + PREFIX_SOUNDS_LIKE + " instead of " + PREFIX_NAME + " to find names that sound like the "
+            + "keywords.\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice bob charlie";
 
     private final Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
@@ -77,11 +71,7 @@ public class FindCommand extends Command {
         }
         requireNonNull(model);
 
-        Predicate<Person> combinedPredicate = PREDICATE_SHOW_ALL_PERSONS;
-
-        combinedPredicate = getPersonPredicate(model, combinedPredicate);
-
-        model.updateFilteredPersonList(combinedPredicate);
+        model.updateFilteredPersonList(getPersonPredicate(model));
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size())
@@ -96,48 +86,26 @@ public class FindCommand extends Command {
 
     /**
      * Gets the person's predicate based on attributes
+     * The persons with each attribute's approved keywords are looked up in the model's inverted index, which unions
+     * the persons of the keywords of an attribute and intersects the attributes, instead of testing every person.
+     * The lookup is kept in the predicate, so that it is run again when the persons change.
      * @param model current model
-     * @param combinedPredicate total combined predicate of all the conditions
-     * @return returns the total combinedPredicate
+     * @return returns the predicate of all the conditions
      */
-    private Predicate<Person> getPersonPredicate(Model model, Predicate<Person> combinedPredicate) {
+    private Predicate<Person> getPersonPredicate(Model model) {
+        List<Map<SearchableField, List<String>>> lookups = new ArrayList<>();
+        Map<SearchableField, List<String>> wordsByField = new EnumMap<>(SearchableField.class);
+        lookups.add(wordsByField);
         for (Prefix type : types) {
             ClosestMatchList closestMatch = new ClosestMatchList(model, type, prefixKeywordMap.get(type));
             List<String> approvedList = Arrays.asList(closestMatch.getApprovedList());
             List<String> keywordsForType = Arrays.asList(prefixKeywordMap.get(type));
 
-            if (type == PREFIX_PHONE) {
-                combinedPredicate = combinedPredicate.and(
-                        new PhoneContainsKeywordPredicate(approvedList)
-                );
-            } else if (type == PREFIX_NAME) {
-                combinedPredicate = combinedPredicate.and(
-                        new NameContainsKeywordsPredicate(approvedList)
-                );
-            } else if (type == PREFIX_ADDRESS) {
-                combinedPredicate = combinedPredicate.and(
-                        new AddressContainsKeywordsPredicate(approvedList)
-                );
-            } else if (type == PREFIX_EMAIL) {
-                combinedPredicate = combinedPredicate.and(
-                        new EmailContainsKeywordsPredicate(approvedList)
-                );
-            } else if (type == PREFIX_NOTE) {
-                combinedPredicate = combinedPredicate.and(
-                        new NoteContainsKeywordsPredicate(approvedList)
-                );
-            } else if (type == PREFIX_POSITION) {
-                combinedPredicate = combinedPredicate.and(
-                        new PositionContainsKeywordsPredicate(approvedList)
-                );
-            } else if (type == PREFIX_TAG) {
-                combinedPredicate = combinedPredicate.and(
-                        new TagContainsKeywordsPredicate(approvedList)
-                );
-            } else if (type == PREFIX_KPI) {
-                combinedPredicate = combinedPredicate.and(
-                        new KpiContainsKeywordPredicate(approvedList)
-                );
+            if (wordsByField.containsKey(closestMatch.getField())) {
+                // Names searched both by spelling and by sound must match both, so the second is looked up alone.
+                lookups.add(Collections.singletonMap(closestMatch.getField(), approvedList));
+            } else {
+                wordsByField.put(closestMatch.getField(), approvedList);
             }
 
             Set<String> approvedSet = new HashSet<>(
@@ -149,9 +117,21 @@ public class FindCommand extends Command {
             findActualMatches(approvedSet, keywordsForTypeSet);
 
         }
-        return combinedPredicate;
+        return new PersonLookupPredicate(() -> findPersons(model, lookups));
     }
 
+    /**
+     * Returns the persons found by every one of {@code lookups} in the model's inverted index.
+     */
+    private static List<Person> findPersons(Model model, List<Map<SearchableField, List<String>>> lookups) {
+        List<Person> persons = new ArrayList<>(model.findPersonsWithWords(lookups.get(0)));
+        for (Map<SearchableField, List<String>> lookup : lookups.subList(1, lookups.size())) {
+            Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            found.addAll(model.findPersonsWithWords(lookup));
+            persons.removeIf(person -> !found.contains(person));
+        }
+        return persons;
+    }
 
     /**
      * Determine the number of actual keyword matches
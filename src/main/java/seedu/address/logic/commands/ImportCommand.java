@@ -60,15 +60,20 @@ public class ImportCommand extends Command {
         try {
             CsvReader csvReader = new CsvReader(file);
             List<Person> personList = csvReader.convertToList();
-            for (Person toAdd : personList) {
-                try {
-                    model.addPerson(toAdd);
-                    model.insertPersonIntoPrediction(toAdd);
-                } catch (DuplicatePersonException dup) {
-                    logger.info(DUPLICATE_PERSON);
+            model.startBatch();
+            try {
+                for (Person toAdd : personList) {
+                    try {
+                        model.addPerson(toAdd);
+                        model.insertPersonIntoPrediction(toAdd);
+                    } catch (DuplicatePersonException dup) {
+                        logger.info(DUPLICATE_PERSON);
+                    }
                 }
+                model.commitAddressBook();
+            } finally {
+                model.endBatch();
             }
-            model.commitAddressBook();
             return new CommandResult(String.format(MESSAGE_SUCCESS, directory));
         } catch (IOException io) {
             throw new CommandException(CsvReader.WRONG_FORMAT);
@@ -3,7 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -15,7 +15,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
 import seedu.address.model.Model;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonLookupPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -78,10 +81,10 @@ public class ListCommand extends Command {
 
         switch(listType) {
         case TYPE_TAG:
-            predicateToUse = showTagsPredicate(inputTags);
+            predicateToUse = showTagsPredicate(model, inputTags);
             break;
         case TYPE_KPI:
-            predicateToUse = showKpiPredicate(predicatesList);
+            predicateToUse = showKpiPredicate(model, predicatesList);
             break;
         default:
             predicateToUse = PREDICATE_SHOW_ALL_PERSONS;
@@ -96,21 +99,35 @@ public class ListCommand extends Command {
     }
 
     /**
-     * Returns the Predicate that filters specified Tags.
+     * Returns the Predicate that filters specified Tags, looking up the persons with any of the Tags in the model's
+     * tag index whenever the persons change.
+     * @param model the model to look up persons in.
      * @param inputTags the Tags to filter.
      * @return the appropriate predicate.
      */
-    private Predicate<Person> showTagsPredicate(Set<Tag> inputTags) {
-        return p -> !Collections.disjoint(p.getTags(), inputTags);
+    private Predicate<Person> showTagsPredicate(Model model, Set<Tag> inputTags) {
+        return new PersonLookupPredicate(() -> model.getPersonsWithAnyTag(inputTags));
     }
 
     /**
-     * Returns the Predicate that filters specified KPI.
-     * @param predicatesList the list of KPI to filter.
+     * Returns the Predicate that filters specified KPI or KPI ranges, looking up the persons with each KPI in the
+     * model's index whenever the persons change.
+     * @param model the model to look up persons in.
+     * @param predicatesList the list of KPI and KPI ranges to filter.
      * @return the appropriate predicate.
      */
-    private Predicate<Person> showKpiPredicate(List<String> predicatesList) {
-        return p -> predicatesList.contains(p.getKpi().value);
+    private Predicate<Person> showKpiPredicate(Model model, List<String> predicatesList) {
+        return new PersonLookupPredicate(() -> {
+            List<Person> matches = new ArrayList<>();
+            for (String kpi : predicatesList) {
+                if (KpiRange.isValidKpiRange(kpi)) {
+                    matches.addAll(model.findPersonsWithKpiIn(new KpiRange(kpi)));
+                } else {
+                    matches.addAll(model.findPersons(PersonAttribute.KPI, kpi));
+                }
+            }
+            return matches;
+        });
     }
 
     @Override
@@ -15,6 +15,7 @@ import seedu.address.logic.util.MailInputUtil;
 import seedu.address.model.Model;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonLookupPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -103,7 +104,7 @@ public class MailCommand extends Command {
      */
     private ArrayList<Person> mailToGroups(Model model, Tag tag) throws CommandException {
         ArrayList<Person> list = new ArrayList<>(model.getFilteredPersonList());
-        list.removeIf(person -> !person.getTags().contains(tag));
+        list.removeIf(new PersonLookupPredicate(() -> model.getPersonsFromTag(tag)).negate());
         ArrayList<String> emailList = MailInputUtil.retrieveEmails(list);
         URI uriToMail = MailInputUtil.createUri(emailList);
         sendWithUri(uriToMail);
@@ -6,6 +6,8 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.util.Arrays;
 import java.util.function.Predicate;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.storage.AddressBookFlushRequestEvent;
 import seedu.address.commons.exceptions.FileEncryptorException;
 import seedu.address.commons.util.FileEncryptor;
 import seedu.address.logic.CommandHistory;
@@ -44,6 +46,8 @@ public class PasswordCommand extends Command {
     public CommandResult execute (Model model, CommandHistory history) throws CommandException {
 
         String message;
+        // Pending changes must reach the data file before it is encrypted, or they would recreate it afterwards
+        EventsCenter.getInstance().post(new AddressBookFlushRequestEvent());
         try {
             message = fe.process(this.password);
         } catch (FileEncryptorException fex) {
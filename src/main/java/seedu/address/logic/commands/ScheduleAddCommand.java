@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.COMMAND_SCHEDULE_ADD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import seedu.address.model.Model;
 import seedu.address.model.schedule.Activity;
@@ -15,11 +17,14 @@ import seedu.address.model.schedule.Activity;
 public class ScheduleAddCommand extends ScheduleCommand {
     public static final String COMMAND_WORD = COMMAND_SCHEDULE_ADD;
     public static final String MESSAGE_SUCCESS = "Task \"%s\" on %s has been added to your schedule.";
+    public static final String MESSAGE_RECURRING_SUCCESS = "Task \"%s\" from %s, repeating %s, has been added to "
+            + "your schedule.";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Adds a new task to your schedule.\n"
+            + ": Adds a new task to your schedule, optionally repeating daily, weekly or monthly until a date.\n"
             + "parameters: "
             + PREFIX_DATE + "DD/MM/YYYY "
-            + PREFIX_ACTIVITY + "task";
+            + PREFIX_ACTIVITY + "task "
+            + "[" + PREFIX_REPEAT + "daily|weekly|monthly " + PREFIX_UNTIL + "DD/MM/YYYY]";
     private final Activity toAdd;
 
     /**
@@ -33,9 +38,15 @@ public class ScheduleAddCommand extends ScheduleCommand {
     @Override
     public CommandResult updateSchedule(Model model) {
         model.addActivity(toAdd);
+        if (toAdd.isRecurring()) {
+            return new CommandResult(String.format(MESSAGE_RECURRING_SUCCESS,
+                    toAdd.getActivityName(),
+                    Activity.getDateString(toAdd.getLocalDate()),
+                    toAdd.getRecurrence().describe()));
+        }
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 toAdd.getActivityName(),
-                Activity.getDateString(toAdd.getDate())));
+                Activity.getDateString(toAdd.getLocalDate())));
     }
 
     @Override
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -20,6 +21,7 @@ public abstract class ScheduleCommand extends Command {
     //TODO to check for duplicates
     public static final String MESSAGE_DUPLICATE_TASK = "This task already exists in the schedule";
     public static final String MESSAGE_INVALID_INDEX = "Index is not valid";
+    public static final String MESSAGE_NOT_AN_OCCURRENCE = "Task \"%s\" does not happen on %s.";
 
     /**
      * Updates the schedule, add, edit or delete.
@@ -38,6 +40,17 @@ public abstract class ScheduleCommand extends Command {
         return activities.get(index.getZeroBased());
     }
 
+    /**
+     * Checks that {@code activity} is a repeating activity that happens on {@code date}.
+     * @throws CommandException if it does not repeat, or has no occurrence on {@code date}.
+     */
+    public void requireOccurrence(Activity activity, LocalDate date) throws CommandException {
+        if (!activity.isRecurring() || !activity.occursOn(date)) {
+            throw new CommandException(String.format(MESSAGE_NOT_AN_OCCURRENCE, activity.getActivityName(),
+                    Activity.getDateString(date)));
+        }
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
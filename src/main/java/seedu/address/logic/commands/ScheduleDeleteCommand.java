@@ -3,6 +3,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.COMMAND_SCHEDULE_DELETE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -11,36 +15,58 @@ import seedu.address.model.schedule.Activity;
 
 /**
  * Deletes an {@code Activity} to the schedule in the address book.
+ * Deleting one occurrence of a repeating activity cancels only that occurrence, which is kept as an exception to the
+ * recurrence.
  */
 public class ScheduleDeleteCommand extends ScheduleCommand {
     public static final String COMMAND_WORD = COMMAND_SCHEDULE_DELETE;
     public static final String MESSAGE_SUCCESS = "Task \"%s\" on %s has been deleted.";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes task, by index, from schedule.\n"
-            + "parameters: INDEX";
+            + ": Deletes task, by index, from schedule. "
+            + "For a repeating task, give a date to delete only the task on that date.\n"
+            + "parameters: INDEX [" + PREFIX_DATE + "DD/MM/YYYY]";
     private final Index index;
+    private final LocalDate occurrence;
 
     /**
      * Creates an ScheduleDeleteCommand to delete the specified {@code Activity}
      */
     public ScheduleDeleteCommand(Index index) {
+        this(index, null);
+    }
+
+    /**
+     * Creates an ScheduleDeleteCommand to delete the occurrence on {@code occurrence} of the specified repeating
+     * {@code Activity}, or the whole activity if {@code occurrence} is null.
+     */
+    public ScheduleDeleteCommand(Index index, LocalDate occurrence) {
         requireNonNull(index);
         this.index = index;
+        this.occurrence = occurrence;
     }
 
     @Override
     public CommandResult updateSchedule(Model model) throws CommandException {
         Activity toDelete = getActivityFromIndex(model, index);
+        if (occurrence != null) {
+            requireOccurrence(toDelete, occurrence);
+            model.updateActivity(toDelete, new Activity(toDelete.getLocalDate(), toDelete.getActivityName(),
+                    toDelete.getRecurrence().withCancelled(occurrence)));
+            return new CommandResult(String.format(MESSAGE_SUCCESS,
+                    toDelete.getRecurrence().getName(occurrence, toDelete.getActivityName()),
+                    Activity.getDateString(occurrence)));
+        }
         model.deleteActivity(toDelete);
         return new CommandResult(String.format(MESSAGE_SUCCESS,
                 toDelete.getActivityName(),
-                Activity.getDateString(toDelete.getDate())));
+                Activity.getDateString(toDelete.getLocalDate())));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ScheduleDeleteCommand// instanceof handles nulls
-                && index.equals(((ScheduleDeleteCommand) other).index));
+                && index.equals(((ScheduleDeleteCommand) other).index)
+                && Objects.equals(occurrence, ((ScheduleDeleteCommand) other).occurrence));
     }
 }
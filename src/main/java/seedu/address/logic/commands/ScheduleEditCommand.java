@@ -4,6 +4,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.COMMAND_SCHEDULE_EDIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,35 +16,61 @@ import seedu.address.model.schedule.Activity;
 
 /**
  * Edits an {@code Activity} to the schedule in the address book.
+ * Editing one occurrence of a repeating activity renames only that occurrence, which is kept as an exception to the
+ * recurrence instead of as a separate activity.
  */
 public class ScheduleEditCommand extends ScheduleCommand {
     public static final String COMMAND_WORD = COMMAND_SCHEDULE_EDIT;
     public static final String MESSAGE_SUCCESS = "Task \"%s\" on %s has been edited to \"%s\".";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Edit task, by index, from schedule.\n"
-            + "parameters: INDEX " + PREFIX_ACTIVITY + "Task";
+            + ": Edit task, by index, from schedule. "
+            + "For a repeating task, give a date to edit only the task on that date.\n"
+            + "parameters: INDEX [" + PREFIX_DATE + "DD/MM/YYYY] " + PREFIX_ACTIVITY + "Task";
     private final String task;
     private final Index index;
+    private final LocalDate occurrence;
 
     /**
      * Creates an ScheduleEditCommand to edit the specified {@code Activity}
      */
     public ScheduleEditCommand(Index index, String task) {
+        this(index, null, task);
+    }
+
+    /**
+     * Creates an ScheduleEditCommand to edit the occurrence on {@code occurrence} of the specified repeating
+     * {@code Activity}, or the whole activity if {@code occurrence} is null.
+     */
+    public ScheduleEditCommand(Index index, LocalDate occurrence, String task) {
         requireNonNull(task);
         requireNonNull(index);
         this.task = task;
         this.index = index;
+        this.occurrence = occurrence;
     }
 
     @Override
     public CommandResult updateSchedule(Model model) throws CommandException {
         Activity toDelete = getActivityFromIndex(model, index);
-        Activity toAdd = new Activity(toDelete.getDate(), task);
+        Activity toAdd;
+        LocalDate date;
+        String oldName;
+        if (occurrence == null) {
+            toAdd = new Activity(toDelete.getLocalDate(), task, toDelete.getRecurrence());
+            date = toDelete.getLocalDate();
+            oldName = toDelete.getActivityName();
+        } else {
+            requireOccurrence(toDelete, occurrence);
+            toAdd = new Activity(toDelete.getLocalDate(), toDelete.getActivityName(),
+                    toDelete.getRecurrence().withRenamed(occurrence, task));
+            date = occurrence;
+            oldName = toDelete.getRecurrence().getName(occurrence, toDelete.getActivityName());
+        }
         model.updateActivity(toDelete, toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS,
-                toDelete.getActivityName(),
-                Activity.getDateString(toAdd.getDate()),
-                toAdd.getActivityName()));
+                oldName,
+                Activity.getDateString(date),
+                task));
     }
 
     @Override
@@ -48,6 +78,7 @@ public class ScheduleEditCommand extends ScheduleCommand {
         return other == this // short circuit if same object
                 || (other instanceof ScheduleEditCommand// instanceof handles nulls
                 && task.equals(((ScheduleEditCommand) other).task)
-                && index.equals(((ScheduleEditCommand) other).index));
+                && index.equals(((ScheduleEditCommand) other).index)
+                && Objects.equals(occurrence, ((ScheduleEditCommand) other).occurrence));
     }
 }
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.COMMAND_SCHEDULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Occurrence;
+
+/**
+ * Lists the activities in the schedule that fall between two dates, including each occurrence of a repeating activity.
+ * Each occurrence is numbered with the index of the activity it belongs to, and an occurrence of a repeating activity
+ * also shows the date to give to edit or delete only that occurrence.
+ */
+public class ScheduleListCommand extends Command {
+    public static final String COMMAND_WORD = COMMAND_SCHEDULE;
+    public static final String MESSAGE_SUCCESS = "%d tasks listed.";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the tasks in your schedule from and to the given dates, inclusive.\n"
+            + "parameters: "
+            + "[" + PREFIX_FROM + "DD/MM/YYYY] "
+            + "[" + PREFIX_TO + "DD/MM/YYYY]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "01/01/2026 " + PREFIX_TO + "31/03/2026";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a ScheduleListCommand to list the activities from {@code from} to {@code to}.
+     * Either date may be null to leave the range open at that end.
+     */
+    public ScheduleListCommand(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Occurrence> occurrences = model.getOccurrencesBetween(from, to);
+        List<Activity> activities = model.getActivityList();
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, occurrences.size()));
+        for (Occurrence occurrence : occurrences) {
+            Activity activity = occurrence.getActivity();
+            builder.append('\n').append(occurrence.getIndex().getOneBased()).append(". ")
+                    .append(Activity.getDateString(activity.getLocalDate())).append(": ")
+                    .append(activity.getActivityName());
+            if (activities.get(occurrence.getIndex().getZeroBased()).isRecurring()) {
+                builder.append(" (").append(PREFIX_DATE).append(Activity.getInputDateString(activity.getLocalDate()))
+                        .append(')');
+            }
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleListCommand // instanceof handles nulls
+                && Objects.equals(from, ((ScheduleListCommand) other).from)
+                && Objects.equals(to, ((ScheduleListCommand) other).to));
+    }
+}
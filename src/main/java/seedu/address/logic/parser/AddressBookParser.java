@@ -27,6 +27,7 @@ import seedu.address.logic.commands.RestoreSnapshotsCommand;
 import seedu.address.logic.commands.ScheduleAddCommand;
 import seedu.address.logic.commands.ScheduleDeleteCommand;
 import seedu.address.logic.commands.ScheduleEditCommand;
+import seedu.address.logic.commands.ScheduleListCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -115,6 +116,9 @@ public class AddressBookParser {
         case MailCommand.COMMAND_WORD:
             return new MailCommandParser().parse(arguments);
 
+        case ScheduleListCommand.COMMAND_WORD:
+            return new ScheduleListCommandParser().parse(arguments);
+
         case ScheduleAddCommand.COMMAND_WORD:
             return new ScheduleAddCommandParser().parse(arguments);
 
@@ -14,6 +14,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_KPI = new Prefix("k/");
     public static final Prefix PREFIX_POSITION = new Prefix("r/");
+    public static final Prefix PREFIX_SOUNDS_LIKE = new Prefix("sn/");
     public static final Prefix PREFIX_ALL = new Prefix("all/");
     public static final Prefix PREFIX_COMMAND = new Prefix("command/");
     public static final Prefix PREFIX_INVALID = new Prefix("invalid/");
@@ -21,6 +22,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_ACTIVITY = new Prefix("a/");
     public static final Prefix PREFIX_FILENAME = new Prefix("f/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_REPEAT = new Prefix("repeat/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("until/");
 
     /* Command keywords */
     public static final String COMMAND_ADD = "add";
@@ -42,6 +47,7 @@ public class CliSyntax {
     public static final String COMMAND_EXPORT = "export";
     public static final String COMMAND_MAIL = "mail";
     public static final String COMMAND_SNAPSHOTS = "restore-snapshots";
+    public static final String COMMAND_SCHEDULE = "schedule";
     public static final String COMMAND_SCHEDULE_ADD = "schedule-add";
     public static final String COMMAND_SCHEDULE_DELETE = "schedule-delete";
     public static final String COMMAND_SCHEDULE_EDIT = "schedule-edit";
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.HashMap;
@@ -47,7 +48,8 @@ public class FindCommandParser implements Parser<FindCommand> {
                         PREFIX_NOTE,
                         PREFIX_POSITION,
                         PREFIX_TAG,
-                        PREFIX_KPI
+                        PREFIX_KPI,
+                        PREFIX_SOUNDS_LIKE
                         );
 
         if (!arePrefixesPresent(argMultimap,
@@ -58,7 +60,8 @@ public class FindCommandParser implements Parser<FindCommand> {
                 PREFIX_POSITION,
                 PREFIX_NOTE,
                 PREFIX_TAG,
-                PREFIX_KPI)
+                PREFIX_KPI,
+                PREFIX_SOUNDS_LIKE)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
@@ -107,6 +110,11 @@ public class FindCommandParser implements Parser<FindCommand> {
             String[] keywords = kpi.value.trim().split("\\s+");
             prefixKeywordMap.put(PREFIX_KPI, keywords);
         }
+        if (arePrefixesPresent(argMultimap, PREFIX_SOUNDS_LIKE)) {
+            Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_SOUNDS_LIKE).get());
+            String[] keywords = name.fullName.trim().split("\\s+");
+            prefixKeywordMap.put(PREFIX_SOUNDS_LIKE, keywords);
+        }
 
         if (prefixKeywordMap.isEmpty()) {
             throw new ParseException(
@@ -9,6 +9,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.KpiRange;
 
 /**
  * Parses the list command arguments to determine which attributes to filter for listing.
@@ -26,22 +27,29 @@ public class ListCommandParser implements Parser<ListCommand> {
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
             return new ListCommand(ListCommand.TYPE_TAG, ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)));
         } else if (argMultimap.getValue(PREFIX_KPI).isPresent()) {
-            List<String> kpiList = argMultimap.getAllValues(PREFIX_KPI);
+            List<String> kpiList = new ArrayList<>();
+            for (String kpi : argMultimap.getAllValues(PREFIX_KPI)) {
+                kpiList.add(kpi.trim());
+            }
             checkKpiFormat(kpiList);
-            return new ListCommand(ListCommand.TYPE_KPI, argMultimap.getAllValues(PREFIX_KPI));
+            return new ListCommand(ListCommand.TYPE_KPI, kpiList);
         } else {
             return new ListCommand(ListCommand.TYPE_ALL, new ArrayList<>());
         }
     }
 
     /**
-     * Checks if a KPI string input is valid.
+     * Checks if a KPI string input is a valid KPI or KPI range, such as {@code >=3.5} or {@code 2-4}.
      * @param kpiList the list of KPI strings input.
      * @throws ParseException if any one of the KPI is invalid.
      */
     private void checkKpiFormat(List<String> kpiList) throws ParseException {
         for (String kpi : kpiList) {
-            ParserUtil.parseKpi(kpi);
+            if (KpiRange.isKpiRangeSyntax(kpi)) {
+                ParserUtil.parseKpiRange(kpi);
+            } else {
+                ParserUtil.parseKpi(kpi);
+            }
         }
     }
 }
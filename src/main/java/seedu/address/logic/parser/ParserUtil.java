@@ -3,9 +3,9 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -16,11 +16,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Kpi;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Position;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Recurrence;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -95,7 +97,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.intern(new Address(trimmedAddress));
     }
 
     /**
@@ -133,7 +135,7 @@ public class ParserUtil {
         } else {
             priority = Index.fromZeroBased(Tag.PRIORITY_LOW);
         }
-        return new Tag(tagName, priority);
+        return Tag.intern(new Tag(tagName, priority));
     }
 
     /**
@@ -160,7 +162,7 @@ public class ParserUtil {
         if (!Position.isValidPosition(trimmedPosition)) {
             throw new ParseException(Position.MESSAGE_POSITION_CONSTRAINTS);
         }
-        return new Position(trimmedPosition);
+        return Position.intern(new Position(trimmedPosition));
     }
 
     /**
@@ -174,7 +176,7 @@ public class ParserUtil {
         if (!Note.isValidNote(trimmedNote)) {
             throw new ParseException(Note.MESSAGE_NOTE_CONSTRAINTS);
         }
-        return new Note(trimmedNote);
+        return Note.intern(new Note(trimmedNote));
     }
     /**
      * Parses a {@code String kpi} into an {@code Kpi}.
@@ -187,24 +189,34 @@ public class ParserUtil {
         if (!Kpi.isValidKpi(trimmedScore)) {
             throw new ParseException(Kpi.MESSAGE_KPI_CONSTRAINTS);
         }
-        return new Kpi(trimmedScore);
+        return Kpi.intern(new Kpi(trimmedScore));
     }
+
     /**
-     * Parses a {@code String position} into an {@code Position}.
+     * Parses a {@code String range} into a {@code KpiRange}.
      * Leading and trailing whitespaces will be trimmed.
      *
-     * @throws ParseException if the given {@code position} is invalid.
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static KpiRange parseKpiRange(String range) throws ParseException {
+        String trimmedRange = range.trim();
+        if (!KpiRange.isValidKpiRange(trimmedRange)) {
+            throw new ParseException(KpiRange.MESSAGE_KPI_RANGE_CONSTRAINTS);
+        }
+        return new KpiRange(trimmedRange);
+    }
+    /**
+     * Parses a {@code String dateString} in "DD/MM/YYYY" format into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dateString} is invalid.
      */
-    public static Date parseDate(String dateString) throws ParseException {
+    public static LocalDate parseDate(String dateString) throws ParseException {
         String trimmedDate = dateString.trim();
         if (!Activity.isValidDate(trimmedDate)) {
             throw new ParseException(Activity.MESSAGE_DATE_CONSTRAINTS);
         }
-        StringTokenizer tokens = new StringTokenizer(trimmedDate, "/");
-        int day = Integer.parseInt(tokens.nextToken());
-        int month = Integer.parseInt(tokens.nextToken());
-        int year = Integer.parseInt(tokens.nextToken());
-        return Activity.toDate(day, month, year);
+        return Activity.parseDate(trimmedDate);
     }
 
     /**
@@ -221,6 +233,20 @@ public class ParserUtil {
         return trimmedActivityName;
     }
 
+    /**
+     * Parses a {@code String frequency} into a {@code Recurrence.Frequency}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code frequency} is not daily, weekly or monthly.
+     */
+    public static Recurrence.Frequency parseFrequency(String frequency) throws ParseException {
+        try {
+            return Recurrence.Frequency.fromName(frequency.trim());
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS, e);
+        }
+    }
+
     //@@author lekoook
     /**
      * Parses one or more {@code Index} into an {@code Index} list and returns it.
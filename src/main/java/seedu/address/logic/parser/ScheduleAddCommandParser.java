@@ -5,13 +5,16 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.commands.ScheduleAddCommand.MESSAGE_USAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.ScheduleAddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Recurrence;
 
 /**
  * Parses input arguments and creates a new ScheduleAddCommand object
@@ -28,13 +31,25 @@ public class ScheduleAddCommandParser implements Parser<ScheduleAddCommand> {
                 ArgumentTokenizer.tokenize(
                         " " + args,
                         PREFIX_DATE,
-                        PREFIX_ACTIVITY);
-        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_ACTIVITY) || !argMultimap.getPreamble().isEmpty()) {
+                        PREFIX_ACTIVITY,
+                        PREFIX_REPEAT,
+                        PREFIX_UNTIL);
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_ACTIVITY) || !argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_REPEAT).isPresent() != argMultimap.getValue(PREFIX_UNTIL).isPresent()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
-        Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
         String task = ParserUtil.parseActivityName(argMultimap.getValue(PREFIX_ACTIVITY).get());
-        Activity activity = new Activity(date, task);
+        Recurrence recurrence = null;
+        if (argMultimap.getValue(PREFIX_REPEAT).isPresent()) {
+            Recurrence.Frequency frequency = ParserUtil.parseFrequency(argMultimap.getValue(PREFIX_REPEAT).get());
+            LocalDate until = ParserUtil.parseDate(argMultimap.getValue(PREFIX_UNTIL).get());
+            if (until.isBefore(date)) {
+                throw new ParseException(Recurrence.MESSAGE_END_DATE_CONSTRAINTS);
+            }
+            recurrence = new Recurrence(frequency, until);
+        }
+        Activity activity = new Activity(date, task, recurrence);
         return new ScheduleAddCommand(activity);
     }
 
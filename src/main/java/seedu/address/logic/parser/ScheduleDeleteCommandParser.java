@@ -1,6 +1,10 @@
 //@@author LowGinWee
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ScheduleDeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -16,8 +20,12 @@ public class ScheduleDeleteCommandParser implements Parser<ScheduleDeleteCommand
      * @throws ParseException if the user input does not conform the expected format
      */
     public ScheduleDeleteCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_DATE);
         Index index;
-        index = ParserUtil.parseIndex(args);
-        return new ScheduleDeleteCommand(index);
+        index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        LocalDate occurrence = argMultimap.getValue(PREFIX_DATE).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get())
+                : null;
+        return new ScheduleDeleteCommand(index, occurrence);
     }
 }
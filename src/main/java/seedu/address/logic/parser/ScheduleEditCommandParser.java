@@ -4,7 +4,9 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.ScheduleEditCommand.MESSAGE_USAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
+import java.time.LocalDate;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -25,6 +27,7 @@ public class ScheduleEditCommandParser implements Parser<ScheduleEditCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(
                         " " + args,
+                        PREFIX_DATE,
                         PREFIX_ACTIVITY);
         if (!arePrefixesPresent(argMultimap, PREFIX_ACTIVITY) || argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
@@ -32,7 +35,10 @@ public class ScheduleEditCommandParser implements Parser<ScheduleEditCommand> {
         Index index;
         index = ParserUtil.parseIndex(argMultimap.getPreamble());
         String task = ParserUtil.parseActivityName(argMultimap.getValue(PREFIX_ACTIVITY).get());
-        return new ScheduleEditCommand(index, task);
+        LocalDate occurrence = argMultimap.getValue(PREFIX_DATE).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get())
+                : null;
+        return new ScheduleEditCommand(index, occurrence, task);
     }
 
     /**
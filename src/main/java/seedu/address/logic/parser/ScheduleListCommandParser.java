@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ScheduleListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ScheduleListCommand object
+ */
+public class ScheduleListCommandParser implements Parser<ScheduleListCommand> {
+    public static final String MESSAGE_INVALID_RANGE = "The start date must not be after the end date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleListCommand
+     * and returns a ScheduleListCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FROM, PREFIX_TO);
+        Optional<String> fromString = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> toString = argMultimap.getValue(PREFIX_TO);
+        if (!argMultimap.getPreamble().isEmpty() || (!fromString.isPresent() && !toString.isPresent())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleListCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = fromString.isPresent() ? ParserUtil.parseDate(fromString.get()) : null;
+        LocalDate to = toString.isPresent() ? ParserUtil.parseDate(toString.get()) : null;
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new ScheduleListCommand(from, to);
+    }
+}
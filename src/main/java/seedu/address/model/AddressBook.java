@@ -2,16 +2,26 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.address.model.person.FuzzyWordIndex;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonAttributeIndex;
+import seedu.address.model.person.PersonTokenIndex;
+import seedu.address.model.person.SearchableField;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Occurrence;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
@@ -23,6 +33,9 @@ import seedu.address.model.tag.UniqueTagList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonAttributeIndex attributeIndex;
+    private final PersonTokenIndex tokenIndex;
+    private final FuzzyWordIndex wordIndex;
     private final UniqueTagList tags;
     private final Schedule schedule;
 
@@ -35,6 +48,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        attributeIndex = new PersonAttributeIndex();
+        tokenIndex = new PersonTokenIndex();
+        wordIndex = new FuzzyWordIndex();
         tags = new UniqueTagList();
         schedule = new Schedule();
     }
@@ -57,6 +73,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        attributeIndex.setPersons(persons);
+        tokenIndex.setPersons(persons);
+        wordIndex.setPersons(persons);
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, and the tags with the tags of {@code persons}.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void setPersonsAndTags(List<Person> persons) {
+        setPersons(persons);
+        tags.setTagsOf(persons);
     }
 
     /**
@@ -65,8 +93,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setTags(newData.getTagList());
+        setPersonsAndTags(newData.getPersonList());
         setSchedule(newData.getActivityList());
     }
 
@@ -80,12 +107,41 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if there is one in the address book.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return persons.getPersonById(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        attributeIndex.add(p);
+        tokenIndex.add(p);
+        wordIndex.add(p);
+        tags.add(p);
+    }
+
+    /**
+     * Inserts a person at {@code index} in the person list.
+     * The person must not already exist in the address book.
+     */
+    void insertPerson(int index, Person p) {
+        persons.add(index, p);
+        attributeIndex.add(p);
+        tokenIndex.add(p);
+        wordIndex.add(p);
         tags.add(p);
     }
 
@@ -97,8 +153,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void updatePerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
-        tags.setTag(target, editedPerson);
+        Person storedTarget = getStoredPerson(target);
+        persons.setPerson(storedTarget, editedPerson);
+        attributeIndex.remove(storedTarget);
+        attributeIndex.add(editedPerson);
+        tokenIndex.remove(storedTarget);
+        tokenIndex.add(editedPerson);
+        wordIndex.remove(storedTarget);
+        wordIndex.add(editedPerson);
+        tags.setTag(storedTarget, editedPerson);
+    }
+
+    /**
+     * Replaces the person with the given {@code id} with {@code editedPerson}.
+     * The person must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    public void updatePersonById(long id, Person editedPerson) {
+        updatePerson(getPersonById(id).orElseThrow(PersonNotFoundException::new), editedPerson);
     }
 
     /**
@@ -106,8 +178,103 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
-        tags.remove(key);
+        Person storedKey = getStoredPerson(key);
+        persons.remove(storedKey);
+        attributeIndex.remove(storedKey);
+        tokenIndex.remove(storedKey);
+        wordIndex.remove(storedKey);
+        tags.remove(storedKey);
+    }
+
+    /**
+     * Removes the person with the given {@code id} from this {@code AddressBook}.
+     * The person must exist in the address book.
+     */
+    public void removePersonById(long id) {
+        removePerson(getPersonById(id).orElseThrow(PersonNotFoundException::new));
+    }
+
+    /**
+     * Returns the person in the address book that equals {@code person}, so that the person lists and indexes are
+     * updated using the instance they hold.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person getStoredPerson(Person person) {
+        requireNonNull(person);
+        int index = persons.indexOf(person);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return persons.get(index);
+    }
+
+    /**
+     * Returns the persons whose {@code attribute} is {@code value}, ignoring case, without scanning every person.
+     */
+    public List<Person> findPersons(PersonAttribute attribute, String value) {
+        return attributeIndex.find(attribute, value);
+    }
+
+    /**
+     * Returns the persons whose {@code attribute} starts with {@code prefix}, ignoring case, without scanning every
+     * person.
+     */
+    public List<Person> findPersonsByPrefix(PersonAttribute attribute, String prefix) {
+        return attributeIndex.findByPrefix(attribute, prefix);
+    }
+
+    /**
+     * Returns the persons whose KPI score is in {@code range}, without scanning every person.
+     */
+    public List<Person> findPersonsWithKpiIn(KpiRange range) {
+        return attributeIndex.findByKpiRange(range);
+    }
+
+    /**
+     * Returns the persons that have at least one of the words given for each field in {@code wordsByField}, ignoring
+     * case, in order of id, without scanning every person.
+     */
+    public List<Person> findPersonsWithWords(Map<SearchableField, ? extends Collection<String>> wordsByField) {
+        return tokenIndex.find(wordsByField);
+    }
+
+    /**
+     * Returns the words of the persons' names that sound like any of {@code words}, in the order they were first added.
+     */
+    public List<String> findNamesSoundingLike(Collection<String> words) {
+        return wordIndex.findNamesSoundingLike(words);
+    }
+
+    /**
+     * Makes the fuzzy word search run in parallel for fields with at least {@code parallelThreshold} distinct words.
+     */
+    public void setParallelSearchThreshold(int parallelThreshold) {
+        wordIndex.setParallelThreshold(parallelThreshold);
+    }
+
+    /**
+     * Returns the words of {@code field}, as they are written, within Levenshtein distance {@code maxDistance} of any
+     * of {@code words}, ignoring case, with their distances, in the order they were first added.
+     */
+    public Map<String, Integer> findWordsWithin(SearchableField field, Collection<String> words, int maxDistance) {
+        return wordIndex.findWordsWithin(field, words, maxDistance);
+    }
+
+    /**
+     * Returns the Levenshtein distance, ignoring case, from {@code word} to the closest word of {@code field}, or
+     * {@code Integer.MAX_VALUE} if no person has a word in {@code field}.
+     */
+    public int getClosestWordDistance(SearchableField field, String word) {
+        return wordIndex.getClosestDistance(field, word);
+    }
+
+    /**
+     * Returns the words of {@code field} that start with any of {@code words} or that any of {@code words} starts
+     * with, matching case, in the order they were first added.
+     */
+    public List<String> findWordsSharingPrefix(SearchableField field, Collection<String> words) {
+        return wordIndex.findWordsSharingPrefix(field, words);
     }
 
     /**
@@ -124,6 +291,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.getPersons(tag);
     }
 
+    /**
+     * Returns true if a person in the address book has {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * Returns the persons with at least one of {@code tags}.
+     */
+    public List<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        return this.tags.getPersonsWithAnyTag(tags);
+    }
+
     //// util methods
 
     @Override
@@ -175,6 +356,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         schedule.add(activity);
     }
 
+    /**
+     * Inserts an Activity at {@code index} among the activities on its date.
+     */
+    void insertActivity(int index, Activity activity) {
+        schedule.add(index, activity);
+    }
+
+    /**
+     * Returns the position of {@code activity} among the activities on its date, or -1 if it is not in the schedule.
+     */
+    int indexOfActivity(Activity activity) {
+        return schedule.indexOf(activity);
+    }
+
     /**
      * Deletes an Activity from the schedule in the address book.
      */
@@ -195,8 +390,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         return schedule.getActivities();
     }
 
+    /**
+     * Returns the occurrences of the activities from {@code from} to {@code to}, both inclusive, sorted based on their
+     * dates, each with the index of the activity it belongs to.
+     * A null {@code from} or {@code to} leaves the range open at that end.
+     */
+    public List<Occurrence> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        return schedule.getOccurrences(from, to);
+    }
+
     @Override
-    public TreeMap<Date, ArrayList<Activity>> getSchedule() {
+    public NavigableMap<LocalDate, List<Activity>> getSchedule() {
         return schedule.getSchedule();
     }
 }
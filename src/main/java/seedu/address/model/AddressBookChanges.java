@@ -0,0 +1,297 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Describes how the address book changed between two versions of the model.
+ *
+ * Changes to the same person or activity are combined, so a person that was added and then edited is reported as
+ * added in its edited form, and a person that was added and then removed is not reported at all. Subscribers bring
+ * a copy of the old version up to date by applying the removals, then the updates, then the additions.
+ *
+ * When the changes cannot be described this way, such as when the whole address book was replaced, the changes are
+ * a full reload and subscribers should rebuild from the new version instead.
+ */
+public class AddressBookChanges {
+
+    private final ChangeList<Person> persons = new ChangeList<>();
+    private final ChangeList<Activity> activities = new ChangeList<>();
+    private final Set<Tag> changedTags = new LinkedHashSet<>();
+    private boolean isFullReload;
+
+    /**
+     * Returns changes that tell subscribers to rebuild from the new version of the address book.
+     */
+    public static AddressBookChanges fullReload() {
+        AddressBookChanges changes = new AddressBookChanges();
+        changes.recordFullReload();
+        return changes;
+    }
+
+    /**
+     * Records that {@code person} was added.
+     */
+    void recordPersonAdded(Person person) {
+        if (!isFullReload) {
+            persons.added(person);
+            changedTags.addAll(person.getTags());
+        }
+    }
+
+    /**
+     * Records that {@code person} was removed.
+     */
+    void recordPersonRemoved(Person person) {
+        if (!isFullReload) {
+            persons.removed(person);
+            changedTags.addAll(person.getTags());
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedPerson}.
+     */
+    void recordPersonUpdated(Person target, Person editedPerson) {
+        if (!isFullReload) {
+            persons.updated(target, editedPerson);
+            changedTags.addAll(target.getTags());
+            changedTags.addAll(editedPerson.getTags());
+        }
+    }
+
+    /**
+     * Records that {@code activity} was added.
+     */
+    void recordActivityAdded(Activity activity) {
+        if (!isFullReload) {
+            activities.added(activity);
+        }
+    }
+
+    /**
+     * Records that {@code activity} was removed.
+     */
+    void recordActivityRemoved(Activity activity) {
+        if (!isFullReload) {
+            activities.removed(activity);
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedActivity}.
+     */
+    void recordActivityUpdated(Activity target, Activity editedActivity) {
+        if (!isFullReload) {
+            activities.updated(target, editedActivity);
+        }
+    }
+
+    /**
+     * Records that the changes can no longer be described person by person and activity by activity.
+     */
+    void recordFullReload() {
+        isFullReload = true;
+        persons.clear();
+        activities.clear();
+        changedTags.clear();
+    }
+
+    /**
+     * Records the {@code later} changes, which were made after these, so that these changes describe both.
+     */
+    public void recordAll(AddressBookChanges later) {
+        requireNonNull(later);
+        if (later.isFullReload) {
+            recordFullReload();
+            return;
+        }
+        later.getRemovedPersons().forEach(this::recordPersonRemoved);
+        later.getUpdatedPersons().forEach(this::recordPersonUpdated);
+        later.getAddedPersons().forEach(this::recordPersonAdded);
+        later.getRemovedActivities().forEach(this::recordActivityRemoved);
+        later.getUpdatedActivities().forEach(this::recordActivityUpdated);
+        later.getAddedActivities().forEach(this::recordActivityAdded);
+    }
+
+    /**
+     * Returns true if subscribers should rebuild from the new version of the address book instead of applying the
+     * changes.
+     */
+    public boolean isFullReload() {
+        return isFullReload;
+    }
+
+    /**
+     * Returns true if nothing changed.
+     */
+    public boolean isEmpty() {
+        return !isFullReload && !hasPersonChanges() && !hasActivityChanges();
+    }
+
+    /**
+     * Returns true if any person was added, removed or updated.
+     */
+    public boolean hasPersonChanges() {
+        return !persons.isEmpty();
+    }
+
+    /**
+     * Returns true if any activity was added, removed or updated.
+     */
+    public boolean hasActivityChanges() {
+        return !activities.isEmpty();
+    }
+
+    public List<Person> getAddedPersons() {
+        return persons.getAdded();
+    }
+
+    public List<Person> getRemovedPersons() {
+        return persons.getRemoved();
+    }
+
+    /**
+     * Returns the updated persons, mapping each person in the old version to its edited form in the new version.
+     */
+    public Map<Person, Person> getUpdatedPersons() {
+        return persons.getUpdated();
+    }
+
+    public List<Activity> getAddedActivities() {
+        return activities.getAdded();
+    }
+
+    public List<Activity> getRemovedActivities() {
+        return activities.getRemoved();
+    }
+
+    /**
+     * Returns the updated activities, mapping each activity in the old version to its edited form in the new version.
+     */
+    public Map<Activity, Activity> getUpdatedActivities() {
+        return activities.getUpdated();
+    }
+
+    /**
+     * Returns the tags whose persons changed. A changed tag that is no longer in the tag list of the new version was
+     * removed, and one that was not in the tag list of the old version was added.
+     */
+    public Set<Tag> getChangedTags() {
+        return Collections.unmodifiableSet(changedTags);
+    }
+
+    @Override
+    public String toString() {
+        if (isFullReload) {
+            return "full reload";
+        }
+        return String.format("%d persons and %d activities changed", persons.size(), activities.size());
+    }
+
+    /**
+     * The combined additions, removals and updates of one kind of item.
+     */
+    private static class ChangeList<T> {
+        /** Maps each added or updated item in its current form to its form in the old version, or null if added. */
+        private final Map<T, T> currentToOriginal = new LinkedHashMap<>();
+        private final List<T> removed = new ArrayList<>();
+
+        /**
+         * Records that {@code item} was added.
+         */
+        void added(T item) {
+            requireNonNull(item);
+            currentToOriginal.put(item, null);
+        }
+
+        /**
+         * Records that {@code item} was removed.
+         */
+        void removed(T item) {
+            requireNonNull(item);
+            if (!currentToOriginal.containsKey(item)) {
+                removed.add(item);
+                return;
+            }
+            T original = currentToOriginal.remove(item);
+            if (original != null) {
+                removed.add(original);
+            }
+        }
+
+        /**
+         * Records that {@code target} was replaced by {@code editedItem}.
+         */
+        void updated(T target, T editedItem) {
+            requireNonNull(target);
+            requireNonNull(editedItem);
+            T original = currentToOriginal.containsKey(target) ? currentToOriginal.remove(target) : target;
+            currentToOriginal.put(editedItem, original);
+        }
+
+        void clear() {
+            currentToOriginal.clear();
+            removed.clear();
+        }
+
+        /**
+         * Returns true if no item was added, removed or changed.
+         */
+        boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * Returns the number of items added, removed or changed.
+         */
+        int size() {
+            int size = removed.size();
+            for (Map.Entry<T, T> entry : currentToOriginal.entrySet()) {
+                if (!entry.getKey().equals(entry.getValue())) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        List<T> getAdded() {
+            List<T> added = new ArrayList<>();
+            for (Map.Entry<T, T> entry : currentToOriginal.entrySet()) {
+                if (entry.getValue() == null) {
+                    added.add(entry.getKey());
+                }
+            }
+            return Collections.unmodifiableList(added);
+        }
+
+        List<T> getRemoved() {
+            return Collections.unmodifiableList(removed);
+        }
+
+        /**
+         * Returns the updated items, mapping each item in the old version to its current form.
+         */
+        Map<T, T> getUpdated() {
+            Map<T, T> updated = new LinkedHashMap<>();
+            for (Map.Entry<T, T> entry : currentToOriginal.entrySet()) {
+                T original = entry.getValue();
+                if (original != null && !original.equals(entry.getKey())) {
+                    updated.put(original, entry.getKey());
+                }
+            }
+            return Collections.unmodifiableMap(updated);
+        }
+    }
+}
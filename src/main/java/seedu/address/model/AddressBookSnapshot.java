@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An unchanging copy of the persons and activities of an address book, without any of its indexes.
+ *
+ * Taking a snapshot only copies the two lists, as persons and activities are immutable, so it is cheap enough to do
+ * on the thread that owns the model. The tags and the schedule are not kept; they are built from the lists the first
+ * time they are asked for, which costs as much as building an {@code AddressBook}.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Activity> activities;
+    private AddressBook indexed;
+
+    /**
+     * Creates a snapshot holding copies of {@code persons} and {@code activities}.
+     */
+    public AddressBookSnapshot(List<Person> persons, List<Activity> activities) {
+        requireNonNull(persons);
+        requireNonNull(activities);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new ArrayList<>(persons)));
+        this.activities = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new ArrayList<>(activities)));
+    }
+
+    /**
+     * Returns a snapshot of the current persons and activities of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(addressBook.getPersonList(), addressBook.getActivityList());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Activity> getActivityList() {
+        return activities;
+    }
+
+    /**
+     * Returns the tags of the persons, building them on the first call.
+     */
+    @Override
+    public ObservableMap<Tag, UniquePersonList> getTagList() {
+        return indexed().getTagList();
+    }
+
+    /**
+     * Returns the activities by date, building them on the first call.
+     */
+    @Override
+    public NavigableMap<LocalDate, List<Activity>> getSchedule() {
+        return indexed().getSchedule();
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding the persons and activities, building it on the first call.
+     */
+    private synchronized AddressBook indexed() {
+        if (indexed == null) {
+            indexed = new AddressBook(this);
+        }
+        return indexed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && persons.equals(((AddressBookSnapshot) other).persons)
+                && activities.equals(((AddressBookSnapshot) other).activities));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons";
+    }
+}
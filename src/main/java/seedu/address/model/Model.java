@@ -1,15 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.SearchableField;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Occurrence;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -36,6 +43,17 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Returns the person with the given {@code id}, if there is one in the address book.
+     */
+    Optional<Person> getPersonById(long id);
+
+    /**
+     * Deletes the person with the given {@code id}.
+     * The person must exist in the address book.
+     */
+    void deletePersonById(long id);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -49,6 +67,13 @@ public interface Model {
      */
     void updatePerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces the person with the given {@code id} with {@code editedPerson}.
+     * The person must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void updatePersonById(long id, Person editedPerson);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -58,6 +83,68 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the persons whose {@code attribute} is {@code value}, ignoring case.
+     * The persons are looked up in an index instead of being filtered one by one.
+     */
+    List<Person> findPersons(PersonAttribute attribute, String value);
+
+    /**
+     * Returns the persons whose {@code attribute} starts with {@code prefix}, ignoring case.
+     * The persons are looked up in an index instead of being filtered one by one.
+     */
+    List<Person> findPersonsByPrefix(PersonAttribute attribute, String prefix);
+
+    /**
+     * Returns the persons whose KPI score is in {@code range}.
+     * The persons are looked up in an index sorted by score instead of being filtered one by one.
+     */
+    List<Person> findPersonsWithKpiIn(KpiRange range);
+
+    /**
+     * Returns the persons that have at least one of the words given for each field in {@code wordsByField}, ignoring
+     * case, in order of id.
+     * The persons are looked up in an inverted index of the words of each field instead of being filtered one by one.
+     */
+    List<Person> findPersonsWithWords(Map<SearchableField, ? extends Collection<String>> wordsByField);
+
+    /**
+     * Returns the words of {@code field}, as they are written, within Levenshtein distance {@code maxDistance} of any
+     * of {@code words}, ignoring case, with their distances from the closest of {@code words}, in the order they were
+     * first added.
+     * The words are looked up in an index of the distinct words of each field instead of being compared one by one.
+     */
+    Map<String, Integer> findWordsWithin(SearchableField field, Collection<String> words, int maxDistance);
+
+    /**
+     * Returns the Levenshtein distance, ignoring case, from {@code word} to the closest word of {@code field}, or
+     * {@code Integer.MAX_VALUE} if no person has a word in {@code field}.
+     */
+    int getClosestWordDistance(SearchableField field, String word);
+
+    /**
+     * Returns the words of {@code field} that start with any of {@code words} or that any of {@code words} starts
+     * with, matching case, in the order they were first added.
+     */
+    List<String> findWordsSharingPrefix(SearchableField field, Collection<String> words);
+
+    /**
+     * Returns the words of the persons' names, as they are written, that sound like any of {@code words}, in the order
+     * they were first added.
+     * The words are looked up by their phonetic codes in an index of the words of the names.
+     */
+    List<String> findNamesSoundingLike(Collection<String> words);
+
+    /**
+     * Returns the persons with {@code tag}, or an empty list if no person has it.
+     */
+    List<Person> getPersonsFromTag(Tag tag);
+
+    /**
+     * Returns the persons with at least one of {@code tags}.
+     */
+    List<Person> getPersonsWithAnyTag(Collection<Tag> tags);
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -83,6 +170,17 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Starts a batch of changes to the address book. Changes made before the matching {@code endBatch()} are
+     * announced, and hence saved, together when the batch ends. Batches may be nested.
+     */
+    void startBatch();
+
+    /**
+     * Ends the batch started by the matching {@code startBatch()}, announcing the changes made in it, if any.
+     */
+    void endBatch();
+
     //@@author lekoook
     /**
      * Gets the prediction given a command input string.
@@ -127,7 +225,7 @@ public interface Model {
     void setSelectedPersons(List<Person> selectedPersons);
 
     /**
-     * Returns the list of selected Persons in address book.
+     * Returns the list of selected Persons in address book, as they are now in the address book.
      * @return the list of selected Persons.
      */
     List<Person> getSelectedPersons();
@@ -173,9 +271,18 @@ public interface Model {
      * @return the list of activities.
      */
     ObservableList<Activity> getActivityList();
+
+    /**
+     * Returns the occurrences of the activities from {@code from} to {@code to}, both inclusive, sorted based on their
+     * dates, each with the index of the activity it belongs to. A repeating activity has one occurrence for each of its
+     * dates in the range.
+     * A null {@code from} or {@code to} leaves the range open at that end.
+     */
+    List<Occurrence> getOccurrencesBetween(LocalDate from, LocalDate to);
+
     /**
-     * Get a TreeMap with the Date of activities as its key and a list of the corresponding activities as its value.
-     * @return TreeMap of dates and activity lists.
+     * Get a sorted map with the date of activities as its key and a list of the activities on it as its value.
+     * @return sorted map of dates and activity lists.
      */
-    TreeMap<Date, ArrayList<Activity>> getSchedule();
+    NavigableMap<LocalDate, List<Activity>> getSchedule();
 }
@@ -6,10 +6,13 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -22,8 +25,13 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.autocomplete.CommandCompleter;
 import seedu.address.model.autocomplete.TextPrediction;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.PersonLookupPredicate;
+import seedu.address.model.person.SearchableField;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Occurrence;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
@@ -39,27 +47,51 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private List<Person> selectedPersons;
     private TextPrediction textPrediction;
+    private int batchDepth;
+    private boolean isUndoingOrRedoing;
+    private long version;
+    private AddressBookChanges changes = new AddressBookChanges();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, VersionedAddressBook.HistoryMode.OPERATIONS,
+                VersionedAddressBook.DEFAULT_HISTORY_LIMIT_BYTES);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, keeping its undo history in
+     * {@code undoHistoryMode} and at most about {@code undoHistoryLimitBytes} of it.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs,
+                        VersionedAddressBook.HistoryMode undoHistoryMode, long undoHistoryLimitBytes) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, undoHistoryMode);
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, undoHistoryMode, undoHistoryLimitBytes);
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         textPrediction = new CommandCompleter(getAddressBook().getPersonList());
+        versionedAddressBook.setChangeListener(new ChangeRecorder());
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Makes {@code find} search the words of a field in parallel once the field has at least
+     * {@code parallelThreshold} distinct words.
+     */
+    public void setParallelSearchThreshold(int parallelThreshold) {
+        versionedAddressBook.setParallelSearchThreshold(parallelThreshold);
+    }
+
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
+        changes.recordFullReload();
         indicateAddressBookChanged();
     }
 
@@ -68,9 +100,21 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Raises an event describing the changes since the last event, with the next version number, unless nothing
+     * changed. Within a batch, the event is deferred to the end of the batch.
+     */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        if (batchDepth > 0 || changes.isEmpty()) {
+            return;
+        }
+        if (changes.isFullReload() || changes.hasPersonChanges()) {
+            refreshPersonLookup();
+        }
+        AddressBookChanges raisedChanges = changes;
+        changes = new AddressBookChanges();
+        version++;
+        raise(new AddressBookChangedEvent(versionedAddressBook, version, raisedChanges));
     }
 
     @Override
@@ -85,6 +129,17 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public Optional<Person> getPersonById(long id) {
+        return versionedAddressBook.getPersonById(id);
+    }
+
+    @Override
+    public void deletePersonById(long id) {
+        versionedAddressBook.removePersonById(id);
+        indicateAddressBookChanged();
+    }
+
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
@@ -100,6 +155,14 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void updatePersonById(long id, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        versionedAddressBook.updatePersonById(id, editedPerson);
+        indicateAddressBookChanged();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -117,6 +180,80 @@ public class ModelManager extends ComponentManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Looks up the persons of the filtered person list again if it is filtered by a lookup, so that the persons
+     * changed since the lookup are shown if they are found now.
+     */
+    private void refreshPersonLookup() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (predicate instanceof PersonLookupPredicate) {
+            filteredPersons.setPredicate(((PersonLookupPredicate) predicate).refreshed());
+        }
+    }
+
+    @Override
+    public List<Person> findPersons(PersonAttribute attribute, String value) {
+        requireAllNonNull(attribute, value);
+        return versionedAddressBook.findPersons(attribute, value);
+    }
+
+    @Override
+    public List<Person> findPersonsByPrefix(PersonAttribute attribute, String prefix) {
+        requireAllNonNull(attribute, prefix);
+        return versionedAddressBook.findPersonsByPrefix(attribute, prefix);
+    }
+
+    @Override
+    public List<Person> findPersonsWithKpiIn(KpiRange range) {
+        requireNonNull(range);
+        return versionedAddressBook.findPersonsWithKpiIn(range);
+    }
+
+    @Override
+    public List<Person> findPersonsWithWords(Map<SearchableField, ? extends Collection<String>> wordsByField) {
+        requireNonNull(wordsByField);
+        return versionedAddressBook.findPersonsWithWords(wordsByField);
+    }
+
+    @Override
+    public Map<String, Integer> findWordsWithin(SearchableField field, Collection<String> words, int maxDistance) {
+        requireAllNonNull(field, words);
+        return versionedAddressBook.findWordsWithin(field, words, maxDistance);
+    }
+
+    @Override
+    public int getClosestWordDistance(SearchableField field, String word) {
+        requireAllNonNull(field, word);
+        return versionedAddressBook.getClosestWordDistance(field, word);
+    }
+
+    @Override
+    public List<String> findWordsSharingPrefix(SearchableField field, Collection<String> words) {
+        requireAllNonNull(field, words);
+        return versionedAddressBook.findWordsSharingPrefix(field, words);
+    }
+
+    @Override
+    public List<String> findNamesSoundingLike(Collection<String> words) {
+        requireNonNull(words);
+        return versionedAddressBook.findNamesSoundingLike(words);
+    }
+
+    @Override
+    public List<Person> getPersonsFromTag(Tag tag) {
+        requireNonNull(tag);
+        if (!versionedAddressBook.hasTag(tag)) {
+            return new ArrayList<>();
+        }
+        return versionedAddressBook.getPersonsFromTag(tag);
+    }
+
+    @Override
+    public List<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        return versionedAddressBook.getPersonsWithAnyTag(tags);
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
@@ -131,20 +268,24 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoAddressBook() {
-        versionedAddressBook.undo();
+        isUndoingOrRedoing = true;
+        try {
+            versionedAddressBook.undo();
+        } finally {
+            isUndoingOrRedoing = false;
+        }
         indicateAddressBookChanged();
-        //@@author lekoook
-        textPrediction.reinitialise(getAddressBook().getPersonList());
-        //@@author
     }
 
     @Override
     public void redoAddressBook() {
-        versionedAddressBook.redo();
+        isUndoingOrRedoing = true;
+        try {
+            versionedAddressBook.redo();
+        } finally {
+            isUndoingOrRedoing = false;
+        }
         indicateAddressBookChanged();
-        //@@author lekoook
-        textPrediction.reinitialise(getAddressBook().getPersonList());
-        //@@author
     }
 
     @Override
@@ -152,6 +293,78 @@ public class ModelManager extends ComponentManager implements Model {
         versionedAddressBook.commit();
     }
 
+    @Override
+    public void startBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end.");
+        }
+        batchDepth--;
+        indicateAddressBookChanged();
+    }
+
+    /**
+     * Records the changes to be described by the next {@code AddressBookChangedEvent}, and keeps text prediction in
+     * step with the persons changed by undo and redo. Commands update text prediction themselves.
+     */
+    private class ChangeRecorder implements VersionedAddressBook.ChangeListener {
+        @Override
+        public void personAdded(Person person) {
+            changes.recordPersonAdded(person);
+            if (isUndoingOrRedoing) {
+                textPrediction.insertPerson(person);
+            }
+        }
+
+        @Override
+        public void personRemoved(Person person) {
+            changes.recordPersonRemoved(person);
+            if (isUndoingOrRedoing) {
+                textPrediction.removePerson(person);
+            }
+        }
+
+        @Override
+        public void personUpdated(Person target, Person editedPerson) {
+            changes.recordPersonUpdated(target, editedPerson);
+            if (isUndoingOrRedoing) {
+                textPrediction.editPerson(target, editedPerson);
+            }
+        }
+
+        @Override
+        public void personsReplaced() {
+            changes.recordFullReload();
+            if (isUndoingOrRedoing) {
+                textPrediction.reinitialise(getAddressBook().getPersonList());
+            }
+        }
+
+        @Override
+        public void activityAdded(Activity activity) {
+            changes.recordActivityAdded(activity);
+        }
+
+        @Override
+        public void activityRemoved(Activity activity) {
+            changes.recordActivityRemoved(activity);
+        }
+
+        @Override
+        public void activityUpdated(Activity target, Activity editedActivity) {
+            changes.recordActivityUpdated(target, editedActivity);
+        }
+
+        @Override
+        public void scheduleReplaced() {
+            changes.recordFullReload();
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -228,11 +441,20 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Returns the list of selected Persons in address book.
+     * Returns the list of selected Persons in address book, as they are now in the address book.
+     * Each selected person is looked up by id, so a person edited since it was selected is returned in its edited
+     * form, and one that has since been deleted is left out.
      * @return the list of selected Persons.
      */
     public List<Person> getSelectedPersons() {
-        return this.selectedPersons;
+        List<Person> currentPersons = new ArrayList<>();
+        if (selectedPersons == null) {
+            return currentPersons;
+        }
+        for (Person person : selectedPersons) {
+            versionedAddressBook.getPersonById(person.getId()).ifPresent(currentPersons::add);
+        }
+        return currentPersons;
     }
 
     //@@author lws803
@@ -321,12 +543,18 @@ public class ModelManager extends ComponentManager implements Model {
     public ObservableList<Activity> getActivityList() {
         return versionedAddressBook.getActivityList();
     }
+
+    @Override
+    public List<Occurrence> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        return versionedAddressBook.getOccurrencesBetween(from, to);
+    }
+
     /**
-     * Get a TreeMap with the Date of activities as its key and a list of the corresponding activities as its value.
-     * @return TreeMap of dates and activity lists.
+     * Get a sorted map with the date of activities as its key and a list of the activities on it as its value.
+     * @return sorted map of dates and activity lists.
      */
     @Override
-    public TreeMap<Date, ArrayList<Activity>> getSchedule() {
+    public NavigableMap<LocalDate, List<Activity>> getSchedule() {
         return versionedAddressBook.getSchedule();
     }
 }
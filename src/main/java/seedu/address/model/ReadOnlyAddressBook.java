@@ -1,8 +1,8 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.TreeMap;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
 
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -22,8 +22,14 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate persons.
      */
     ObservableList<Person> getPersonList();
+
+    /**
+     * Returns a copy of the tags, each mapped to the persons with it.
+     * The copy is built on every call, so look up the persons of one tag through the model instead.
+     */
     ObservableMap<Tag, UniquePersonList> getTagList();
+
     ObservableList<Activity> getActivityList();
 
-    TreeMap<Date, ArrayList<Activity>> getSchedule();
+    NavigableMap<LocalDate, List<Activity>> getSchedule();
 }
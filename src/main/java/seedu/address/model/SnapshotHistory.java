@@ -0,0 +1,309 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * A history of a {@code VersionedAddressBook} that saves the state of the address book at each commit, and restores
+ * the saved states.
+ *
+ * Each state keeps its persons in a {@code PersistentList}, which every change to a person updates alongside the
+ * address book itself, so a state shares all but the changed parts of the person list with the states before it
+ * instead of holding a full copy. Activities are copied only by the commits that change them. Undo and redo swap in
+ * the person list of the state restored, and update the address book with only the persons that the two lists do not
+ * share.
+ */
+class SnapshotHistory implements VersionedAddressBook.History {
+    /**
+     * The number of persons, in addition to one in {@link #REBUILD_FRACTION} of the persons, that a restored snapshot
+     * may differ in before the person list is rebuilt rather than changed one person at a time.
+     */
+    private static final int MIN_CHANGES_TO_REBUILD = 16;
+    private static final int REBUILD_FRACTION = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotHistory.class);
+
+    private final VersionedAddressBook addressBook;
+    private final long limitBytes;
+    private final List<AddressBookState> states = new ArrayList<>();
+    private int currentStatePointer;
+    private long sizeBytes;
+
+    private PersistentList<Person> currentPersons = PersistentList.empty();
+    /** The current activities, or null if they have changed since they were last saved. */
+    private List<Activity> currentActivities;
+    private long pendingSizeBytes;
+
+    SnapshotHistory(VersionedAddressBook addressBook, long limitBytes) {
+        this.addressBook = addressBook;
+        this.limitBytes = limitBytes;
+    }
+
+    @Override
+    public void clear() {
+        states.clear();
+        pendingSizeBytes = 0;
+        states.add(currentState());
+        currentStatePointer = 0;
+        sizeBytes = 0;
+    }
+
+    @Override
+    public void record(VersionedAddressBook.Operation operation) {
+        currentPersons = operation.applyTo(currentPersons);
+        if (operation.isActivityChange()) {
+            currentActivities = null;
+        }
+        pendingSizeBytes += operation.estimateSizeBytes();
+    }
+
+    @Override
+    public void commit() {
+        removeStatesAfterCurrentPointer();
+        AddressBookState state = currentState();
+        states.add(state);
+        sizeBytes += state.sizeBytes;
+        currentStatePointer++;
+        evictOldestStates();
+    }
+
+    /**
+     * Returns the current state, sharing the parts that have not changed with the previous state.
+     */
+    private AddressBookState currentState() {
+        if (currentActivities == null) {
+            currentActivities = Collections.unmodifiableList(new ArrayList<>(addressBook.getActivityList()));
+        }
+        AddressBookState state = new AddressBookState(currentPersons, currentActivities, pendingSizeBytes);
+        pendingSizeBytes = 0;
+        return state;
+    }
+
+    /**
+     * Removes the undone states from the history.
+     */
+    private void removeStatesAfterCurrentPointer() {
+        List<AddressBookState> undoneStates = states.subList(currentStatePointer + 1, states.size());
+        for (AddressBookState state : undoneStates) {
+            sizeBytes -= state.sizeBytes;
+        }
+        undoneStates.clear();
+    }
+
+    /**
+     * Removes the oldest states until the history is within its limit, always keeping the two newest states so
+     * that the last command can be undone.
+     */
+    private void evictOldestStates() {
+        int evictedCount = 0;
+        while (sizeBytes > limitBytes && evictedCount < states.size() - 2) {
+            sizeBytes -= states.get(evictedCount).sizeBytes;
+            evictedCount++;
+        }
+        if (evictedCount == 0) {
+            return;
+        }
+        states.subList(0, evictedCount).clear();
+        currentStatePointer -= evictedCount;
+        logger.info(String.format("Evicted %d oldest undo history states to keep the history within %d bytes",
+                evictedCount, limitBytes));
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return currentStatePointer < states.size() - 1;
+    }
+
+    @Override
+    public void undo() {
+        currentStatePointer--;
+        restore(states.get(currentStatePointer));
+    }
+
+    @Override
+    public void redo() {
+        // The next state was made from the current one, so the changes made since must be dropped first.
+        restore(states.get(currentStatePointer));
+        currentStatePointer++;
+        restore(states.get(currentStatePointer));
+    }
+
+    /**
+     * Replaces the contents of the address book with {@code state}, which must have been made from the current
+     * state or the current state from it.
+     */
+    private void restore(AddressBookState state) {
+        addressBook.replay(() -> {
+            restorePersons(state.persons);
+            if (state.activities != currentActivities) {
+                addressBook.setSchedule(state.activities);
+            }
+        });
+        currentPersons = state.persons;
+        currentActivities = state.activities;
+        pendingSizeBytes = 0;
+    }
+
+    /**
+     * Changes the persons from {@code currentPersons} to {@code persons}, removing, adding and updating only the
+     * persons that differ between the two, so that the person list and indexes are updated in proportion to the
+     * change. A change to a large part of the persons, or one that reorders them, replaces the whole list
+     * instead.
+     */
+    private void restorePersons(PersistentList<Person> persons) {
+        PersistentList.Diff<Person> diff = currentPersons.diff(persons);
+        int changedCount = diff.getRemoved().size() + diff.getAdded().size();
+        if (changedCount == 0) {
+            return;
+        }
+        if (!diff.isOrderKept() || changedCount > MIN_CHANGES_TO_REBUILD + persons.size() / REBUILD_FRACTION) {
+            addressBook.setPersonsAndTags(persons.toList());
+            return;
+        }
+
+        Map<PersistentList.Change<Person>, PersistentList.Change<Person>> updates = findUpdates(diff);
+        for (PersistentList.Change<Person> removed : diff.getRemoved()) {
+            if (!updates.containsKey(removed)) {
+                addressBook.removePerson(removed.getElement());
+            }
+        }
+        for (Map.Entry<PersistentList.Change<Person>, PersistentList.Change<Person>> update : updates.entrySet()) {
+            addressBook.updatePerson(update.getKey().getElement(), update.getValue().getElement());
+        }
+        Set<PersistentList.Change<Person>> updatedPersons = identitySetOf(updates.values());
+        for (PersistentList.Change<Person> added : diff.getAdded()) {
+            if (!updatedPersons.contains(added)) {
+                addressBook.insertPerson(added.getIndex(), added.getElement());
+            }
+        }
+    }
+
+    /**
+     * Returns the persons removed by {@code diff} that can be updated in place to the added persons with the same
+     * id, mapped to those added persons, or no persons if updating any of them in place would put a person out of
+     * order or give two persons the same name at once.
+     */
+    private Map<PersistentList.Change<Person>, PersistentList.Change<Person>> findUpdates(
+            PersistentList.Diff<Person> diff) {
+        Map<Long, PersistentList.Change<Person>> removedById = new HashMap<>();
+        for (PersistentList.Change<Person> removed : diff.getRemoved()) {
+            removedById.put(removed.getElement().getId(), removed);
+        }
+        Map<PersistentList.Change<Person>, PersistentList.Change<Person>> updates = new IdentityHashMap<>();
+        Set<Name> removedNames = new HashSet<>();
+        for (PersistentList.Change<Person> added : diff.getAdded()) {
+            PersistentList.Change<Person> removed = removedById.get(added.getElement().getId());
+            if (removed != null) {
+                updates.put(removed, added);
+                removedNames.add(removed.getElement().getName());
+            }
+        }
+
+        // Each updated person must have as many persons that are not removed or added before it in both lists.
+        List<Integer> removedIndexes = new ArrayList<>();
+        for (PersistentList.Change<Person> removed : diff.getRemoved()) {
+            if (!updates.containsKey(removed)) {
+                removedIndexes.add(removed.getIndex());
+            }
+        }
+        List<Integer> addedIndexes = new ArrayList<>();
+        Set<PersistentList.Change<Person>> updatedPersons = identitySetOf(updates.values());
+        for (PersistentList.Change<Person> added : diff.getAdded()) {
+            if (!updatedPersons.contains(added)) {
+                addedIndexes.add(added.getIndex());
+            }
+        }
+        for (Map.Entry<PersistentList.Change<Person>, PersistentList.Change<Person>> update : updates.entrySet()) {
+            int oldIndex = update.getKey().getIndex();
+            int newIndex = update.getValue().getIndex();
+            Person oldPerson = update.getKey().getElement();
+            Person newPerson = update.getValue().getElement();
+            boolean isNameTaken = !newPerson.getName().equals(oldPerson.getName())
+                    && removedNames.contains(newPerson.getName());
+            if (isNameTaken || oldIndex - countBefore(removedIndexes, oldIndex)
+                    != newIndex - countBefore(addedIndexes, newIndex)) {
+                return Collections.emptyMap();
+            }
+        }
+        return updates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SnapshotHistory // instanceof handles nulls
+                && states.equals(((SnapshotHistory) other).states)
+                && currentStatePointer == ((SnapshotHistory) other).currentStatePointer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(states, currentStatePointer);
+    }
+
+    /**
+     * Returns a set of {@code elements} that tells them apart by identity.
+     */
+    private static <E> Set<E> identitySetOf(Collection<E> elements) {
+        Set<E> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(elements);
+        return set;
+    }
+
+    /**
+     * Returns the number of {@code indexes}, which are in ascending order, that are less than {@code index}.
+     */
+    private static int countBefore(List<Integer> indexes, int index) {
+        int position = Collections.binarySearch(indexes, index);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * The persons and activities of the address book at one point of its history.
+     */
+    private static class AddressBookState {
+        private final PersistentList<Person> persons;
+        private final List<Activity> activities;
+        /** The estimated size of the changes made since the previous state. */
+        private final long sizeBytes;
+
+        private AddressBookState(PersistentList<Person> persons, List<Activity> activities, long sizeBytes) {
+            this.persons = persons;
+            this.activities = activities;
+            this.sizeBytes = sizeBytes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AddressBookState // instanceof handles nulls
+                    && persons.equals(((AddressBookState) other).persons)
+                    && activities.equals(((AddressBookState) other).activities));
+        }
+
+        @Override
+        public int hashCode() {
+            return persons.hashCode();
+        }
+    }
+}
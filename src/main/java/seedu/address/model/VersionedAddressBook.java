@@ -1,36 +1,84 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PersistentList;
 
 /**
- * {@code AddressBook} that keeps track of its own history.
+ * {@code AddressBook} that keeps track of its own history, in one of two {@link HistoryMode}s.
+ *
+ * With {@code OPERATIONS}, the history records the changes made between commits instead of saving a copy of the
+ * address book at every commit. Undo reverts the changes of the last commit and redo applies them again, so both cost
+ * time in proportion to the size of the change rather than the size of the address book. The changes hold the persons
+ * as they are stored, so undo and redo find each person by its id rather than by comparing fields.
+ *
+ * {@code OPERATIONS} is the default. With {@code SNAPSHOTS}, each commit saves the state of the address book instead,
+ * sharing the unchanged persons between the states, as described in {@link SnapshotHistory}.
+ *
+ * In both modes the history is limited to an estimated number of bytes, beyond which the oldest commits are forgotten.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    public static final long DEFAULT_HISTORY_LIMIT_BYTES = 16 * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
+    private final History history;
+    private boolean isReplaying;
+    private ChangeListener changeListener = new ChangeListener() {};
+
+    /**
+     * How the history of the address book is kept.
+     */
+    public enum HistoryMode {
+        /** A log of the changes made by each commit. */
+        OPERATIONS,
+        /** A state of the address book at each commit, sharing the unchanged persons with the other states. */
+        SNAPSHOTS
+    }
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_HISTORY_LIMIT_BYTES);
+    }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long historyLimitBytes) {
+        this(initialState, HistoryMode.OPERATIONS, historyLimitBytes);
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, HistoryMode historyMode, long historyLimitBytes) {
+        requireNonNull(historyMode);
+        history = historyMode == HistoryMode.SNAPSHOTS
+                ? new SnapshotHistory(this, historyLimitBytes)
+                : new OperationHistory(historyLimitBytes);
+        resetData(initialState);
+        history.clear();
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Sets the listener to be told of every change to the persons and activities, including those made by
+     * {@code undo()} and {@code redo()}.
      */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+    public void setChangeListener(ChangeListener changeListener) {
+        this.changeListener = requireNonNull(changeListener);
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    /**
+     * Saves the changes made since the last commit at the end of the history.
+     * Undone changes are removed from the history, and the oldest changes are removed if the history is over its
+     * limit.
+     */
+    public void commit() {
+        history.commit();
     }
 
     /**
@@ -40,8 +88,7 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -51,22 +98,125 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    /**
+     * Runs {@code replay} without recording the changes it makes.
+     */
+    void replay(Runnable replay) {
+        isReplaying = true;
+        try {
+            replay.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Records {@code operation} as made since the last commit, unless it is being replayed from the history.
+     */
+    private void record(Operation operation) {
+        if (!isReplaying) {
+            history.record(operation);
+        }
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        if (!oldPersons.equals(persons)) {
+            record(new PersonsReplaced(oldPersons, new ArrayList<>(persons)));
+            changeListener.personsReplaced();
+        }
+    }
+
+    @Override
+    public void setSchedule(List<Activity> activities) {
+        List<Activity> oldActivities = new ArrayList<>(getActivityList());
+        super.setSchedule(activities);
+        if (!oldActivities.equals(getActivityList())) {
+            record(new ScheduleReplaced(oldActivities, new ArrayList<>(activities)));
+            changeListener.scheduleReplaced();
+        }
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        record(new PersonAdded(p));
+        changeListener.personAdded(p);
+    }
+
+    @Override
+    void insertPerson(int index, Person p) {
+        super.insertPerson(index, p);
+        changeListener.personAdded(p);
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        int index = indexOfPerson(target);
+        Person storedTarget = index == -1 ? target : getPersonList().get(index);
+        super.updatePerson(target, editedPerson);
+        if (!storedTarget.equals(editedPerson)) {
+            record(new PersonUpdated(storedTarget, editedPerson, index));
+            changeListener.personUpdated(storedTarget, editedPerson);
+        }
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        Person storedKey = index == -1 ? key : getPersonList().get(index);
+        super.removePerson(key);
+        record(new PersonRemoved(storedKey, index));
+        changeListener.personRemoved(storedKey);
+    }
+
+    @Override
+    public void addActivity(Activity activity) {
+        super.addActivity(activity);
+        record(new ActivityAdded(activity));
+        changeListener.activityAdded(activity);
+    }
+
+    @Override
+    void insertActivity(int index, Activity activity) {
+        super.insertActivity(index, activity);
+        changeListener.activityAdded(activity);
+    }
+
+    @Override
+    public void deleteActivity(Activity activity) {
+        int index = indexOfActivity(activity);
+        super.deleteActivity(activity);
+        record(new ActivityDeleted(activity, index));
+        changeListener.activityRemoved(activity);
+    }
+
+    @Override
+    public void updateActivity(Activity target, Activity editedActivity) {
+        super.updateActivity(target, editedActivity);
+        if (!target.equals(editedActivity)) {
+            record(new ActivityUpdated(target, editedActivity));
+            changeListener.activityUpdated(target, editedActivity);
+        }
     }
 
     @Override
@@ -85,8 +235,663 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && history.equals(otherVersionedAddressBook.history);
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, that {@code person} takes up, from the lengths of its values.
+     */
+    private static long estimateSizeBytes(Person person) {
+        long length = lengthOf(person.getName().fullName) + lengthOf(person.getPhone().value)
+                + lengthOf(person.getEmail().value) + lengthOf(person.getAddress().value)
+                + lengthOf(person.getPosition().value) + lengthOf(person.getKpi().value)
+                + lengthOf(person.getNote().value);
+        for (Tag tag : person.getTags()) {
+            length += lengthOf(tag.tagName);
+        }
+        return 256 + 2L * length;
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, that {@code activity} takes up.
+     */
+    private static long estimateSizeBytes(Activity activity) {
+        return 96 + 2L * activity.getActivityName().length();
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Listens for the persons and activities changed in the address book, whether by a command or by {@code undo()}
+     * and {@code redo()}. Every method does nothing by default.
+     */
+    public interface ChangeListener {
+        default void personAdded(Person person) {}
+
+        default void personRemoved(Person person) {}
+
+        default void personUpdated(Person target, Person editedPerson) {}
+
+        /**
+         * Called when the whole person list was replaced, such as by a clear or by undoing one.
+         */
+        default void personsReplaced() {}
+
+        default void activityAdded(Activity activity) {}
+
+        default void activityRemoved(Activity activity) {}
+
+        default void activityUpdated(Activity target, Activity editedActivity) {}
+
+        /**
+         * Called when the whole schedule was replaced.
+         */
+        default void scheduleReplaced() {}
+    }
+
+    /**
+     * The history of the address book, which records the changes made to it and undoes and redoes its commits.
+     */
+    interface History {
+        /**
+         * Forgets every commit, so that the current state is the only one.
+         */
+        void clear();
+
+        /**
+         * Records {@code operation} as made since the last commit.
+         */
+        void record(Operation operation);
+
+        /**
+         * Saves the changes made since the last commit.
+         */
+        void commit();
+
+        boolean canUndo();
+
+        boolean canRedo();
+
+        /**
+         * Restores the address book to the state before the last commit, dropping the changes made since.
+         */
+        void undo();
+
+        /**
+         * Restores the address book to the state after the next undone commit, dropping the changes made since the
+         * last commit.
+         */
+        void redo();
+    }
+
+    /**
+     * A history that records the operations made by each commit, and reverts or applies them again.
+     */
+    private class OperationHistory implements History {
+        private final long limitBytes;
+        private final List<HistoryEntry> entries = new ArrayList<>();
+        private List<Operation> pendingOperations = new ArrayList<>();
+        private int currentStatePointer;
+        private long sizeBytes;
+
+        private OperationHistory(long limitBytes) {
+            this.limitBytes = limitBytes;
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+            pendingOperations = new ArrayList<>();
+            currentStatePointer = 0;
+            sizeBytes = 0;
+        }
+
+        @Override
+        public void record(Operation operation) {
+            pendingOperations.add(operation);
+        }
+
+        @Override
+        public void commit() {
+            removeEntriesAfterCurrentPointer();
+            HistoryEntry entry = new HistoryEntry(pendingOperations);
+            pendingOperations = new ArrayList<>();
+            entries.add(entry);
+            sizeBytes += entry.sizeBytes;
+            currentStatePointer++;
+            evictOldestEntries();
+        }
+
+        /**
+         * Removes the undone entries from the history.
+         */
+        private void removeEntriesAfterCurrentPointer() {
+            List<HistoryEntry> undoneEntries = entries.subList(currentStatePointer, entries.size());
+            for (HistoryEntry entry : undoneEntries) {
+                sizeBytes -= entry.sizeBytes;
+            }
+            undoneEntries.clear();
+        }
+
+        /**
+         * Removes the oldest entries until the history is within its limit, always keeping the newest entry so that
+         * the last command can be undone.
+         */
+        private void evictOldestEntries() {
+            int evictedCount = 0;
+            while (sizeBytes > limitBytes && evictedCount < entries.size() - 1) {
+                sizeBytes -= entries.get(evictedCount).sizeBytes;
+                evictedCount++;
+            }
+            if (evictedCount == 0) {
+                return;
+            }
+            entries.subList(0, evictedCount).clear();
+            currentStatePointer -= evictedCount;
+            logger.info(String.format("Evicted %d oldest undo history entries to keep the history within %d bytes",
+                    evictedCount, limitBytes));
+        }
+
+        @Override
+        public boolean canUndo() {
+            return currentStatePointer > 0;
+        }
+
+        @Override
+        public boolean canRedo() {
+            return currentStatePointer < entries.size();
+        }
+
+        @Override
+        public void undo() {
+            revertPendingOperations();
+            currentStatePointer--;
+            revert(entries.get(currentStatePointer).operations);
+        }
+
+        @Override
+        public void redo() {
+            revertPendingOperations();
+            List<Operation> operations = entries.get(currentStatePointer).operations;
+            currentStatePointer++;
+            replay(() -> operations.forEach(operation -> operation.apply(VersionedAddressBook.this)));
+        }
+
+        /**
+         * Reverts the changes made since the last commit.
+         */
+        private void revertPendingOperations() {
+            List<Operation> operations = pendingOperations;
+            pendingOperations = new ArrayList<>();
+            revert(operations);
+        }
+
+        /**
+         * Reverts {@code operations}, in reverse order.
+         */
+        private void revert(List<Operation> operations) {
+            replay(() -> {
+                for (int i = operations.size() - 1; i >= 0; i--) {
+                    operations.get(i).revert(VersionedAddressBook.this);
+                }
+            });
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof OperationHistory // instanceof handles nulls
+                    && entries.equals(((OperationHistory) other).entries)
+                    && currentStatePointer == ((OperationHistory) other).currentStatePointer);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entries, currentStatePointer);
+        }
+    }
+
+    /**
+     * The changes made by one commit.
+     */
+    private static class HistoryEntry {
+        private final List<Operation> operations;
+        private final long sizeBytes;
+
+        private HistoryEntry(List<Operation> operations) {
+            this.operations = Collections.unmodifiableList(operations);
+            long size = 64;
+            for (Operation operation : operations) {
+                size += operation.estimateSizeBytes();
+            }
+            this.sizeBytes = size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof HistoryEntry // instanceof handles nulls
+                    && operations.equals(((HistoryEntry) other).operations));
+        }
+
+        @Override
+        public int hashCode() {
+            return operations.hashCode();
+        }
+    }
+
+    /**
+     * A change to the address book that can be applied and reverted.
+     */
+    interface Operation {
+        /**
+         * Makes the change to {@code addressBook}.
+         */
+        void apply(VersionedAddressBook addressBook);
+
+        /**
+         * Undoes the change to {@code addressBook}.
+         */
+        void revert(VersionedAddressBook addressBook);
+
+        /**
+         * Returns {@code persons}, the persons before the change, as they are after it.
+         */
+        default PersistentList<Person> applyTo(PersistentList<Person> persons) {
+            return persons;
+        }
+
+        /**
+         * Returns true if the change is to the activities.
+         */
+        default boolean isActivityChange() {
+            return false;
+        }
+
+        long estimateSizeBytes();
+    }
+
+    /**
+     * The addition of a person to the end of the person list.
+     */
+    private static class PersonAdded implements Operation {
+        private final Person person;
+
+        private PersonAdded(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.addPerson(person);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public PersistentList<Person> applyTo(PersistentList<Person> persons) {
+            return persons.add(person);
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            return VersionedAddressBook.estimateSizeBytes(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonAdded // instanceof handles nulls
+                    && person.equals(((PersonAdded) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return person.hashCode();
+        }
+    }
+
+    /**
+     * The removal of a person from a position in the person list.
+     */
+    private static class PersonRemoved implements Operation {
+        private final Person person;
+        private final int index;
+
+        private PersonRemoved(Person person, int index) {
+            this.person = person;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.insertPerson(index, person);
+        }
+
+        @Override
+        public PersistentList<Person> applyTo(PersistentList<Person> persons) {
+            return persons.remove(index);
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            return VersionedAddressBook.estimateSizeBytes(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonRemoved // instanceof handles nulls
+                    && person.equals(((PersonRemoved) other).person)
+                    && index == ((PersonRemoved) other).index);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, index);
+        }
+    }
+
+    /**
+     * The replacement of a person at a position in the person list by an edited person.
+     */
+    private static class PersonUpdated implements Operation {
+        private final Person target;
+        private final Person editedPerson;
+        private final int index;
+
+        private PersonUpdated(Person target, Person editedPerson, int index) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.updatePerson(target, editedPerson);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.updatePerson(editedPerson, target);
+        }
+
+        @Override
+        public PersistentList<Person> applyTo(PersistentList<Person> persons) {
+            return persons.set(index, editedPerson);
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            return VersionedAddressBook.estimateSizeBytes(target)
+                    + VersionedAddressBook.estimateSizeBytes(editedPerson);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonUpdated // instanceof handles nulls
+                    && target.equals(((PersonUpdated) other).target)
+                    && editedPerson.equals(((PersonUpdated) other).editedPerson)
+                    && index == ((PersonUpdated) other).index);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, editedPerson, index);
+        }
+    }
+
+    /**
+     * The replacement of the whole person list.
+     */
+    private static class PersonsReplaced implements Operation {
+        private final List<Person> oldPersons;
+        private final List<Person> newPersons;
+
+        private PersonsReplaced(List<Person> oldPersons, List<Person> newPersons) {
+            this.oldPersons = oldPersons;
+            this.newPersons = newPersons;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.setPersonsAndTags(newPersons);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.setPersonsAndTags(oldPersons);
+        }
+
+        @Override
+        public PersistentList<Person> applyTo(PersistentList<Person> persons) {
+            return PersistentList.of(newPersons);
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            long size = 0;
+            for (Person person : oldPersons) {
+                size += VersionedAddressBook.estimateSizeBytes(person);
+            }
+            for (Person person : newPersons) {
+                size += VersionedAddressBook.estimateSizeBytes(person);
+            }
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonsReplaced // instanceof handles nulls
+                    && oldPersons.equals(((PersonsReplaced) other).oldPersons)
+                    && newPersons.equals(((PersonsReplaced) other).newPersons));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(oldPersons, newPersons);
+        }
+    }
+
+    /**
+     * The addition of an activity to the schedule.
+     */
+    private static class ActivityAdded implements Operation {
+        private final Activity activity;
+
+        private ActivityAdded(Activity activity) {
+            this.activity = activity;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.addActivity(activity);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.deleteActivity(activity);
+        }
+
+        @Override
+        public boolean isActivityChange() {
+            return true;
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            return VersionedAddressBook.estimateSizeBytes(activity);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ActivityAdded // instanceof handles nulls
+                    && activity.equals(((ActivityAdded) other).activity));
+        }
+
+        @Override
+        public int hashCode() {
+            return activity.hashCode();
+        }
+    }
+
+    /**
+     * The deletion of an activity from a position among the activities on its date.
+     */
+    private static class ActivityDeleted implements Operation {
+        private final Activity activity;
+        private final int index;
+
+        private ActivityDeleted(Activity activity, int index) {
+            this.activity = activity;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.deleteActivity(activity);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.insertActivity(index, activity);
+        }
+
+        @Override
+        public boolean isActivityChange() {
+            return true;
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            return VersionedAddressBook.estimateSizeBytes(activity);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ActivityDeleted // instanceof handles nulls
+                    && activity.equals(((ActivityDeleted) other).activity)
+                    && index == ((ActivityDeleted) other).index);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(activity, index);
+        }
+    }
+
+    /**
+     * The replacement of an activity by an edited activity on the same date.
+     */
+    private static class ActivityUpdated implements Operation {
+        private final Activity target;
+        private final Activity editedActivity;
+
+        private ActivityUpdated(Activity target, Activity editedActivity) {
+            this.target = target;
+            this.editedActivity = editedActivity;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.updateActivity(target, editedActivity);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.updateActivity(editedActivity, target);
+        }
+
+        @Override
+        public boolean isActivityChange() {
+            return true;
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            return VersionedAddressBook.estimateSizeBytes(target)
+                    + VersionedAddressBook.estimateSizeBytes(editedActivity);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ActivityUpdated // instanceof handles nulls
+                    && target.equals(((ActivityUpdated) other).target)
+                    && editedActivity.equals(((ActivityUpdated) other).editedActivity));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, editedActivity);
+        }
+    }
+
+    /**
+     * The replacement of the whole schedule.
+     */
+    private static class ScheduleReplaced implements Operation {
+        private final List<Activity> oldActivities;
+        private final List<Activity> newActivities;
+
+        private ScheduleReplaced(List<Activity> oldActivities, List<Activity> newActivities) {
+            this.oldActivities = oldActivities;
+            this.newActivities = newActivities;
+        }
+
+        @Override
+        public void apply(VersionedAddressBook addressBook) {
+            addressBook.setSchedule(newActivities);
+        }
+
+        @Override
+        public void revert(VersionedAddressBook addressBook) {
+            addressBook.setSchedule(oldActivities);
+        }
+
+        @Override
+        public boolean isActivityChange() {
+            return true;
+        }
+
+        @Override
+        public long estimateSizeBytes() {
+            long size = 0;
+            for (Activity activity : oldActivities) {
+                size += VersionedAddressBook.estimateSizeBytes(activity);
+            }
+            for (Activity activity : newActivities) {
+                size += VersionedAddressBook.estimateSizeBytes(activity);
+            }
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ScheduleReplaced // instanceof handles nulls
+                    && oldActivities.equals(((ScheduleReplaced) other).oldActivities)
+                    && newActivities.equals(((ScheduleReplaced) other).newActivities));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(oldActivities, newActivities);
+        }
     }
 
     /**
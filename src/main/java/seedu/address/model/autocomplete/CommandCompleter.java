@@ -87,6 +87,7 @@ public class CommandCompleter implements TextPrediction {
         commandList.add(CliSyntax.COMMAND_SNAPSHOTS);
         commandList.add(CliSyntax.COMMAND_IMPORT);
         commandList.add(CliSyntax.COMMAND_EXPORT);
+        commandList.add(CliSyntax.COMMAND_SCHEDULE);
         commandList.add(CliSyntax.COMMAND_SCHEDULE_ADD);
         commandList.add(CliSyntax.COMMAND_SCHEDULE_EDIT);
         commandList.add(CliSyntax.COMMAND_SCHEDULE_DELETE);
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +20,8 @@ public class Address {
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -38,6 +42,14 @@ public class Address {
         return test.matches(ADDRESS_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance that equals {@code address}, so that persons with the same address share one
+     * instance.
+     */
+    public static Address intern(Address address) {
+        return INTERNER.intern(address);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,32 +0,0 @@
-//@@author lws803
-package seedu.address.model.person;
-
-import java.util.List;
-import java.util.function.Predicate;
-
-import seedu.address.commons.util.StringUtil;
-
-/**
- * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
- */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
-    private final List<String> keywords;
-
-    public AddressContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
-    }
-
-    @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof AddressContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((AddressContainsKeywordsPredicate) other).keywords)); // state check
-    }
-
-}
@@ -8,204 +8,100 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
-import javafx.collections.ObservableList;
-
-import seedu.address.commons.util.HammingDistanceUtil;
-import seedu.address.commons.util.LevenshteinDistanceUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 
 /**
  * To generate a list of closest matches
- * Description: We run thru all arguments given together will all the names
- * (First and last)
- * Then attach a Levensthein distance to each of them to form a pair
- * The pairs are then stored in a treemap which we will generate another list
- * from the first few
+ * Description: We find the words of the searched attribute of all persons that are closest to the arguments given,
+ * by their Levensthein distance, and approve those within one of the closest distance found.
+ * Phones and KPIs are matched by prefix instead, and names searched by sound are matched by their phonetic codes.
+ * The words are looked up in the model's index of the distinct words of each attribute, which only compares the
+ * arguments with the words that can be close to them, instead of with every word of every person.
  */
 public class ClosestMatchList {
-    private int lowestDist = Integer.MAX_VALUE;
-    private List<String> approvedNames = new ArrayList<String>();
-    private Map<String, Integer> discoveredNames = new TreeMap<String, Integer>();
+    private final SearchableField field;
+    private final List<String> approvedNames = new ArrayList<>();
 
     /**
-     * Pair of integer and string
-     */
-    private static class Pair {
-        private int dist;
-        private String nameSegment;
-
-        private Pair(int a, String b) {
-            this.dist = a;
-            this.nameSegment = b;
-        }
-
-        private int getDist () {
-            return this.dist;
-        }
-
-        private String getNameSegment () {
-            return nameSegment;
-        }
-    }
-
-    private Set <Pair> nameMap = new TreeSet<Pair>(new Comparator<Pair>() {
-        @Override
-        public int compare(Pair o1, Pair o2) {
-            if (o1.getDist() - o2.getDist() == 0) {
-                if (o1.getDist() == o2.getDist()) {
-                    return 1;
-                } else {
-                    return o1.getNameSegment().compareTo(o2.getNameSegment());
-                }
-            }
-            return o1.getDist() - o2.getDist();
-        }
-    });
-
-
-    /**
-     * Filters and generates maps from names from model
-     * and arguments
+     * Finds the words of the attribute of {@code type} that closely match {@code searchKeys} in {@code model}
      */
     public ClosestMatchList (Model model, Prefix type, String[] searchKeys) {
-        ObservableList<Person> listToFilter;
-        listToFilter = model.getAddressBook().getPersonList();
-
-        for (Person person: listToFilter) {
-            generateNameMapFromAttrib(searchKeys, person, type);
-        }
-
-        addToApprovedNamesList();
-    }
+        field = toSearchableField(type);
+        List<String> keywords = Arrays.asList(searchKeys);
+        Map<String, Integer> discoveredNames = new LinkedHashMap<>();
 
-    /**
-     * Enum for choosing the algorithm to use
-     */
-    private enum Algorithm {
-        Levensthein, Hamming
-    }
-
-
-    /**
-     * Bulk of the computation
-     * Runs thru model and stores the pairs in a tree out of
-     * similarity indexes using levensthein distances together with nameSegment
-     */
-    private void generateNameMapFromAttrib (String[] searchKey, Person person, Prefix myPrefix) {
-        String compareString = null;
-        int threshold = Integer.MAX_VALUE;
-        Algorithm algorithm = Algorithm.Levensthein;
-
-        if (myPrefix == PREFIX_PHONE) {
-            compareString = person.getPhone().value;
-            threshold = 0;
-            algorithm = Algorithm.Hamming;
-
-        } else if (myPrefix == PREFIX_NAME) {
-
-            compareString = person.getName().fullName;
-
-        } else if (myPrefix == PREFIX_EMAIL) {
-            compareString = person.getEmail().value;
-        } else if (myPrefix == PREFIX_ADDRESS) {
-            compareString = person.getAddress().value;
-
-        } else if (myPrefix == PREFIX_POSITION) {
-            if (person.getPosition().value != null) {
-                compareString = person.getPosition().value;
+        if (type == PREFIX_SOUNDS_LIKE) {
+            for (String nameSegment : model.findNamesSoundingLike(keywords)) {
+                discoveredNames.put(nameSegment, 0);
             }
-        } else if (myPrefix == PREFIX_NOTE) {
-            if (person.getNote().value != null) {
-                compareString = person.getNote().value;
+        } else if (field == SearchableField.PHONE || field == SearchableField.KPI) {
+            for (String nameSegment : model.findWordsSharingPrefix(field, keywords)) {
+                discoveredNames.put(nameSegment, 0);
             }
-        } else if (myPrefix == PREFIX_TAG) {
-            if (person.getStringTags() != null) {
-                compareString = person.getStringTags();
+        } else {
+            int lowestDist = Integer.MAX_VALUE;
+            for (String nameArg : searchKeys) {
+                lowestDist = Math.min(lowestDist, model.getClosestWordDistance(field, nameArg));
             }
-        } else if (myPrefix == PREFIX_KPI) {
-            algorithm = Algorithm.Hamming;
-            threshold = 0;
-            if (person.getKpi().value != null) {
-                compareString = person.getKpi().value;
+            if (lowestDist != Integer.MAX_VALUE) {
+                discoveredNames = model.findWordsWithin(field, keywords, lowestDist + 1);
             }
         }
-        generateNameMap(searchKey, compareString, threshold, algorithm);
-    }
 
+        addToApprovedNamesList(discoveredNames);
+    }
 
     /**
-     * Generate the namemap from the compareString provided
-     * @param searchKey obtained from arguments in FindCommand
-     * @param compareString obtained from personList as per attribute
+     * Returns the field of a person that {@code type} searches.
      */
-    private void generateNameMap(String[] searchKey, String compareString, Integer threshold, Algorithm algorithm) {
-        if (compareString == null) {
-            return;
+    private static SearchableField toSearchableField(Prefix type) {
+        if (type == PREFIX_PHONE) {
+            return SearchableField.PHONE;
+        } else if (type == PREFIX_NAME || type == PREFIX_SOUNDS_LIKE) {
+            return SearchableField.NAME;
+        } else if (type == PREFIX_ADDRESS) {
+            return SearchableField.ADDRESS;
+        } else if (type == PREFIX_EMAIL) {
+            return SearchableField.EMAIL;
+        } else if (type == PREFIX_NOTE) {
+            return SearchableField.NOTE;
+        } else if (type == PREFIX_POSITION) {
+            return SearchableField.POSITION;
+        } else if (type == PREFIX_TAG) {
+            return SearchableField.TAGS;
+        } else if (type == PREFIX_KPI) {
+            return SearchableField.KPI;
         }
-        String[] stringSplitted = compareString.split("\\s+");
-
-        for (String nameSegment: stringSplitted) {
-
-            for (String nameArg: searchKey) {
-
-                Pair distNamePair = null;
-                int dist = Integer.MAX_VALUE;
-
-                if (algorithm == Algorithm.Levensthein) {
-                    dist = LevenshteinDistanceUtil.levenshteinDistance(nameArg.toLowerCase(),
-                            nameSegment.toLowerCase());
-
-                    if (dist <= threshold) {
-                        distNamePair = new Pair(dist, nameSegment);
-                    }
-
-                } else if (algorithm == Algorithm.Hamming) {
-                    dist = HammingDistanceUtil.getDistance(nameArg, nameSegment);
-
-                    if (dist <= threshold) {
-                        distNamePair = new Pair(threshold, nameSegment);
-                    }
-                }
-
-                if (distNamePair != null) {
-                    if (!discoveredNames.containsKey(nameSegment)) {
-                        nameMap.add(distNamePair);
-                        discoveredNames.put(nameSegment, dist);
-                    } else if (discoveredNames.get(nameSegment) > dist) {
-                        discoveredNames.replace(nameSegment, dist); // Replace with the new dist
-                        nameMap.add(distNamePair); // Check to see if this will replace
-                    }
-
-                    if (dist < lowestDist) {
-                        lowestDist = dist;
-                    }
-                }
-            }
+        throw new IllegalArgumentException("Cannot search by " + type);
+    }
 
+    /**
+     * Add the discovered names to the approved list, closest first
+     * The sort is stable, so names as close as each other stay in the order they were discovered
+     */
+    private void addToApprovedNamesList(Map<String, Integer> discoveredNames) {
+        List<Map.Entry<String, Integer>> pairs = new ArrayList<>(discoveredNames.entrySet());
+        pairs.sort(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Integer> pair : pairs) {
+            approvedNames.add(pair.getKey());
         }
     }
+
     /**
-     * Add the contents in the tree to a name list
+     * Gets the field of a person that is searched
      */
-    private void addToApprovedNamesList() {
-        for (Pair pair: nameMap) {
-            if (pair.getDist() - lowestDist > 1) {
-                // Break the loop when distances get too far
-                return;
-            }
-            approvedNames.add(pair.getNameSegment());
-        }
+    public SearchableField getField() {
+        return field;
     }
 
     /**
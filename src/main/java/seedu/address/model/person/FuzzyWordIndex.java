@@ -0,0 +1,273 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.PhoneticUtil;
+
+/**
+ * An index of the distinct words of each {@link SearchableField} of the persons, for finding the words that are close
+ * to a word that is searched for, kept up to date as persons are added, updated and removed.
+ *
+ * The words of a field are kept in a {@link WordBkTree} in lower case, so the words within an edit distance of a word
+ * are found without comparing it to every word, and in a sorted map as they are written, so the words that a word is a
+ * prefix of are found by a range lookup. A word is only dropped from the index once no person has it, and the words
+ * found are given in the order they were first added, which for a loaded address book is the order of its persons.
+ *
+ * The words of names are also kept under their {@link PhoneticUtil} codes, so the names that sound like a word are
+ * found by looking up the codes of the word.
+ */
+public class FuzzyWordIndex {
+
+    private final Map<SearchableField, Vocabulary> vocabularies = new EnumMap<>(SearchableField.class);
+
+    public FuzzyWordIndex() {
+        for (SearchableField field : SearchableField.values()) {
+            vocabularies.put(field, new Vocabulary(field == SearchableField.NAME));
+        }
+    }
+
+    /**
+     * Adds the words of each field of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (SearchableField field : SearchableField.values()) {
+            Vocabulary vocabulary = vocabularies.get(field);
+            for (String word : person.getWords(field)) {
+                vocabulary.add(word);
+            }
+        }
+    }
+
+    /**
+     * Removes the words of each field of {@code person} that no other person has.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (SearchableField field : SearchableField.values()) {
+            Vocabulary vocabulary = vocabularies.get(field);
+            for (String word : person.getWords(field)) {
+                vocabulary.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        for (Vocabulary vocabulary : vocabularies.values()) {
+            vocabulary.clear();
+        }
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Makes the words of each field be searched in parallel once the field has at least {@code parallelThreshold}
+     * distinct words.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        for (Vocabulary vocabulary : vocabularies.values()) {
+            vocabulary.tree.setParallelThreshold(parallelThreshold);
+        }
+    }
+
+    /**
+     * Returns the words of {@code field}, as they are written, whose Levenshtein distance from any of {@code words} is
+     * at most {@code maxDistance}, ignoring case, with their distances from the closest of {@code words}.
+     * The words are in the order they were first added to the index.
+     */
+    public Map<String, Integer> findWordsWithin(SearchableField field, Collection<String> words, int maxDistance) {
+        requireNonNull(field);
+        requireNonNull(words);
+        Vocabulary vocabulary = vocabularies.get(field);
+        Map<String, Integer> matches = new HashMap<>();
+        for (String word : words) {
+            vocabulary.tree.forEachWithin(toLowerCase(word), maxDistance, (match, distance) -> {
+                for (String spelling : vocabulary.spellings.get(match)) {
+                    matches.merge(spelling, distance, Math::min);
+                }
+            });
+        }
+        Map<String, Integer> orderedMatches = new LinkedHashMap<>();
+        for (String match : vocabulary.inOrderAdded(matches.keySet())) {
+            orderedMatches.put(match, matches.get(match));
+        }
+        return orderedMatches;
+    }
+
+    /**
+     * Returns the Levenshtein distance, ignoring case, from {@code word} to the closest word of {@code field}, or
+     * {@code Integer.MAX_VALUE} if no person has any word in {@code field}.
+     */
+    public int getClosestDistance(SearchableField field, String word) {
+        requireNonNull(field);
+        requireNonNull(word);
+        return vocabularies.get(field).tree.closestDistance(toLowerCase(word));
+    }
+
+    /**
+     * Returns the words of {@code field} that start with any of {@code words} or that any of {@code words} starts with,
+     * matching case, in the order they were first added to the index.
+     */
+    public List<String> findWordsSharingPrefix(SearchableField field, Collection<String> words) {
+        requireNonNull(field);
+        requireNonNull(words);
+        NavigableMap<String, Usage> usages = vocabularies.get(field).usages;
+        Set<String> matches = new HashSet<>();
+        for (String word : words) {
+            for (int length = 1; length < word.length(); length++) {
+                if (usages.containsKey(word.substring(0, length))) {
+                    matches.add(word.substring(0, length));
+                }
+            }
+            for (String longerWord : usages.tailMap(word, true).keySet()) {
+                if (!longerWord.startsWith(word)) {
+                    break;
+                }
+                matches.add(longerWord);
+            }
+        }
+        return vocabularies.get(field).inOrderAdded(matches);
+    }
+
+    /**
+     * Returns the words of the persons' names that sound like any of {@code words}, as they are written, in the order
+     * they were first added to the index.
+     */
+    public List<String> findNamesSoundingLike(Collection<String> words) {
+        requireNonNull(words);
+        Vocabulary vocabulary = vocabularies.get(SearchableField.NAME);
+        Set<String> matches = new HashSet<>();
+        for (String word : words) {
+            for (String code : PhoneticUtil.encode(word)) {
+                matches.addAll(vocabulary.wordsByCode.getOrDefault(code, Collections.emptySet()));
+            }
+        }
+        return vocabulary.inOrderAdded(matches);
+    }
+
+    private static String toLowerCase(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The distinct words of one field.
+     */
+    private static class Vocabulary {
+        /** How each word is used across the persons, as it is written. */
+        private final NavigableMap<String, Usage> usages = new TreeMap<>();
+        /** The ways each word in the tree is written, by the word in lower case. */
+        private final Map<String, Set<String>> spellings = new HashMap<>();
+        private final WordBkTree tree = new WordBkTree();
+        /** The words, as they are written, by each of their phonetic codes, or null if the words are not coded. */
+        private final Map<String, Set<String>> wordsByCode;
+        private long wordsAdded;
+
+        Vocabulary(boolean isPhonetic) {
+            wordsByCode = isPhonetic ? new HashMap<>() : null;
+        }
+
+        /**
+         * Counts one more use of {@code word}, adding it if it is new.
+         */
+        void add(String word) {
+            Usage usage = usages.get(word);
+            if (usage != null) {
+                usage.count++;
+                return;
+            }
+            usages.put(word, new Usage(wordsAdded++));
+            String lowerCaseWord = toLowerCase(word);
+            spellings.computeIfAbsent(lowerCaseWord, unused -> new HashSet<>()).add(word);
+            tree.add(lowerCaseWord);
+            if (wordsByCode != null) {
+                for (String code : PhoneticUtil.encode(word)) {
+                    wordsByCode.computeIfAbsent(code, unused -> new HashSet<>()).add(word);
+                }
+            }
+        }
+
+        /**
+         * Counts one less use of {@code word}, removing it once it is no longer used.
+         */
+        void remove(String word) {
+            Usage usage = usages.get(word);
+            if (usage == null) {
+                return;
+            }
+            if (--usage.count > 0) {
+                return;
+            }
+            usages.remove(word);
+            if (wordsByCode != null) {
+                for (String code : PhoneticUtil.encode(word)) {
+                    Set<String> wordsWithCode = wordsByCode.get(code);
+                    wordsWithCode.remove(word);
+                    if (wordsWithCode.isEmpty()) {
+                        wordsByCode.remove(code);
+                    }
+                }
+            }
+            String lowerCaseWord = toLowerCase(word);
+            Set<String> wordSpellings = spellings.get(lowerCaseWord);
+            wordSpellings.remove(word);
+            if (wordSpellings.isEmpty()) {
+                spellings.remove(lowerCaseWord);
+                tree.remove(lowerCaseWord);
+            }
+        }
+
+        /**
+         * Returns {@code words}, which are all in the vocabulary, in the order they were first added.
+         */
+        List<String> inOrderAdded(Collection<String> words) {
+            List<String> ordered = new ArrayList<>(words);
+            ordered.sort(Comparator.comparingLong(word -> usages.get(word).order));
+            return ordered;
+        }
+
+        /**
+         * Removes every word.
+         */
+        void clear() {
+            usages.clear();
+            spellings.clear();
+            tree.clear();
+            if (wordsByCode != null) {
+                wordsByCode.clear();
+            }
+            wordsAdded = 0;
+        }
+    }
+
+    /**
+     * The number of uses of a word, and when it was first added, which orders the words that are found.
+     */
+    private static class Usage {
+        private final long order;
+        private int count = 1;
+
+        Usage(long order) {
+            this.order = order;
+        }
+    }
+}
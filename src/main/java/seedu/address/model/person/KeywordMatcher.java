@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Matches keywords against the words of a field, ignoring case but requiring a full word match, as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)} does.
+ * The keywords are lower-cased once, so matching them against the words of a {@code Person} allocates nothing.
+ */
+class KeywordMatcher {
+    private final String[] keywords;
+    /** Why the keywords cannot be matched, or null if each of them is a single word. */
+    private final String invalidKeywordsMessage;
+
+    /**
+     * Creates a matcher of {@code keywords}, each of which must be a single word when the matcher is used.
+     */
+    KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new String[keywords.size()];
+        String message = null;
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i).trim();
+            if (message == null && keyword.isEmpty()) {
+                message = "Word parameter cannot be empty";
+            } else if (message == null && StringUtil.toLowerCaseWords(keyword).length != 1) {
+                message = "Word parameter should be a single word";
+            }
+            this.keywords[i] = keyword.toLowerCase(Locale.ROOT);
+        }
+        invalidKeywordsMessage = message;
+    }
+
+    /**
+     * Returns true if any keyword equals one of {@code lowerCaseWords}, which must be in lower case.
+     *
+     * @throws IllegalArgumentException if a keyword is empty or has more than one word.
+     */
+    boolean matchesAny(String[] lowerCaseWords) {
+        checkArgument(invalidKeywordsMessage == null, invalidKeywordsMessage);
+        for (String keyword : keywords) {
+            for (String word : lowerCaseWords) {
+                if (keyword.equals(word)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
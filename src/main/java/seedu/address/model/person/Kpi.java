@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's KPI(Key Performance Index) in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidKpi(String)}
@@ -14,7 +16,12 @@ public class Kpi {
 
     public static final String MESSAGE_KPI_CONSTRAINTS = "KPI score should be a number from 0 - 5";
     public static final String KPI_VALIDATION_REGEX = "([0-4]{1}(\\.[0-9]+)?)|([5]{1}(\\.[0]+)?)";
+
+    private static final Interner<Kpi> INTERNER = new Interner<>();
+
     public final String value;
+    /** The score as a number, or NaN if no KPI has been assigned. */
+    public final double score;
 
     /**
      * Constructs a {@code KPI}.
@@ -25,10 +32,12 @@ public class Kpi {
         requireNonNull(kpi);
         checkArgument(isValidKpi(kpi), MESSAGE_KPI_CONSTRAINTS);
         value = kpi;
+        score = Double.parseDouble(kpi);
     }
 
     public Kpi() {
         this.value = null;
+        this.score = Double.NaN;
     }
 
     /**
@@ -48,6 +57,13 @@ public class Kpi {
         return test.matches(KPI_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance that equals {@code kpi}, so that persons with the same KPI share one instance.
+     */
+    public static Kpi intern(Kpi kpi) {
+        return INTERNER.intern(kpi);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -65,7 +81,7 @@ public class Kpi {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Objects.hashCode(value);
     }
 
 }
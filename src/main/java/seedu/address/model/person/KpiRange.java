@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a range of KPI scores, such as {@code >=3.5} or {@code 2-4}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidKpiRange(String)}
+ */
+public class KpiRange {
+
+    public static final String MESSAGE_KPI_RANGE_CONSTRAINTS = "KPI range should be >=SCORE, >SCORE, <=SCORE, <SCORE "
+            + "or LOWEST-HIGHEST, where each score is a number from 0 - 5 and LOWEST is not more than HIGHEST";
+
+    private static final String SCORE_REGEX = "(" + Kpi.KPI_VALIDATION_REGEX + ")";
+    private static final Pattern COMPARISON_FORMAT = Pattern.compile("(?<operator>>=|<=|>|<)\\s*(?<score>"
+            + SCORE_REGEX + ")");
+    private static final Pattern BETWEEN_FORMAT = Pattern.compile("(?<lowest>" + SCORE_REGEX + ")\\s*-\\s*(?<highest>"
+            + SCORE_REGEX + ")");
+
+    public final double lowest;
+    public final boolean isLowestIncluded;
+    public final double highest;
+    public final boolean isHighestIncluded;
+
+    /**
+     * Constructs a {@code KpiRange}.
+     *
+     * @param range A valid KPI range.
+     */
+    public KpiRange(String range) {
+        requireNonNull(range);
+        checkArgument(isValidKpiRange(range), MESSAGE_KPI_RANGE_CONSTRAINTS);
+        String trimmedRange = range.trim();
+        Matcher comparison = COMPARISON_FORMAT.matcher(trimmedRange);
+        if (comparison.matches()) {
+            String operator = comparison.group("operator");
+            double score = Double.parseDouble(comparison.group("score"));
+            boolean isAbove = operator.startsWith(">");
+            boolean isIncluded = operator.endsWith("=");
+            lowest = isAbove ? score : Double.NEGATIVE_INFINITY;
+            isLowestIncluded = !isAbove || isIncluded;
+            highest = isAbove ? Double.POSITIVE_INFINITY : score;
+            isHighestIncluded = isAbove || isIncluded;
+        } else {
+            Matcher between = BETWEEN_FORMAT.matcher(trimmedRange);
+            between.matches();
+            lowest = Double.parseDouble(between.group("lowest"));
+            isLowestIncluded = true;
+            highest = Double.parseDouble(between.group("highest"));
+            isHighestIncluded = true;
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid KPI range.
+     */
+    public static boolean isValidKpiRange(String test) {
+        String trimmedTest = test.trim();
+        if (COMPARISON_FORMAT.matcher(trimmedTest).matches()) {
+            return true;
+        }
+        Matcher between = BETWEEN_FORMAT.matcher(trimmedTest);
+        return between.matches()
+                && Double.parseDouble(between.group("lowest")) <= Double.parseDouble(between.group("highest"));
+    }
+
+    /**
+     * Returns true if a given string looks like an attempt at a KPI range rather than a single KPI score.
+     */
+    public static boolean isKpiRangeSyntax(String test) {
+        return test.contains("<") || test.contains(">") || test.contains("-");
+    }
+
+    @Override
+    public String toString() {
+        return (isLowestIncluded ? "[" : "(") + lowest + ", " + highest + (isHighestIncluded ? "]" : ")");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof KpiRange // instanceof handles nulls
+                && lowest == ((KpiRange) other).lowest
+                && isLowestIncluded == ((KpiRange) other).isLowestIncluded
+                && highest == ((KpiRange) other).highest
+                && isHighestIncluded == ((KpiRange) other).isHighestIncluded); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+}
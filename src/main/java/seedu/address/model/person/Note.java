@@ -4,6 +4,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Note in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidNote(String)}
@@ -15,6 +19,8 @@ public class Note {
 
     public static final String NOTE_VALIDATION_REGEX = "([\\p{Alnum}]|\\.)([\\p{Alnum} ]|\\.\\s*)*";
 
+    private static final Interner<Note> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -52,6 +58,13 @@ public class Note {
         return test.matches(NOTE_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance that equals {@code note}, so that persons with the same note share one instance.
+     */
+    public static Note intern(Note note) {
+        return INTERNER.intern(note);
+    }
+
     /**
      * Format state as text for viewing.
      */
@@ -67,12 +80,12 @@ public class Note {
         }
         return other == this // short circuit if same object
                 || (other instanceof Note // instanceof handles nulls
-                && value.equals(((Note) other).value)); // state check
+                && Objects.equals(value, ((Note) other).value)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Objects.hashCode(value);
     }
 }
 
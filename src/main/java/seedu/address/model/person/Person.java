@@ -1,20 +1,39 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Each person also has an id that stays the same when the person is edited and is saved with the address book, so
+ * that the model can find the person without comparing fields. The id is not part of {@link #equals(Object)}.
+ *
+ * As a person never changes, its hash code and the lower-cased words of its searchable fields are computed once, when
+ * first needed, and kept for later lookups and searches.
  */
 public class Person {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person ids should be positive whole numbers";
+
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
+    /** Shares one tag set among persons with the same tags, as most persons have one of a few combinations. */
+    private static final Interner<Set<Tag>> TAG_SETS = new Interner<>();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -25,14 +44,32 @@ public class Person {
     private final Position position;
     private final Kpi kpi;
     private final Note note;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+
+    /** The lower-cased words of each searchable field, split the first time the person is searched. */
+    private volatile String[][] searchWords;
+    /** The hash code, or 0 if it has not been computed yet. */
+    private int hash;
 
     /**
+     * Creates a new person with an unused id.
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Position position, Kpi kpi,
                   Note note, Set<Tag> tags) {
+        this(NEXT_ID.getAndIncrement(), name, phone, email, address, position, kpi, note, tags);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, such as an edited person or one read from storage.
+     * Every field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Position position, Kpi kpi,
+                  Note note, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -40,7 +77,18 @@ public class Person {
         this.position = position;
         this.kpi = kpi;
         this.note = note;
-        this.tags.addAll(tags);
+        this.tags = TAG_SETS.intern(Collections.unmodifiableSet(new HashSet<>(tags)));
+    }
+
+    /**
+     * Returns true if {@code id} can be the id of a person.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0 && id < Long.MAX_VALUE;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -87,7 +135,66 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns the words of {@code field} in lower case, or no words if the person does not have the field.
+     * The returned array is shared and must not be modified.
+     */
+    public String[] getLowerCaseWords(SearchableField field) {
+        String[][] words = searchWords;
+        if (words == null) {
+            words = splitSearchableFields();
+            searchWords = words;
+        }
+        return words[field.ordinal()];
+    }
+
+    /**
+     * Returns the words of {@code field} as they are written, or no words if the person does not have the field.
+     */
+    public String[] getWords(SearchableField field) {
+        String value = getSearchableValue(field);
+        return value == null ? new String[0] : StringUtil.toWords(value);
+    }
+
+    /**
+     * Returns the lower-cased words of every searchable field, indexed by the ordinal of the field.
+     */
+    private String[][] splitSearchableFields() {
+        String[][] words = new String[SearchableField.values().length][];
+        for (SearchableField field : SearchableField.values()) {
+            String value = getSearchableValue(field);
+            words[field.ordinal()] = value == null ? new String[0] : StringUtil.toLowerCaseWords(value);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the value of {@code field}, or null if the person does not have the field.
+     */
+    private String getSearchableValue(SearchableField field) {
+        switch (field) {
+        case NAME:
+            return name.fullName;
+        case PHONE:
+            return phone.value;
+        case EMAIL:
+            return email.value;
+        case ADDRESS:
+            return address.value;
+        case POSITION:
+            return positionDoesExist() ? position.value : null;
+        case KPI:
+            return kpiDoesExist() ? kpi.value : null;
+        case NOTE:
+            return noteDoesExist() ? note.value : null;
+        case TAGS:
+            return getStringTags();
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
     }
 
     /**
@@ -104,7 +211,7 @@ public class Person {
 
     /**
      * Returns true if both persons have the same identity and data fields.
-     * This defines a stronger notion of equality between two persons.
+     * This defines a stronger notion of equality between two persons, which does not depend on their ids.
      */
     @Override
     public boolean equals(Object other) {
@@ -129,8 +236,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, position, kpi, note, tags);
+        int cachedHash = hash;
+        if (cachedHash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            cachedHash = Objects.hash(name, phone, email, address, position, kpi, note, tags);
+            hash = cachedHash;
+        }
+        return cachedHash;
     }
 
     @Override
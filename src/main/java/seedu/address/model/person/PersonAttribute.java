@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * The attributes of a {@code Person} that can be looked up in a {@link PersonAttributeIndex}.
+ */
+public enum PersonAttribute {
+    PHONE(person -> person.getPhone().value),
+    EMAIL(person -> person.getEmail().value),
+    POSITION(person -> person.positionDoesExist() ? person.getPosition().value : null),
+    KPI(person -> person.kpiDoesExist() ? person.getKpi().value : null);
+
+    private final Function<Person, String> valueOf;
+
+    PersonAttribute(Function<Person, String> valueOf) {
+        this.valueOf = valueOf;
+    }
+
+    /**
+     * Returns the value of this attribute of {@code person}, or null if the person does not have one.
+     */
+    public String valueOf(Person person) {
+        return valueOf.apply(person);
+    }
+}
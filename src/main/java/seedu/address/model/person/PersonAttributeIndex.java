@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes persons by the value of each {@link PersonAttribute}, so that the persons with a given value, or a value
+ * starting with a given prefix, can be found without scanning every person.
+ * Values are compared ignoring case. Persons without a value for an attribute are not indexed under it.
+ * Persons are also indexed by their KPI score, so that the persons with a score in a range can be found in time
+ * proportional to the number of scores in it.
+ */
+public class PersonAttributeIndex {
+
+    private final Map<PersonAttribute, TreeMap<String, Set<Person>>> indexes = new EnumMap<>(PersonAttribute.class);
+    private final TreeMap<Double, Set<Person>> kpiScores = new TreeMap<>();
+
+    public PersonAttributeIndex() {
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            indexes.put(attribute, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Indexes {@code person} under each of its attribute values.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            String key = keyOf(attribute.valueOf(person));
+            if (key != null) {
+                indexes.get(attribute).computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+            }
+        }
+        if (person.kpiDoesExist()) {
+            kpiScores.computeIfAbsent(person.getKpi().score, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (PersonAttribute attribute : PersonAttribute.values()) {
+            String key = keyOf(attribute.valueOf(person));
+            if (key == null) {
+                continue;
+            }
+            TreeMap<String, Set<Person>> index = indexes.get(attribute);
+            Set<Person> persons = index.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                index.remove(key);
+            }
+        }
+        if (person.kpiDoesExist()) {
+            double score = person.getKpi().score;
+            Set<Person> persons = kpiScores.get(score);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                kpiScores.remove(score);
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        for (TreeMap<String, Set<Person>> index : indexes.values()) {
+            index.clear();
+        }
+        kpiScores.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the persons whose {@code attribute} is {@code value}, ignoring case.
+     */
+    public List<Person> find(PersonAttribute attribute, String value) {
+        requireNonNull(attribute);
+        requireNonNull(value);
+        Set<Person> persons = indexes.get(attribute).get(keyOf(value));
+        return persons == null ? Collections.emptyList() : new ArrayList<>(persons);
+    }
+
+    /**
+     * Returns the persons whose {@code attribute} starts with {@code prefix}, ignoring case, in order of value.
+     */
+    public List<Person> findByPrefix(PersonAttribute attribute, String prefix) {
+        requireNonNull(attribute);
+        requireNonNull(prefix);
+        String keyPrefix = keyOf(prefix);
+        List<Person> matches = new ArrayList<>();
+        for (Map.Entry<String, Set<Person>> entry : indexes.get(attribute).tailMap(keyPrefix).entrySet()) {
+            if (!entry.getKey().startsWith(keyPrefix)) {
+                break;
+            }
+            matches.addAll(entry.getValue());
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose KPI score is in {@code range}, in order of score.
+     */
+    public List<Person> findByKpiRange(KpiRange range) {
+        requireNonNull(range);
+        List<Person> matches = new ArrayList<>();
+        if (range.lowest > range.highest) {
+            return matches;
+        }
+        for (Set<Person> persons : kpiScores.subMap(range.lowest, range.isLowestIncluded, range.highest,
+                range.isHighestIncluded).values()) {
+            matches.addAll(persons);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the key that {@code value} is indexed under, or null if there is no value.
+     */
+    private static String keyOf(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
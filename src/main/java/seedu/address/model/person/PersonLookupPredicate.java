@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Tests that a {@code Person} is one of the persons found by a lookup, such as the persons with a tag looked up in an
+ * index. Persons are compared by reference, so testing a person does not compare or hash its fields.
+ *
+ * The persons found are those of the address book at the time of the lookup. A filter that keeps using the predicate
+ * after the persons change, such as the filtered person list, must replace it with {@link #refreshed()}, which looks
+ * the persons up again, so that persons added or edited since are tested against the index too.
+ */
+public class PersonLookupPredicate implements Predicate<Person> {
+    private final Supplier<? extends Collection<Person>> lookup;
+    private final Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public PersonLookupPredicate(Supplier<? extends Collection<Person>> lookup) {
+        this.lookup = requireNonNull(lookup);
+        persons.addAll(lookup.get());
+    }
+
+    /**
+     * Returns a predicate with the same lookup, run again on the persons as they are now.
+     */
+    public PersonLookupPredicate refreshed() {
+        return new PersonLookupPredicate(lookup);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return persons.contains(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonLookupPredicate // instanceof handles nulls
+                && persons.equals(((PersonLookupPredicate) other).persons)); // state check
+    }
+}
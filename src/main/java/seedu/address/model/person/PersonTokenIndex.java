@@ -0,0 +1,221 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An inverted index from each lower-case word of each {@link SearchableField} to the ids of the persons whose field
+ * has that word, kept up to date as persons are added, updated and removed.
+ *
+ * Each word has a posting list of ids in ascending order. The persons with any of several words are found by merging
+ * their posting lists, and the persons with a word in each of several fields by intersecting the merged lists, so a
+ * lookup takes time in proportion to the posting lists it reads rather than to the number of persons.
+ */
+public class PersonTokenIndex {
+
+    private final Map<SearchableField, Map<String, PostingList>> postings = new EnumMap<>(SearchableField.class);
+    private final Map<Long, Person> personsById = new HashMap<>();
+
+    public PersonTokenIndex() {
+        for (SearchableField field : SearchableField.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexes {@code person} under each word of each of its fields.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsById.put(person.getId(), person);
+        for (SearchableField field : SearchableField.values()) {
+            Map<String, PostingList> index = postings.get(field);
+            for (String word : person.getLowerCaseWords(field)) {
+                index.computeIfAbsent(word, unused -> new PostingList()).add(person.getId());
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        personsById.remove(person.getId());
+        for (SearchableField field : SearchableField.values()) {
+            Map<String, PostingList> index = postings.get(field);
+            for (String word : person.getLowerCaseWords(field)) {
+                PostingList ids = index.get(word);
+                if (ids != null && ids.remove(person.getId()) && ids.isEmpty()) {
+                    index.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        for (Map<String, PostingList> index : postings.values()) {
+            index.clear();
+        }
+        personsById.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the persons that have, for every field in {@code wordsByField}, at least one of the words of that field,
+     * ignoring case, in order of id.
+     * Each word is matched as a whole word, as {@link NameContainsKeywordsPredicate} and the other keyword predicates
+     * match them.
+     */
+    public List<Person> find(Map<SearchableField, ? extends Collection<String>> wordsByField) {
+        requireNonNull(wordsByField);
+        long[] ids = null;
+        for (Map.Entry<SearchableField, ? extends Collection<String>> entry : wordsByField.entrySet()) {
+            long[] idsWithAnyWord = union(entry.getKey(), entry.getValue());
+            ids = ids == null ? idsWithAnyWord : intersect(ids, idsWithAnyWord);
+            if (ids.length == 0) {
+                break;
+            }
+        }
+        List<Person> persons = new ArrayList<>(ids == null ? 0 : ids.length);
+        if (ids != null) {
+            for (long id : ids) {
+                persons.add(personsById.get(id));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the ids of the persons with any of {@code words} in {@code field}, in ascending order.
+     */
+    private long[] union(SearchableField field, Collection<String> words) {
+        Map<String, PostingList> index = postings.get(field);
+        long[] ids = new long[0];
+        for (String word : words) {
+            PostingList wordIds = index.get(word.trim().toLowerCase(Locale.ROOT));
+            if (wordIds != null) {
+                ids = merge(ids, ids.length, wordIds.ids, wordIds.size);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids in both {@code first} and {@code second}, which are in ascending order.
+     * Each id of the shorter array is looked up in the longer one by binary search, starting after the last id found.
+     */
+    private static long[] intersect(long[] first, long[] second) {
+        long[] shorter = first.length <= second.length ? first : second;
+        long[] longer = shorter == first ? second : first;
+        long[] common = new long[shorter.length];
+        int count = 0;
+        int from = 0;
+        for (long id : shorter) {
+            int position = Arrays.binarySearch(longer, from, longer.length, id);
+            if (position >= 0) {
+                common[count++] = id;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return Arrays.copyOf(common, count);
+    }
+
+    /**
+     * Returns the ids in either of the first {@code firstSize} ids of {@code first} or the first {@code secondSize}
+     * ids of {@code second}, which are in ascending order, without duplicates.
+     */
+    private static long[] merge(long[] first, int firstSize, long[] second, int secondSize) {
+        long[] merged = new long[firstSize + secondSize];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < firstSize && j < secondSize) {
+            if (first[i] < second[j]) {
+                merged[count++] = first[i++];
+            } else if (first[i] > second[j]) {
+                merged[count++] = second[j++];
+            } else {
+                merged[count++] = first[i++];
+                j++;
+            }
+        }
+        while (i < firstSize) {
+            merged[count++] = first[i++];
+        }
+        while (j < secondSize) {
+            merged[count++] = second[j++];
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * The ids of the persons with a word, in ascending order without duplicates.
+     * Ids are mostly given out in ascending order, so most additions are appended at the end.
+     */
+    private static class PostingList {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Adds {@code id}, if it is not already in the list.
+         */
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertion = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+            ids[insertion] = id;
+            size++;
+        }
+
+        /**
+         * Removes {@code id}, returning true if it was in the list.
+         */
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
@@ -4,6 +4,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's Position in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPosition(String)}
@@ -14,6 +18,8 @@ public class Position {
 
     public static final String POSITION_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Position> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -51,6 +57,14 @@ public class Position {
         return test.matches(POSITION_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance that equals {@code position}, so that persons with the same position share one
+     * instance.
+     */
+    public static Position intern(Position position) {
+        return INTERNER.intern(position);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -63,11 +77,11 @@ public class Position {
         }
         return other == this // short circuit if same object
                 || (other instanceof Position // instanceof handles nulls
-                && value.equals(((Position) other).value)); // state check
+                && Objects.equals(value, ((Position) other).value)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Objects.hashCode(value);
     }
 }
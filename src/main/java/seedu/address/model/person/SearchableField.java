@@ -0,0 +1,8 @@
+package seedu.address.model.person;
+
+/**
+ * The fields of a {@code Person} that can be searched for words with {@link Person#getLowerCaseWords}.
+ */
+public enum SearchableField {
+    NAME, PHONE, EMAIL, ADDRESS, POSITION, KPI, NOTE, TAGS
+}
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,19 +23,23 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of each person is indexed by id, and the id of each person by name, so that finding a person does not
+ * need to scan the list. A person that is the one in the list is found by its id without comparing any fields.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private final Map<Name, Long> ids = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return ids.containsKey(toCheck.getName());
     }
 
     public int size() {
@@ -50,18 +57,75 @@ public class UniquePersonList implements Iterable<Person> {
         return new ArrayList<>(internalList);
     }
 
+    /**
+     * Returns the position of {@code person} in the list, or -1 if no person in the list equals it.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positions.get(person.getId());
+        if (index != null && internalList.get(index) == person) {
+            return index;
+        }
+        Long id = ids.get(person.getName());
+        if (id == null) {
+            return -1;
+        }
+        index = positions.get(id);
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Returns the position of the person with the given {@code id}, or -1 if there is no such person in the list.
+     */
+    public int indexOfId(long id) {
+        Integer index = positions.get(id);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if there is one in the list.
+     */
+    public Optional<Person> getPersonById(long id) {
+        Integer index = positions.get(id);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the person at {@code index} in the list.
+     */
+    public Person get(int index) {
+        return internalList.get(index);
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positions.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
+        index(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person at {@code index} in the list.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd) || positions.containsKey(toAdd.getId())) {
+            throw new DuplicatePersonException();
+        }
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i + 1);
+        }
+        index(toAdd, index);
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -70,15 +134,21 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person storedTarget = internalList.get(index);
+        if (!storedTarget.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+        if (storedTarget.getId() != editedPerson.getId() && positions.containsKey(editedPerson.getId())) {
             throw new DuplicatePersonException();
         }
 
+        unindex(storedTarget);
+        index(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -88,13 +158,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        unindex(internalList.get(index));
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i - 1);
+        }
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        ids.clear();
+        ids.putAll(replacement.ids);
         internalList.setAll(replacement.internalList);
     }
 
@@ -104,13 +185,38 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Long, Integer> newPositions = new HashMap<>();
+        Map<Name, Long> newIds = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (newPositions.put(person.getId(), i) != null || newIds.put(person.getName(), person.getId()) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
+        ids.clear();
+        ids.putAll(newIds);
         internalList.setAll(persons);
     }
 
+    /**
+     * Records that {@code person} is at {@code index} in the list.
+     */
+    private void index(Person person, int index) {
+        positions.put(person.getId(), index);
+        ids.put(person.getName(), person.getId());
+    }
+
+    /**
+     * Forgets the position of {@code person}, which must be the person in the list.
+     */
+    private void unindex(Person person) {
+        positions.remove(person.getId());
+        ids.remove(person.getName());
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -120,7 +226,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return asUnmodifiableObservableList().iterator();
     }
 
     @Override
@@ -135,17 +241,4 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
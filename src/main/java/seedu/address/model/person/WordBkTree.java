@@ -0,0 +1,375 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.commons.util.LevenshteinDistanceUtil;
+
+/**
+ * A BK-tree of distinct words, for finding the words within an edit distance of a given word without comparing it
+ * to every word.
+ *
+ * Each child of a node is kept under its distance from the node. As the Levenshtein distance obeys the triangle
+ * inequality, a word within {@code d} of the word searched for can only be under a child whose distance from the node
+ * is within {@code d} of the distance between the node and the word searched for, so the other children are skipped.
+ *
+ * Each distance is bounded by the distance past which neither the node nor any of its children can be of use, so
+ * the distance of a far word is not worked out in full.
+ *
+ * A removed word is only marked as removed, as the words below it are placed by their distance from it. The tree is
+ * rebuilt from the words left once more of its words have been removed than are left.
+ *
+ * A tree with many words is searched in parallel on the common fork-join pool, with a task for each subtree that can
+ * hold a match down to a few levels below the root. The tree must not be changed during a search.
+ */
+class WordBkTree {
+
+    /** The number of levels below the root at which a parallel search stops splitting into tasks. */
+    private static final int MAX_FORK_DEPTH = 3;
+
+    private Node root;
+    private int size;
+    private int removedCount;
+    private int parallelThreshold = Integer.MAX_VALUE;
+
+    /**
+     * Adds {@code word}, returning true if it was not already in the tree.
+     */
+    boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    return false;
+                }
+                node.isRemoved = false;
+                removedCount--;
+                size++;
+                return true;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.putChild(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word}, returning true if it was in the tree.
+     */
+    boolean remove(String word) {
+        requireNonNull(word);
+        Node node = root;
+        while (node != null) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    return false;
+                }
+                node.isRemoved = true;
+                removedCount++;
+                size--;
+                if (removedCount > size) {
+                    rebuild();
+                }
+                return true;
+            }
+            node = node.getChild(distance);
+        }
+        return false;
+    }
+
+    /**
+     * Removes every word.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+        removedCount = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes each word within {@code maxDistance} of {@code word}, with its distance, to {@code action}.
+     * The tree is searched in parallel if it has at least as many words as the parallel threshold, in which case the
+     * words are passed once the search is done, in no particular order.
+     */
+    void forEachWithin(String word, int maxDistance, ObjIntConsumer<String> action) {
+        requireNonNull(word);
+        requireNonNull(action);
+        if (root == null || maxDistance < 0) {
+            return;
+        }
+        if (size >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new WithinSearch(root, 0, word, maxDistance)).forEach(action::accept);
+            return;
+        }
+        searchWithin(root, word, maxDistance, action);
+    }
+
+    /**
+     * Returns the distance from {@code word} to the closest word in the tree, or {@code Integer.MAX_VALUE} if the
+     * tree is empty.
+     * The search is a range search whose range shrinks to the closest distance found so far. The tree is searched in
+     * parallel if it has at least as many words as the parallel threshold, with the closest distance shared by the
+     * parallel searches.
+     */
+    int closestDistance(String word) {
+        requireNonNull(word);
+        AtomicInteger closest = new AtomicInteger(Integer.MAX_VALUE);
+        if (root == null) {
+            return closest.get();
+        }
+        if (size >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new ClosestSearch(root, 0, word, closest));
+        } else {
+            searchClosest(root, word, closest);
+        }
+        return closest.get();
+    }
+
+    /**
+     * Sets the number of words from which the tree is searched in parallel on the common fork-join pool.
+     */
+    void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Passes each word under {@code start}, including its own, that is within {@code maxDistance} of {@code word},
+     * with its distance, to {@code action}.
+     */
+    private static void searchWithin(Node start, String word, int maxDistance, ObjIntConsumer<String> action) {
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(start);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = distanceWithin(word, node, maxDistance);
+            if (distance <= maxDistance && !node.isRemoved) {
+                action.accept(node.word, distance);
+            }
+            for (Node child : node.childrenWithin(distance, maxDistance)) {
+                nodesToVisit.push(child);
+            }
+        }
+    }
+
+    /**
+     * Lowers {@code closest} to the distance from {@code word} to any closer word under {@code start}, including
+     * its own.
+     */
+    private static void searchClosest(Node start, String word, AtomicInteger closest) {
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(start);
+        while (!nodesToVisit.isEmpty() && closest.get() > 0) {
+            Node node = nodesToVisit.pop();
+            int distance = distanceBelow(word, node, closest);
+            for (Node child : node.childrenWithin(distance, closest.get() - 1)) {
+                nodesToVisit.push(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the distance between {@code word} and the word of {@code node}, or a smaller distance that is still
+     * more than {@code maxDistance} from every child of the node if the distance is that far.
+     */
+    private static int distanceWithin(String word, Node node, int maxDistance) {
+        int bound = (int) Math.min(Integer.MAX_VALUE, (long) maxDistance + node.farthestChild);
+        return distance(word, node.word, bound);
+    }
+
+    /**
+     * Returns the distance between {@code word} and the word of {@code node}, bounded as in
+     * {@link #distanceWithin}, and lowers {@code closest} to it if it is closer.
+     */
+    private static int distanceBelow(String word, Node node, AtomicInteger closest) {
+        int closestSoFar = closest.get();
+        int distance = closestSoFar == Integer.MAX_VALUE
+                ? distance(word, node.word)
+                : distanceWithin(word, node, closestSoFar - 1);
+        if (!node.isRemoved) {
+            closest.accumulateAndGet(distance, Math::min);
+        }
+        return distance;
+    }
+
+    /**
+     * Rebuilds the tree from the words that have not been removed.
+     */
+    private void rebuild() {
+        List<String> words = new ArrayList<>(size);
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            if (node.children != null) {
+                nodesToVisit.addAll(node.children.values());
+            }
+        }
+        clear();
+        for (String word : words) {
+            add(word);
+        }
+    }
+
+    private static int distance(String first, String second) {
+        return LevenshteinDistanceUtil.levenshteinDistance(first, second);
+    }
+
+    /**
+     * Returns the distance between {@code first} and {@code second}, or {@code maxDistance + 1} if it is more.
+     */
+    private static int distance(String first, String second, int maxDistance) {
+        return LevenshteinDistanceUtil.levenshteinDistance(first, second, maxDistance);
+    }
+
+    /**
+     * A word in the tree, with its children by their distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private boolean isRemoved;
+        private Map<Integer, Node> children;
+        /** The largest distance of a child from the word, or 0 if there are no children. */
+        private int farthestChild;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return children == null ? null : children.get(distance);
+        }
+
+        /**
+         * Returns the children that can have a word within {@code maxDistance} of a word that is {@code distance}
+         * from this node's word.
+         */
+        List<Node> childrenWithin(int distance, int maxDistance) {
+            List<Node> matches = new ArrayList<>();
+            if (children == null) {
+                return matches;
+            }
+            for (Map.Entry<Integer, Node> child : children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    matches.add(child.getValue());
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Puts {@code child} under {@code distance}, which is its distance from the word.
+         */
+        void putChild(int distance, Node child) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            children.put(distance, child);
+            farthestChild = Math.max(farthestChild, distance);
+        }
+    }
+
+    /**
+     * Finds the words within a distance of a word under a node, splitting into a task for each child that can have
+     * such words until {@link #MAX_FORK_DEPTH} levels below the root, and searching the rest of the subtree directly.
+     */
+    private static class WithinSearch extends RecursiveTask<Map<String, Integer>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node node;
+        private final int depth;
+        private final String word;
+        private final int maxDistance;
+
+        WithinSearch(Node node, int depth, String word, int maxDistance) {
+            this.node = node;
+            this.depth = depth;
+            this.word = word;
+            this.maxDistance = maxDistance;
+        }
+
+        @Override
+        protected Map<String, Integer> compute() {
+            Map<String, Integer> matches = new HashMap<>();
+            if (depth >= MAX_FORK_DEPTH) {
+                searchWithin(node, word, maxDistance, matches::put);
+                return matches;
+            }
+            int distance = distanceWithin(word, node, maxDistance);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.put(node.word, distance);
+            }
+            List<WithinSearch> subtasks = new ArrayList<>();
+            for (Node child : node.childrenWithin(distance, maxDistance)) {
+                subtasks.add(new WithinSearch(child, depth + 1, word, maxDistance));
+            }
+            for (WithinSearch subtask : invokeAll(subtasks)) {
+                matches.putAll(subtask.join());
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * Finds the distance to the closest word under a node, splitting as {@link WithinSearch} does, with the closest
+     * distance found so far shared by all the tasks so that each narrows the search of the others.
+     */
+    private static class ClosestSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Node node;
+        private final int depth;
+        private final String word;
+        private final AtomicInteger closest;
+
+        ClosestSearch(Node node, int depth, String word, AtomicInteger closest) {
+            this.node = node;
+            this.depth = depth;
+            this.word = word;
+            this.closest = closest;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth >= MAX_FORK_DEPTH) {
+                searchClosest(node, word, closest);
+                return;
+            }
+            int distance = distanceBelow(word, node, closest);
+            List<ClosestSearch> subtasks = new ArrayList<>();
+            for (Node child : node.childrenWithin(distance, closest.get() - 1)) {
+                subtasks.add(new ClosestSearch(child, depth + 1, word, closest));
+            }
+            invokeAll(subtasks);
+        }
+    }
+}
@@ -4,15 +4,24 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Represents an Activity in the schedule.
+ * Activities fall on a day, so the date is kept as a {@code LocalDate}, and converted to and from a {@code Date} at
+ * the start of the day in the system time zone where storage still uses one.
+ *
+ * An activity with a {@link Recurrence} also happens on each later date of the recurrence. Only the activity on its
+ * first date is stored, and the later occurrences are created when they are asked for.
  */
 public class Activity {
     public static final String DATE_VALIDATION_REGEX = "\\d{2}/\\d{2}/\\d{4}";
@@ -21,29 +30,63 @@ public class Activity {
     public static final String MESSAGE_ACTIVITY_CONSTRAINTS = "Task name should only contain alphanumeric characters,"
             + "spaces and fullstops.";
 
-    private final Date date;
+    private static final DateTimeFormatter INPUT_FORMAT = DateTimeFormatter.ofPattern("dd/MM/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("EEE d/M/uuuu", Locale.ENGLISH);
+
+    private final LocalDate date;
     private final String activityName;
+    private final Recurrence recurrence;
 
     /**
      * Creates an Activity.
      * @param date A valid date.
      * @param activity Activity string.
      */
-    public Activity(Date date, String activity) {
+    public Activity(LocalDate date, String activity) {
+        this(date, activity, null);
+    }
+
+    /**
+     * Creates an Activity that repeats as {@code recurrence} from {@code date}.
+     * @param date A valid date.
+     * @param activity Activity string.
+     * @param recurrence The recurrence, which must not end before {@code date}, or null if it does not repeat.
+     */
+    public Activity(LocalDate date, String activity, Recurrence recurrence) {
         requireNonNull(activity);
         requireNonNull(date);
         checkArgument(isValidActivity(activity), MESSAGE_ACTIVITY_CONSTRAINTS);
+        checkArgument(recurrence == null || !recurrence.getUntil().isBefore(date),
+                Recurrence.MESSAGE_END_DATE_CONSTRAINTS);
         this.date = date;
         this.activityName = activity;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Creates an Activity on the day of {@code date}.
+     * @param date A valid date.
+     * @param activity Activity string.
+     */
+    public Activity(Date date, String activity) {
+        this(toLocalDate(requireNonNull(date)), activity);
     }
 
     /**
      * @return Date of activity.
      */
-    public Date getDate() {
+    public LocalDate getLocalDate() {
         return date;
     }
 
+    /**
+     * @return Date of activity, at the start of the day.
+     */
+    public Date getDate() {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
     /**
      * @return Activity name.
      */
@@ -51,6 +94,62 @@ public class Activity {
         return activityName;
     }
 
+    /**
+     * @return Recurrence of activity, or null if it does not repeat.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the last date the activity happens on, which is its own date if it does not repeat.
+     */
+    public LocalDate getLastDate() {
+        return recurrence == null ? date : recurrence.getUntil();
+    }
+
+    /**
+     * Returns true if the activity happens on {@code day}, as itself or as an occurrence that has not been cancelled.
+     */
+    public boolean occursOn(LocalDate day) {
+        requireNonNull(day);
+        if (recurrence == null) {
+            return date.equals(day);
+        }
+        if (day.isBefore(date) || day.isAfter(recurrence.getUntil()) || recurrence.isCancelled(day)) {
+            return false;
+        }
+        return recurrence.nthDate(date, recurrence.firstOccurrenceOnOrAfter(date, day)).equals(day);
+    }
+
+    /**
+     * Returns the occurrences of the activity from {@code from} to {@code to}, both inclusive, in order of date, each
+     * as an activity that does not repeat and has the name of that occurrence. Cancelled occurrences are left out.
+     * A null {@code from} or {@code to} leaves the range open at that end.
+     * Only the occurrences in the range are created, so this takes time in proportion to their number.
+     */
+    public List<Activity> getOccurrences(LocalDate from, LocalDate to) {
+        List<Activity> occurrences = new ArrayList<>();
+        if (recurrence == null) {
+            if ((from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to))) {
+                occurrences.add(this);
+            }
+            return occurrences;
+        }
+        LocalDate last = to == null || to.isAfter(recurrence.getUntil()) ? recurrence.getUntil() : to;
+        long n = from == null ? 0 : recurrence.firstOccurrenceOnOrAfter(date, from);
+        for (LocalDate day = recurrence.nthDate(date, n); !day.isAfter(last); day = recurrence.nthDate(date, ++n)) {
+            if (!recurrence.isCancelled(day)) {
+                occurrences.add(new Activity(day, recurrence.getName(day, activityName)));
+            }
+        }
+        return occurrences;
+    }
+
     /**
      * Converts day, month and year specified to a {@code Date} object
      * @param day A valid day of the month
@@ -59,43 +158,58 @@ public class Activity {
      * @return {@code Date} of activity.
      */
     public static Date toDate(int day, int month, int year) {
-        Calendar cal = Calendar.getInstance();
-        cal.set(Calendar.DAY_OF_MONTH, day);
-        cal.set(Calendar.MONTH, --month); //index of month start from 0. i.e. jan == 0.
-        cal.set(Calendar.YEAR, year);
-        cal.set(Calendar.HOUR_OF_DAY, 0);
-        cal.set(Calendar.MINUTE, 0);
-        cal.set(Calendar.SECOND, 0);
-        cal.set(Calendar.MILLISECOND, 0);
-        Date date = cal.getTime();
-        return date;
+        return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Returns the day of {@code date} in the system time zone.
+     */
+    public static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Parses a date in "DD/MM/YYYY" format, which must be valid as declared in {@link #isValidDate(String)}.
+     */
+    public static LocalDate parseDate(String date) {
+        checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
+        return LocalDate.parse(date, INPUT_FORMAT);
     }
 
     /**
      * @return {@code String} of date in "DAY dd/mm/yyyy" format.
      */
-    public static String getDateString (Date date) {
-        Calendar cal = Calendar.getInstance();
-        cal.setTime(date);
-        String dayOfWeek = new SimpleDateFormat("EE", Locale.ENGLISH).format(date);
-        int month = cal.get(Calendar.MONTH);
-        return dayOfWeek + " " + cal.get(Calendar.DATE) + "/" + ++month
-                + "/" + cal.get(Calendar.YEAR);
+    public static String getDateString(Date date) {
+        return getDateString(toLocalDate(date));
     }
 
+    /**
+     * @return {@code String} of date in "DAY dd/mm/yyyy" format.
+     */
+    public static String getDateString(LocalDate date) {
+        return DISPLAY_FORMAT.format(date);
+    }
+
+    /**
+     * @return {@code String} of date in "DD/MM/YYYY" format, as it is given in commands.
+     */
+    public static String getInputDateString(LocalDate date) {
+        return INPUT_FORMAT.format(date);
+    }
 
     /**
      * Checks if specified date is valid
      */
     public static boolean isValidDate(String test) {
-        DateFormat format = new SimpleDateFormat("dd/MM/yyyy");
-        format.setLenient(false);
+        if (!test.matches(DATE_VALIDATION_REGEX)) {
+            return false;
+        }
         try {
-            format.parse(test);
-        } catch (ParseException e) {
+            LocalDate.parse(test, INPUT_FORMAT);
+            return true;
+        } catch (DateTimeParseException e) {
             return false;
         }
-        return test.matches(DATE_VALIDATION_REGEX);
     }
 
     /**
@@ -109,11 +223,12 @@ public class Activity {
         return other == this // short circuit if same object
                 || (other instanceof Activity // instanceof handles nulls
                 && activityName.equals(((Activity) other).activityName) // state check
-                && date.equals(((Activity) other).date)); // state check
+                && date.equals(((Activity) other).date) // state check
+                && Objects.equals(recurrence, ((Activity) other).recurrence));
     }
 
     @Override
     public int hashCode() {
-        return (activityName + date).hashCode();
+        return Objects.hash(activityName, date, recurrence);
     }
 }
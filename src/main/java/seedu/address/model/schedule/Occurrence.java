@@ -0,0 +1,51 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * Represents one occurrence of an activity in the schedule, together with the index of the stored activity it belongs
+ * to, which is the index that commands use to refer to the activity.
+ * Guarantees: immutable.
+ *
+ * An activity that does not repeat is its own only occurrence. Each occurrence of a repeating activity is an activity
+ * that does not repeat and has the name of that occurrence.
+ */
+public class Occurrence {
+    private final Activity activity;
+    private final Index index;
+
+    public Occurrence(Activity activity, Index index) {
+        requireNonNull(activity);
+        requireNonNull(index);
+        this.activity = activity;
+        this.index = index;
+    }
+
+    public Activity getActivity() {
+        return activity;
+    }
+
+    /**
+     * Returns the index, in the schedule's list of activities, of the stored activity this occurrence belongs to.
+     */
+    public Index getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Occurrence // instanceof handles nulls
+                && activity.equals(((Occurrence) other).activity)
+                && index.equals(((Occurrence) other).index));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(activity, index.getZeroBased());
+    }
+}
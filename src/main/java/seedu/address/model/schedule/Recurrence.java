@@ -0,0 +1,245 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Represents how an Activity repeats: daily, weekly or monthly from the date of the activity until an end date, except
+ * on the occurrences that have been renamed or cancelled.
+ * Guarantees: immutable.
+ *
+ * Only the rule and its exceptions are kept, so an activity that repeats many times takes no more room than one that
+ * does not, and its occurrences are worked out only for the dates that are asked for.
+ */
+public class Recurrence {
+    public static final String MESSAGE_FREQUENCY_CONSTRAINTS = "Activities can repeat daily, weekly or monthly.";
+    public static final String MESSAGE_RECURRENCE_CONSTRAINTS = "Repeating activities should be stored as the "
+            + "frequency, the end date and any exceptions, "
+            + "such as \"weekly 2026-12-31 2026-01-08= 2026-01-15=Review\".";
+    public static final String MESSAGE_END_DATE_CONSTRAINTS = "A repeating activity must not end before it starts.";
+
+    /** The separator between the rule and each exception in the stored form. */
+    private static final String FIELD_SEPARATOR = " ";
+    /** The separator between the date of an exception and the name of the occurrence, which is empty if cancelled. */
+    private static final String EXCEPTION_SEPARATOR = "=";
+
+    /**
+     * How often an activity repeats.
+     */
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * Returns the frequency named {@code name}, ignoring case.
+         *
+         * @throws IllegalArgumentException if there is no such frequency.
+         */
+        public static Frequency fromName(String name) {
+            requireNonNull(name);
+            for (Frequency frequency : values()) {
+                if (frequency.name().equalsIgnoreCase(name.trim())) {
+                    return frequency;
+                }
+            }
+            throw new IllegalArgumentException(MESSAGE_FREQUENCY_CONSTRAINTS);
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Frequency frequency;
+    private final LocalDate until;
+    /** The new name of each renamed occurrence, or an empty name for each cancelled one, by date. */
+    private final NavigableMap<LocalDate, String> exceptions;
+
+    /**
+     * Creates a recurrence that repeats every {@code frequency} until {@code until}, inclusive, with no exceptions.
+     */
+    public Recurrence(Frequency frequency, LocalDate until) {
+        this(frequency, until, new TreeMap<>());
+    }
+
+    private Recurrence(Frequency frequency, LocalDate until, NavigableMap<LocalDate, String> exceptions) {
+        requireNonNull(frequency);
+        requireNonNull(until);
+        this.frequency = frequency;
+        this.until = until;
+        this.exceptions = Collections.unmodifiableNavigableMap(exceptions);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns the date of occurrence {@code n} of an activity starting on {@code start}, where occurrence 0 is on
+     * {@code start}, whether or not it is cancelled or past the end date.
+     * A monthly activity on a day that a month does not have falls on the last day of that month.
+     */
+    LocalDate nthDate(LocalDate start, long n) {
+        return start.plus(n, frequency.unit);
+    }
+
+    /**
+     * Returns the number of the first occurrence, of an activity starting on {@code start}, that is on or after
+     * {@code date}.
+     */
+    long firstOccurrenceOnOrAfter(LocalDate start, LocalDate date) {
+        if (!date.isAfter(start)) {
+            return 0;
+        }
+        long n = frequency.unit.between(start, date);
+        while (n > 0 && !nthDate(start, n - 1).isBefore(date)) {
+            n--;
+        }
+        while (nthDate(start, n).isBefore(date)) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns true if {@code date} has been cancelled.
+     */
+    public boolean isCancelled(LocalDate date) {
+        String name = exceptions.get(date);
+        return name != null && name.isEmpty();
+    }
+
+    /**
+     * Returns the name of the occurrence on {@code date}, or {@code defaultName} if it has not been renamed.
+     */
+    public String getName(LocalDate date, String defaultName) {
+        String name = exceptions.get(date);
+        return name == null || name.isEmpty() ? defaultName : name;
+    }
+
+    /**
+     * Returns a copy of this recurrence in which the occurrence on {@code date} is named {@code name}.
+     */
+    public Recurrence withRenamed(LocalDate date, String name) {
+        requireNonNull(date);
+        requireNonNull(name);
+        checkArgument(Activity.isValidActivity(name), Activity.MESSAGE_ACTIVITY_CONSTRAINTS);
+        NavigableMap<LocalDate, String> newExceptions = new TreeMap<>(exceptions);
+        newExceptions.put(date, name);
+        return new Recurrence(frequency, until, newExceptions);
+    }
+
+    /**
+     * Returns a copy of this recurrence in which the occurrence on {@code date} is cancelled.
+     */
+    public Recurrence withCancelled(LocalDate date) {
+        requireNonNull(date);
+        NavigableMap<LocalDate, String> newExceptions = new TreeMap<>(exceptions);
+        newExceptions.put(date, "");
+        return new Recurrence(frequency, until, newExceptions);
+    }
+
+    /**
+     * Returns a description of the recurrence for display, such as "weekly until Thu 31/12/2026".
+     */
+    public String describe() {
+        return frequency + " until " + Activity.getDateString(until);
+    }
+
+    /**
+     * Returns the recurrence stored as {@code recurrence}, in the form returned by {@link #toString()}.
+     *
+     * @throws IllegalArgumentException if {@code recurrence} is not a stored recurrence.
+     */
+    public static Recurrence fromString(String recurrence) {
+        requireNonNull(recurrence);
+        String[] fields = recurrence.trim().split(FIELD_SEPARATOR);
+        checkArgument(fields.length >= 2, MESSAGE_RECURRENCE_CONSTRAINTS);
+        try {
+            Frequency frequency = Frequency.fromName(fields[0]);
+            LocalDate until = LocalDate.parse(fields[1]);
+            NavigableMap<LocalDate, String> exceptions = new TreeMap<>();
+            LocalDate date = null;
+            for (int i = 2; i < fields.length; i++) {
+                int separator = fields[i].indexOf(EXCEPTION_SEPARATOR);
+                if (separator < 0) {
+                    // A new name can have spaces, so this is the next word of the name of the last exception.
+                    checkArgument(date != null && !exceptions.get(date).isEmpty(), MESSAGE_RECURRENCE_CONSTRAINTS);
+                    exceptions.put(date, exceptions.get(date) + FIELD_SEPARATOR + fields[i]);
+                    continue;
+                }
+                date = LocalDate.parse(fields[i].substring(0, separator));
+                exceptions.put(date, fields[i].substring(separator + 1));
+            }
+            for (String exceptionName : exceptions.values()) {
+                checkArgument(exceptionName.isEmpty() || Activity.isValidActivity(exceptionName),
+                        MESSAGE_RECURRENCE_CONSTRAINTS);
+            }
+            return new Recurrence(frequency, until, exceptions);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(MESSAGE_RECURRENCE_CONSTRAINTS, e);
+        }
+    }
+
+    /**
+     * Returns true if {@code test} is a stored recurrence, in the form returned by {@link #toString()}.
+     */
+    public static boolean isValidRecurrence(String test) {
+        try {
+            fromString(test);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the recurrence in the form it is stored in: the frequency, the end date, and then each exception as its
+     * date and new name, with an empty name for a cancelled occurrence.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append(frequency).append(FIELD_SEPARATOR).append(until);
+        for (Map.Entry<LocalDate, String> exception : exceptions.entrySet()) {
+            builder.append(FIELD_SEPARATOR).append(exception.getKey()).append(EXCEPTION_SEPARATOR)
+                    .append(exception.getValue());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Recurrence // instanceof handles nulls
+                && frequency == ((Recurrence) other).frequency
+                && until.equals(((Recurrence) other).until)
+                && exceptions.equals(((Recurrence) other).exceptions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, until, exceptions);
+    }
+}
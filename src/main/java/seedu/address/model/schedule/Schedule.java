@@ -3,21 +3,35 @@ package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 
 /**
  * A TreeMap with Unique Dates of activities as keys. Each Date has a list of Activities, with the same date,
  * as its value.
+ *
+ * The activities are also kept in one list sorted by date, which is changed in place as activities are added,
+ * updated and deleted instead of being rebuilt from the map, so views of it are told of each change. As the list is
+ * sorted, the activities on or between dates are found by binary search.
+ *
+ * A repeating activity is kept once, on its first date, and also in a list of the repeating activities. Its other
+ * occurrences are only created for the dates asked for in {@link #getActivities(LocalDate, LocalDate)}.
  */
 public class Schedule {
-    private final TreeMap<Date, ArrayList<Activity>> schedule = new TreeMap<>();
+    private final TreeMap<LocalDate, List<Activity>> schedule = new TreeMap<>();
+    private final ObservableList<Activity> activities = FXCollections.observableArrayList();
+    private final ObservableList<Activity> unmodifiableActivities =
+            FXCollections.unmodifiableObservableList(activities);
+    private final List<Activity> recurringActivities = new ArrayList<>();
 
     /**
      * Constructs the Schedule.
@@ -30,28 +44,97 @@ public class Schedule {
      */
     public void setSchedule(List<Activity> activities) {
         requireNonNull(activities);
+        List<Activity> newActivities = new ArrayList<>(activities);
         schedule.clear();
-        for (Activity activity : activities) {
-            add(activity);
+        recurringActivities.clear();
+        for (Activity activity : newActivities) {
+            schedule.computeIfAbsent(activity.getLocalDate(), unused -> new ArrayList<>()).add(activity);
+            if (activity.isRecurring()) {
+                recurringActivities.add(activity);
+            }
         }
+        List<Activity> sortedActivities = new ArrayList<>(newActivities.size());
+        for (List<Activity> activitiesOnDate : schedule.values()) {
+            sortedActivities.addAll(activitiesOnDate);
+        }
+        this.activities.setAll(sortedActivities);
     }
 
     /**
-     * @return a list of all activities, sorted based on their dates
+     * @return a list of all activities, sorted based on their dates, with each repeating activity on its first date
      */
     public ObservableList<Activity> getActivities() {
-        ObservableList<Activity> activities = FXCollections.observableArrayList();
-        for (Date date : schedule.keySet()) {
-            activities.addAll(schedule.get(date));
+        return unmodifiableActivities;
+    }
+
+    /**
+     * Returns the activities from {@code from} to {@code to}, both inclusive, sorted based on their dates.
+     * Each repeating activity is replaced by its occurrences in the range, which are created only for the range.
+     * A null {@code from} or {@code to} leaves the range open at that end.
+     */
+    public List<Activity> getActivities(LocalDate from, LocalDate to) {
+        if (recurringActivities.isEmpty()) {
+            int start = startOf(from);
+            return unmodifiableActivities.subList(start, Math.max(start, endOf(to)));
         }
-        return FXCollections.unmodifiableObservableList(activities);
+        List<Activity> expanded = new ArrayList<>();
+        for (Occurrence occurrence : getOccurrences(from, to)) {
+            expanded.add(occurrence.getActivity());
+        }
+        return Collections.unmodifiableList(expanded);
+    }
+
+    /**
+     * Returns the occurrences of the activities from {@code from} to {@code to}, both inclusive, in the order of
+     * {@link #getActivities(LocalDate, LocalDate)}, each with the index in {@link #getActivities()} of the activity it
+     * belongs to.
+     * A null {@code from} or {@code to} leaves the range open at that end.
+     */
+    public List<Occurrence> getOccurrences(LocalDate from, LocalDate to) {
+        int start = startOf(from);
+        int end = endOf(to);
+        List<Occurrence> occurrences = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            Activity activity = activities.get(i);
+            if (!activity.isRecurring()) {
+                occurrences.add(new Occurrence(activity, Index.fromZeroBased(i)));
+            }
+        }
+        for (Activity activity : recurringActivities) {
+            boolean startsInTime = to == null || !activity.getLocalDate().isAfter(to);
+            boolean endsInTime = from == null || !activity.getLastDate().isBefore(from);
+            if (startsInTime && endsInTime) {
+                Index index = Index.fromZeroBased(countActivitiesBefore(activity.getLocalDate()) + indexOf(activity));
+                for (Activity occurrence : activity.getOccurrences(from, to)) {
+                    occurrences.add(new Occurrence(occurrence, index));
+                }
+            }
+        }
+        // The sort is stable, so activities on the same date keep the order they are stored in.
+        occurrences.sort(Comparator.comparing(occurrence -> occurrence.getActivity().getLocalDate()));
+        return Collections.unmodifiableList(occurrences);
+    }
+
+    /**
+     * Returns the position in the sorted list of the first activity on or after {@code from}, or 0 if it is null.
+     */
+    private int startOf(LocalDate from) {
+        return from == null ? 0 : countActivitiesBefore(from);
+    }
+
+    /**
+     * Returns the position in the sorted list just after the last activity on or before {@code to}, or the size of
+     * the list if it is null.
+     */
+    private int endOf(LocalDate to) {
+        return to == null ? activities.size() : countActivitiesBefore(to.plusDays(1));
     }
 
     /**
      * @return schedule.
      */
-    public TreeMap<Date, ArrayList<Activity>> getSchedule() {
-        return schedule;
+    public NavigableMap<LocalDate, List<Activity>> getSchedule() {
+        return Collections.unmodifiableNavigableMap(schedule);
     }
 
     /**
@@ -60,11 +143,35 @@ public class Schedule {
      */
     public void add(Activity activity) {
         requireNonNull(activity);
-        Date date = activity.getDate();
-        if (!containsDate(date)) {
-            schedule.put(date, new ArrayList<>());
+        LocalDate date = activity.getLocalDate();
+        schedule.computeIfAbsent(date, unused -> new ArrayList<>()).add(activity);
+        activities.add(countActivitiesBefore(date.plusDays(1)), activity);
+        if (activity.isRecurring()) {
+            recurringActivities.add(activity);
         }
-        schedule.get(date).add(activity);
+    }
+
+    /**
+     * Adds an activity to the schedule at {@code index} among the activities on its date.
+     * @param activity A valid activity.
+     */
+    public void add(int index, Activity activity) {
+        requireNonNull(activity);
+        LocalDate date = activity.getLocalDate();
+        schedule.computeIfAbsent(date, unused -> new ArrayList<>()).add(index, activity);
+        activities.add(countActivitiesBefore(date) + index, activity);
+        if (activity.isRecurring()) {
+            recurringActivities.add(activity);
+        }
+    }
+
+    /**
+     * Returns the position of an activity among the activities on its date, or -1 if it is not in the schedule.
+     */
+    public int indexOf(Activity activity) {
+        requireNonNull(activity);
+        List<Activity> activitiesOnDate = schedule.get(activity.getLocalDate());
+        return activitiesOnDate == null ? -1 : activitiesOnDate.indexOf(activity);
     }
 
     /**
@@ -73,9 +180,17 @@ public class Schedule {
      */
     public void delete(Activity activity) {
         requireNonNull(activity);
-        schedule.get(activity.getDate()).remove(activity);
-        if (schedule.get(activity.getDate()).isEmpty()) {
-            schedule.remove(activity.getDate());
+        LocalDate date = activity.getLocalDate();
+        List<Activity> activitiesOnDate = schedule.get(date);
+        int index = activitiesOnDate == null ? -1 : activitiesOnDate.indexOf(activity);
+        if (index < 0) {
+            return;
+        }
+        activities.remove(countActivitiesBefore(date) + index);
+        activitiesOnDate.remove(index);
+        recurringActivities.remove(activity);
+        if (activitiesOnDate.isEmpty()) {
+            schedule.remove(date);
         }
     }
 
@@ -87,19 +202,41 @@ public class Schedule {
     public void update(Activity target, Activity editedActivity) {
         requireNonNull(editedActivity);
         requireNonNull(target);
-        Collections.replaceAll(schedule.get(target.getDate()), target, editedActivity);
+        LocalDate date = target.getLocalDate();
+        List<Activity> activitiesOnDate = schedule.get(date);
+        if (activitiesOnDate == null) {
+            return;
+        }
+        int start = countActivitiesBefore(date);
+        for (int i = 0; i < activitiesOnDate.size(); i++) {
+            if (activitiesOnDate.get(i).equals(target)) {
+                activitiesOnDate.set(i, editedActivity);
+                activities.set(start + i, editedActivity);
+                recurringActivities.remove(target);
+                if (editedActivity.isRecurring()) {
+                    recurringActivities.add(editedActivity);
+                }
+            }
+        }
     }
 
     /**
-     * Checks if a date is unique in the schedule.
-     * @param date A valid date.
-     * @return A boolean if the date exists.
+     * Returns the number of activities before {@code date}, which is also the position in the sorted list of the
+     * first activity on or after {@code date}.
      */
-    private boolean containsDate(Date date) {
-        if (schedule.containsKey(date)) {
-            return true;
+    public int countActivitiesBefore(LocalDate date) {
+        requireNonNull(date);
+        int low = 0;
+        int high = activities.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (activities.get(middle).getLocalDate().isBefore(date)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
         }
-        return false;
+        return low;
     }
 
     @Override
@@ -108,6 +245,4 @@ public class Schedule {
                 || (other instanceof Schedule // instanceof handles nulls
                 && schedule.equals(((Schedule) other).schedule));
     }
-
-
 }
@@ -0,0 +1,335 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ints stored as a compressed bitmap.
+ *
+ * The values are split into chunks of 65536 by their upper 16 bits. A chunk with few values stores them as a sorted
+ * array, and a chunk with many values stores them as a plain bitmap, so a sparse set takes memory in proportion to
+ * its size and a dense one takes one bit per possible value. The number of values is kept up to date, so it is known
+ * without counting them.
+ */
+class CompressedBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    /** Chunks with more values than this are stored as bitmaps. */
+    private static final int ARRAY_LIMIT = 4096;
+
+    private final TreeMap<Integer, Chunk> chunks = new TreeMap<>();
+    private int cardinality;
+
+    /**
+     * Adds {@code value} to the set. Returns true if it was not already in the set.
+     */
+    boolean add(int value) {
+        checkArgument(value >= 0, "Bitmap values cannot be negative");
+        Chunk chunk = chunks.computeIfAbsent(value >>> CHUNK_BITS, unused -> new Chunk());
+        if (!chunk.add((char) value)) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set. Returns true if it was in the set.
+     */
+    boolean remove(int value) {
+        int key = value >>> CHUNK_BITS;
+        Chunk chunk = chunks.get(key);
+        if (chunk == null || !chunk.remove((char) value)) {
+            return false;
+        }
+        if (chunk.size == 0) {
+            chunks.remove(key);
+        }
+        cardinality--;
+        return true;
+    }
+
+    boolean contains(int value) {
+        Chunk chunk = chunks.get(value >>> CHUNK_BITS);
+        return chunk != null && chunk.contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Performs {@code action} on each value in the set, in ascending order.
+     */
+    void forEach(IntConsumer action) {
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            entry.getValue().forEach(entry.getKey() * CHUNK_SIZE, action);
+        }
+    }
+
+    /**
+     * Returns a new set of the values in this set or in {@code other}.
+     */
+    CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap union = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            Chunk chunk = otherChunk == null ? entry.getValue().copy() : Chunk.or(entry.getValue(), otherChunk);
+            union.putChunk(entry.getKey(), chunk);
+        }
+        for (Map.Entry<Integer, Chunk> entry : other.chunks.entrySet()) {
+            if (!chunks.containsKey(entry.getKey())) {
+                union.putChunk(entry.getKey(), entry.getValue().copy());
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Returns a new set of the values in both this set and {@code other}.
+     */
+    CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap intersection = new CompressedBitmap();
+        for (Map.Entry<Integer, Chunk> entry : chunks.entrySet()) {
+            Chunk otherChunk = other.chunks.get(entry.getKey());
+            if (otherChunk != null) {
+                intersection.putChunk(entry.getKey(), Chunk.and(entry.getValue(), otherChunk));
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Adds {@code chunk} as the chunk of values whose upper bits are {@code key}, unless it is empty.
+     */
+    private void putChunk(int key, Chunk chunk) {
+        if (chunk.size > 0) {
+            chunks.put(key, chunk);
+            cardinality += chunk.size;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        return cardinality == otherBitmap.cardinality && and(otherBitmap).cardinality == cardinality;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {0};
+        forEach(value -> hash[0] = 31 * hash[0] + value);
+        return hash[0];
+    }
+
+    /**
+     * The values of a set that share their upper 16 bits, stored by their lower 16 bits.
+     */
+    private static class Chunk {
+        /** The sorted values, if the chunk is stored as an array. */
+        private char[] values = new char[4];
+        /** The bits of the values, if the chunk is stored as a bitmap. */
+        private long[] words;
+        private int size;
+
+        /**
+         * Returns true if {@code value} is in the chunk.
+         */
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        /**
+         * Adds {@code value}, switching to a bitmap if the array is full. Returns true if it was not already present.
+         */
+        boolean add(char value) {
+            if (words != null) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) != 0) {
+                    return false;
+                }
+                words[value >>> 6] |= bit;
+                size++;
+                return true;
+            }
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return false;
+            }
+            if (size == ARRAY_LIMIT) {
+                convertToBitmap();
+                return add(value);
+            }
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+            return true;
+        }
+
+        /**
+         * Removes {@code value}, switching back to an array once the bitmap is half as full as the largest array.
+         * Returns true if it was present.
+         */
+        boolean remove(char value) {
+            if (words != null) {
+                long bit = 1L << value;
+                if ((words[value >>> 6] & bit) == 0) {
+                    return false;
+                }
+                words[value >>> 6] &= ~bit;
+                size--;
+                if (size <= ARRAY_LIMIT / 2) {
+                    convertToArray();
+                }
+                return true;
+            }
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * Performs {@code action} on each value, offset by {@code base}, in ascending order.
+         */
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int i = 0; i < size; i++) {
+                    action.accept(base + values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base + i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        /**
+         * Returns a copy of this chunk that can be changed independently.
+         */
+        Chunk copy() {
+            Chunk copy = new Chunk();
+            copy.size = size;
+            if (words != null) {
+                copy.words = words.clone();
+            } else {
+                copy.values = Arrays.copyOf(values, Math.max(size, 1));
+            }
+            return copy;
+        }
+
+        /**
+         * Switches to storing the values as a bitmap.
+         */
+        private void convertToBitmap() {
+            words = new long[CHUNK_SIZE / Long.SIZE];
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        /**
+         * Switches to storing the values as a sorted array.
+         */
+        private void convertToArray() {
+            char[] array = new char[ARRAY_LIMIT];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = array;
+            words = null;
+        }
+
+        /**
+         * Returns a new chunk of the values in either {@code a} or {@code b}.
+         */
+        static Chunk or(Chunk a, Chunk b) {
+            if (a.words == null && b.words == null && a.size + b.size <= ARRAY_LIMIT) {
+                Chunk union = a.copy();
+                b.forEach(0, value -> union.add((char) value));
+                return union;
+            }
+            Chunk union = a.copy();
+            if (union.words == null) {
+                union.convertToBitmap();
+            }
+            if (b.words == null) {
+                b.forEach(0, value -> union.add((char) value));
+                return union;
+            }
+            union.size = 0;
+            for (int i = 0; i < union.words.length; i++) {
+                union.words[i] |= b.words[i];
+                union.size += Long.bitCount(union.words[i]);
+            }
+            return union;
+        }
+
+        /**
+         * Returns a new chunk of the values in both {@code a} and {@code b}.
+         */
+        static Chunk and(Chunk a, Chunk b) {
+            if (a.words != null && b.words != null) {
+                Chunk intersection = new Chunk();
+                intersection.values = null;
+                intersection.words = new long[a.words.length];
+                for (int i = 0; i < a.words.length; i++) {
+                    intersection.words[i] = a.words[i] & b.words[i];
+                    intersection.size += Long.bitCount(intersection.words[i]);
+                }
+                if (intersection.size <= ARRAY_LIMIT / 2) {
+                    intersection.convertToArray();
+                }
+                return intersection;
+            }
+            Chunk smaller = a.size <= b.size ? a : b;
+            Chunk larger = smaller == a ? b : a;
+            Chunk intersection = new Chunk();
+            smaller.forEach(0, value -> {
+                if (larger.contains((char) value)) {
+                    intersection.add((char) value);
+                }
+            });
+            return intersection;
+        }
+    }
+}
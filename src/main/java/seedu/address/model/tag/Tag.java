@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents a Tag in the address book.
@@ -18,6 +19,8 @@ public class Tag {
     public static final int PRIORITY_MEDIUM = 1;
     public static final int PRIORITY_LOW = 0;
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
     public final Index priority;
 
@@ -51,6 +54,13 @@ public class Tag {
         return test.matches(TAG_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the shared instance that equals {@code tag}, so that persons with the same tag share one instance.
+     */
+    public static Tag intern(Tag tag) {
+        return INTERNER.intern(tag);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,36 +3,53 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
- * A Map with keys as Unique tags. Each key has a unique list of persons as its value.
+ * A Map with keys as Unique tags. Each key has the unique persons with that tag as its value.
+ *
+ * Each tagged person is given an ordinal, looked up by the person's id, that stays the same until the person is
+ * removed, and each tag stores the ordinals of its persons in a {@link CompressedBitmap}. The persons with any or all
+ * of several tags are then found by combining bitmaps instead of checking every person's tags, and the number of
+ * persons with a tag is known without counting them.
  */
 public class UniqueTagList {
-    private final ObservableMap<Tag, UniquePersonList> internalList = FXCollections.observableHashMap();
+    private final Map<Tag, CompressedBitmap> bitmaps = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.containsKey(toCheck);
+        return bitmaps.containsKey(toCheck);
     }
 
     /**
      * Returns the List of all unique tags.
      */
     public List<Tag> getUniqueTagList() {
-        if (internalList.isEmpty()) {
+        if (bitmaps.isEmpty()) {
             throw new TagNotFoundException();
         }
-        return new ArrayList<>(internalList.keySet());
+        return new ArrayList<>(bitmaps.keySet());
     }
 
     /**
@@ -42,7 +59,47 @@ public class UniqueTagList {
         if (!contains(tag)) {
             throw new TagNotFoundException();
         }
-        return new ArrayList<>(internalList.get(tag).getPersons());
+        return toPersons(bitmaps.get(tag));
+    }
+
+    /**
+     * Returns the number of persons associated with given tag, or 0 if there is no such tag.
+     */
+    public int countPersons(Tag tag) {
+        requireNonNull(tag);
+        CompressedBitmap bitmap = bitmaps.get(tag);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+
+    /**
+     * Returns the persons associated with at least one of {@code tags}.
+     */
+    public List<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        CompressedBitmap union = new CompressedBitmap();
+        for (Tag tag : tags) {
+            CompressedBitmap bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                union = union.or(bitmap);
+            }
+        }
+        return toPersons(union);
+    }
+
+    /**
+     * Returns the persons associated with every one of {@code tags}.
+     */
+    public List<Person> getPersonsWithAllTags(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        CompressedBitmap intersection = null;
+        for (Tag tag : tags) {
+            CompressedBitmap bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                return new ArrayList<>();
+            }
+            intersection = intersection == null ? bitmap : intersection.and(bitmap);
+        }
+        return intersection == null ? new ArrayList<>() : toPersons(intersection);
     }
 
     /**
@@ -51,22 +108,25 @@ public class UniqueTagList {
      */
     public void add(Tag toAdd) {
         requireNonNull(toAdd);
-        internalList.put(toAdd, new UniquePersonList());
+        bitmaps.put(toAdd, new CompressedBitmap());
     }
 
     /**
-     * Adds all tags that belong to the person to the Map as a Key and adds the person to its (@Code UniquePersonList).
+     * Adds all tags that belong to the person to the Map as a Key and adds the person to the persons of each tag.
      */
     public void add(Person person) {
         requireNonNull(person);
+        if (person.getTags().isEmpty()) {
+            return;
+        }
+        if (ordinals.containsKey(person.getId())) {
+            throw new DuplicatePersonException();
+        }
+        int ordinal = assignOrdinal(person);
         for (Tag tag : person.getTags()) {
             requireNonNull(tag);
-            if (!contains(tag)) {
-                internalList.put(tag, new UniquePersonList());
-            }
-            internalList.get(tag).add(person);
+            bitmaps.computeIfAbsent(tag, unused -> new CompressedBitmap()).add(ordinal);
         }
-
     }
 
     /**
@@ -88,14 +148,25 @@ public class UniqueTagList {
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
         for (Tag t : toRemove.getTags()) {
-            if (!internalList.containsKey(t)) {
+            if (!bitmaps.containsKey(t)) {
                 throw new TagNotFoundException();
             }
-            internalList.get(t).remove(toRemove);
-            if (internalList.get(t).isEmpty()) {
-                internalList.remove(t);
+        }
+        if (toRemove.getTags().isEmpty()) {
+            return;
+        }
+        Integer ordinal = ordinals.get(toRemove.getId());
+        if (ordinal == null || !personsByOrdinal.get(ordinal).equals(toRemove)) {
+            throw new PersonNotFoundException();
+        }
+        for (Tag t : toRemove.getTags()) {
+            CompressedBitmap bitmap = bitmaps.get(t);
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(t);
             }
         }
+        releaseOrdinal(toRemove, ordinal);
     }
 
     /**
@@ -104,32 +175,111 @@ public class UniqueTagList {
     public void setTags(ObservableMap <Tag, UniquePersonList> tagListMap) {
         requireAllNonNull(tagListMap);
 
-        internalList.clear();
-        for (Tag tag : tagListMap.keySet()) {
-            if (!contains(tag)) {
-                internalList.put(tag, new UniquePersonList());
+        clear();
+        for (Map.Entry<Tag, UniquePersonList> entry : tagListMap.entrySet()) {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            for (Person person : entry.getValue()) {
+                Integer ordinal = ordinals.get(person.getId());
+                bitmap.add(ordinal == null ? assignOrdinal(person) : ordinal);
             }
-            internalList.get(tag).setPersons(tagListMap.get(tag));
+            bitmaps.put(entry.getKey(), bitmap);
+        }
+    }
+
+    /**
+     * Replaces the contents of this Map with the tags of {@code persons}, each mapped to the persons that have it.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void setTagsOf(List<Person> persons) {
+        requireAllNonNull(persons);
+
+        clear();
+        for (Person person : persons) {
+            add(person);
         }
     }
 
     /**
-     * Returns the backing map as an unmodifiable {@code ObservableMap}.
+     * Returns a copy of the contents as an unmodifiable {@code ObservableMap} from each tag to its persons.
+     * Later changes to this list are not reflected in the copy.
+     *
+     * Every call builds a new {@code UniquePersonList} for each tag, which costs time and memory in proportion to the
+     * number of tagged persons. Use {@link #getPersons(Tag)} or {@link #countPersons(Tag)} for the persons of one tag.
      */
     public ObservableMap<Tag, UniquePersonList> asUnmodifiableObservableMap() {
-        return FXCollections.unmodifiableObservableMap(internalList);
+        ObservableMap<Tag, UniquePersonList> map = FXCollections.observableHashMap();
+        for (Map.Entry<Tag, CompressedBitmap> entry : bitmaps.entrySet()) {
+            UniquePersonList persons = new UniquePersonList();
+            persons.setPersons(toPersons(entry.getValue()));
+            map.put(entry.getKey(), persons);
+        }
+        return FXCollections.unmodifiableObservableMap(map);
+    }
+
+    /**
+     * Removes all tags and persons.
+     */
+    private void clear() {
+        bitmaps.clear();
+        ordinals.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+    }
+
+    /**
+     * Gives {@code person} an unused ordinal, reusing the ordinals of removed persons to keep the bitmaps small.
+     */
+    private int assignOrdinal(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinals.put(person.getId(), ordinal);
+        return ordinal;
     }
 
+    /**
+     * Makes the ordinal of the removed {@code person} available to other persons.
+     */
+    private void releaseOrdinal(Person person, int ordinal) {
+        ordinals.remove(person.getId());
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Returns the persons whose ordinals are in {@code bitmap}, in order of ordinal.
+     */
+    private List<Person> toPersons(CompressedBitmap bitmap) {
+        List<Person> persons = new ArrayList<>(bitmap.cardinality());
+        bitmap.forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+
+    /**
+     * Returns each tag mapped to the set of its persons, which does not depend on the ordinals given to them.
+     */
+    private Map<Tag, Set<Person>> toPersonSets() {
+        Map<Tag, Set<Person>> personSets = new HashMap<>();
+        for (Map.Entry<Tag, CompressedBitmap> entry : bitmaps.entrySet()) {
+            personSets.put(entry.getKey(), new HashSet<>(toPersons(entry.getValue())));
+        }
+        return personSets;
+    }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof seedu.address.model.tag.UniqueTagList // instanceof handles nulls
-                && internalList.equals(((seedu.address.model.tag.UniqueTagList) other).internalList));
+                && toPersonSets().equals(((seedu.address.model.tag.UniqueTagList) other).toPersonSets()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return toPersonSets().hashCode();
     }
 }
@@ -2,6 +2,7 @@
 package seedu.address.model.trie;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * A bi-directional Tree structure that stems from the root node
@@ -20,7 +21,8 @@ public class Trie {
      * Class variables
      */
     private TrieNode root;
-    private ArrayList<String> baseList;
+    /** The number of times each value has been inserted and not yet removed. */
+    private HashMap<String, Integer> baseCounts;
     private ArrayList<String> predictionsList;
 
     /**
@@ -29,12 +31,12 @@ public class Trie {
     public Trie(ArrayList<String> inputList) {
         root = new TrieNode(CHAR_ROOT);
         root.setRootNode(true);
-        baseList = new ArrayList<>();
+        baseCounts = new HashMap<>();
         init(inputList);
     }
 
     /**
-     * Initialises the Trie instance with the items in baseList.
+     * Initialises the Trie instance with the items in inputList.
      */
     private void init(ArrayList<String> inputList) {
         for (String item : inputList) {
@@ -51,11 +53,10 @@ public class Trie {
             return;
         }
 
-        // Check if this value exists
-        if (!baseList.contains(value)) {
+        // Only the first insertion of a value adds it to the graph
+        if (baseCounts.merge(value, 1, Integer::sum) == 1) {
             insertToGraph(value);
         }
-        baseList.add(value);
     }
 
     /**
@@ -91,7 +92,7 @@ public class Trie {
     public void clear() {
         root = new TrieNode(CHAR_ROOT);
         root.setRootNode(true);
-        baseList = new ArrayList<>();
+        baseCounts = new HashMap<>();
     }
 
     /**
@@ -103,10 +104,17 @@ public class Trie {
             return;
         }
 
-        baseList.remove(value);
-        // Check if this value exists
-        if (!baseList.contains(value)) {
+        // Values that were never inserted are ignored
+        Integer count = baseCounts.get(value);
+        if (count == null) {
+            return;
+        }
+        // Only the last removal of a value removes it from the graph
+        if (count == 1) {
+            baseCounts.remove(value);
             removeFromGraph(value);
+        } else {
+            baseCounts.put(value, count - 1);
         }
     }
     /**
@@ -0,0 +1,133 @@
+package seedu.address.model.util;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Estimates how much heap the persons of an address book take up.
+ *
+ * The estimate assumes a 64-bit JVM with compressed references and compact strings, and counts the person objects,
+ * their values, the strings in them and their tag sets, but not optional values that are absent. An object shared by
+ * several persons, such as an interned address or tag set, is counted once.
+ */
+public class FootprintUtil {
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int HASH_MAP_BYTES = 48;
+    private static final int HASH_MAP_NODE_BYTES = 32;
+    private static final int MINIMUM_HASH_TABLE_CAPACITY = 16;
+
+    /**
+     * Returns the estimated number of bytes taken up by {@code persons}, counting shared objects once.
+     */
+    public static long estimateBytes(List<Person> persons) {
+        Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (Person person : persons) {
+            bytes += estimatePersonBytes(person, counted);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes {@code persons} would take up if no person shared any object with another.
+     */
+    public static long estimateUnsharedBytes(List<Person> persons) {
+        long bytes = 0;
+        for (Person person : persons) {
+            bytes += estimatePersonBytes(person, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a one-line description of the estimated heap footprint of {@code persons}, for logging.
+     */
+    public static String describe(List<Person> persons) {
+        if (persons.isEmpty()) {
+            return "No persons loaded";
+        }
+        long bytes = estimateBytes(persons);
+        long unsharedBytes = estimateUnsharedBytes(persons);
+        return String.format("%d persons take up about %d bytes each (%d bytes each without shared values, "
+                + "%d%% saved)", persons.size(), bytes / persons.size(), unsharedBytes / persons.size(),
+                100 - 100 * bytes / unsharedBytes);
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by the objects of {@code person} that are not in {@code counted},
+     * and adds them to {@code counted}.
+     */
+    private static long estimatePersonBytes(Person person, Set<Object> counted) {
+        // The person holds an id and eight references.
+        long bytes = align(OBJECT_HEADER_BYTES + Long.BYTES + 8 * REFERENCE_BYTES);
+        bytes += estimateValueBytes(person.getName(), person.getName().fullName, 0, counted);
+        bytes += estimateValueBytes(person.getPhone(), person.getPhone().value, 0, counted);
+        bytes += estimateValueBytes(person.getEmail(), person.getEmail().value, 0, counted);
+        bytes += estimateValueBytes(person.getAddress(), person.getAddress().value, 0, counted);
+        if (person.positionDoesExist()) {
+            bytes += estimateValueBytes(person.getPosition(), person.getPosition().value, 0, counted);
+        }
+        if (person.kpiDoesExist()) {
+            bytes += estimateValueBytes(person.getKpi(), person.getKpi().value, Double.BYTES, counted);
+        }
+        if (person.noteDoesExist()) {
+            bytes += estimateValueBytes(person.getNote(), person.getNote().value, 0, counted);
+        }
+        if (counted.add(person.getTags())) {
+            bytes += estimateSetBytes(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                bytes += estimateValueBytes(tag, tag.tagName, REFERENCE_BYTES, counted);
+                if (counted.add(tag.priority)) {
+                    bytes += align(OBJECT_HEADER_BYTES + Integer.BYTES);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by {@code value}, which holds {@code string} and
+     * {@code otherFieldBytes} of other fields, counting only the objects not already in {@code counted}.
+     */
+    private static long estimateValueBytes(Object value, String string, int otherFieldBytes, Set<Object> counted) {
+        if (!counted.add(value)) {
+            return 0;
+        }
+        long bytes = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES + otherFieldBytes);
+        if (string != null && counted.add(string)) {
+            // The String object, and its byte array of one byte per Latin-1 character.
+            bytes += align(OBJECT_HEADER_BYTES + REFERENCE_BYTES + 2 * Integer.BYTES)
+                    + align(OBJECT_HEADER_BYTES + Integer.BYTES + string.length());
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by an unmodifiable view of a {@code HashSet} of {@code size}
+     * elements, excluding the elements.
+     */
+    private static long estimateSetBytes(int size) {
+        int capacity = MINIMUM_HASH_TABLE_CAPACITY;
+        while (capacity * 3 / 4 < size) {
+            capacity *= 2;
+        }
+        long viewBytes = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+        long hashSetBytes = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+        long tableBytes = align(OBJECT_HEADER_BYTES + Integer.BYTES + (long) capacity * REFERENCE_BYTES);
+        return viewBytes + hashSetBytes + HASH_MAP_BYTES + tableBytes + (long) size * HASH_MAP_NODE_BYTES;
+    }
+
+    /**
+     * Rounds {@code bytes} up to the 8-byte alignment of objects on the heap.
+     */
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
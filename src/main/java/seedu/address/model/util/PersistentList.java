@@ -0,0 +1,482 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An immutable list in which every update returns a new list that shares all but O(log n) of its structure with the
+ * old one, so that many versions of a large list can be kept at little more than the cost of one.
+ *
+ * The elements are kept in a balanced binary tree ordered by position, in which every node knows the size of its
+ * subtree. Updates copy only the nodes on the path from the root to the changed position.
+ *
+ * Every node and list is stamped with the time it was made, so the nodes that a list made by updates does not share
+ * with the list it was made from are the ones made after that list. Two such lists are compared by visiting only
+ * those nodes.
+ */
+public final class PersistentList<E> {
+
+    /** The clock that stamps the nodes and lists, which ticks once for each one made. */
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+    private final long stamp;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+        this.stamp = CLOCK.incrementAndGet();
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in the same order.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(new ArrayList<>(elements), 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> add(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(delete(root, index));
+    }
+
+    /**
+     * Returns a new mutable list of the elements, in order.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        addAll(root, list);
+        return list;
+    }
+
+    /**
+     * Returns the changes that turn this list into {@code target}, one of which must have been made from the other by
+     * updates. Only the nodes that the two lists do not share are visited, so this takes time in proportion to the
+     * number of updates between them rather than to their size.
+     * Elements are told apart by identity, so an element that is in both lists is never reported as changed.
+     */
+    public Diff<E> diff(PersistentList<E> target) {
+        requireNonNull(target);
+        if (target.root == root) {
+            return new Diff<>(Collections.emptyList(), Collections.emptyList(), true);
+        }
+        boolean isTargetNewer = target.stamp > stamp;
+        PersistentList<E> older = isTargetNewer ? this : target;
+        PersistentList<E> newer = isTargetNewer ? target : this;
+
+        // The nodes of the newer list made before the older list are shared with it, along with their subtrees.
+        List<Change<E>> newerOnly = new ArrayList<>();
+        Map<Node<E>, Integer> sharedNodes = new IdentityHashMap<>();
+        collectNewerNodes(newer.root, 0, older.stamp, newerOnly, sharedNodes);
+        List<Change<E>> olderOnly = new ArrayList<>();
+        List<int[]> sharedRuns = new ArrayList<>();
+        collectUnsharedNodes(older.root, 0, sharedNodes, olderOnly, sharedRuns);
+
+        List<Change<E>> removed = isTargetNewer ? olderOnly : newerOnly;
+        List<Change<E>> added = isTargetNewer ? newerOnly : olderOnly;
+        if (!isTargetNewer) {
+            for (int[] run : sharedRuns) {
+                int olderStart = run[0];
+                run[0] = run[1];
+                run[1] = olderStart;
+            }
+        }
+        return Diff.of(removed, added, sharedRuns);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        return toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * Throws {@code IndexOutOfBoundsException} unless {@code 0 <= index < bound}.
+     */
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound - 1));
+        }
+    }
+
+    /**
+     * Returns a balanced tree of {@code elements[from, to)}.
+     */
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    /**
+     * Adds the elements of the tree rooted at {@code node} to {@code list}, in order.
+     */
+    private static <E> void addAll(Node<E> node, List<E> list) {
+        while (node != null) {
+            addAll(node.left, list);
+            list.add(node.value);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Adds the elements of the nodes under {@code node}, including its own, that were made after {@code stamp} to
+     * {@code changes}, in order, with their positions counted from {@code offset}. The topmost nodes made before
+     * {@code stamp} are put in {@code sharedNodes}, with their positions.
+     */
+    private static <E> void collectNewerNodes(Node<E> node, int offset, long stamp, List<Change<E>> changes,
+                                              Map<Node<E>, Integer> sharedNodes) {
+        if (node == null) {
+            return;
+        }
+        if (node.stamp < stamp) {
+            sharedNodes.put(node, offset);
+            return;
+        }
+        int leftSize = sizeOf(node.left);
+        collectNewerNodes(node.left, offset, stamp, changes, sharedNodes);
+        changes.add(new Change<>(node.value, offset + leftSize));
+        collectNewerNodes(node.right, offset + leftSize + 1, stamp, changes, sharedNodes);
+    }
+
+    /**
+     * Adds the elements of the nodes under {@code node}, including its own, that are not under any of
+     * {@code sharedNodes} to {@code changes}, in order, with their positions counted from {@code offset}.
+     * Each shared node that is reached is put in {@code sharedRuns} as its position in this tree, its position in the
+     * other tree and its size.
+     */
+    private static <E> void collectUnsharedNodes(Node<E> node, int offset, Map<Node<E>, Integer> sharedNodes,
+                                                 List<Change<E>> changes, List<int[]> sharedRuns) {
+        if (node == null) {
+            return;
+        }
+        Integer otherOffset = sharedNodes.get(node);
+        if (otherOffset != null) {
+            sharedRuns.add(new int[] {offset, otherOffset, node.size});
+            return;
+        }
+        int leftSize = sizeOf(node.left);
+        collectUnsharedNodes(node.left, offset, sharedNodes, changes, sharedRuns);
+        changes.add(new Change<>(node.value, offset + leftSize));
+        collectUnsharedNodes(node.right, offset + leftSize + 1, sharedNodes, changes, sharedRuns);
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} with the element at {@code index} replaced.
+     */
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    /**
+     * Returns a copy of the tree rooted at {@code node} without the element at {@code index}.
+     */
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, delete(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, delete(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, delete(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code value} over {@code left} and {@code right}, rotated if their heights differ by more
+     * than one so that the tree stays balanced.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                Node<E> pivot = left.right;
+                return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                        new Node<>(value, pivot.right, right));
+            }
+            return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+        }
+        if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                Node<E> pivot = right.left;
+                return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                        new Node<>(right.value, pivot.right, right.right));
+            }
+            return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+        private final long stamp;
+
+        private Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.stamp = CLOCK.incrementAndGet();
+        }
+    }
+
+    /**
+     * An element removed from or added to a list, with its position in the list it is in.
+     */
+    public static final class Change<E> {
+        private final E element;
+        private final int index;
+
+        private Change(E element, int index) {
+            this.element = element;
+            this.index = index;
+        }
+
+        public E getElement() {
+            return element;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+    }
+
+    /**
+     * The changes that turn one list into another: the elements removed, with their positions in the first list, and
+     * the elements added, with their positions in the second list, both in order of position.
+     */
+    public static final class Diff<E> {
+        private final List<Change<E>> removed;
+        private final List<Change<E>> added;
+        private final boolean isOrderKept;
+
+        private Diff(List<Change<E>> removed, List<Change<E>> added, boolean isOrderKept) {
+            this.removed = removed;
+            this.added = added;
+            this.isOrderKept = isOrderKept;
+        }
+
+        /**
+         * Returns the changes between the elements of the unshared nodes of two lists, {@code removed} from the
+         * first and {@code added} from the second, leaving out the elements that are in both. Each of
+         * {@code sharedRuns} is the position of a shared subtree in the first list, its position in the second list
+         * and its size.
+         */
+        private static <E> Diff<E> of(List<Change<E>> removed, List<Change<E>> added, List<int[]> sharedRuns) {
+            Map<E, Integer> addedIndexes = new IdentityHashMap<>();
+            for (Change<E> change : added) {
+                addedIndexes.put(change.element, change.index);
+            }
+            List<Change<E>> kept = new ArrayList<>();
+            List<Change<E>> onlyRemoved = new ArrayList<>();
+            for (Change<E> change : removed) {
+                Integer newIndex = addedIndexes.remove(change.element);
+                if (newIndex == null) {
+                    onlyRemoved.add(change);
+                } else {
+                    kept.add(change);
+                    sharedRuns.add(new int[] {change.index, newIndex, 1});
+                }
+            }
+            List<Change<E>> onlyAdded = new ArrayList<>();
+            for (Change<E> change : added) {
+                if (addedIndexes.containsKey(change.element)) {
+                    onlyAdded.add(change);
+                }
+            }
+            return new Diff<>(onlyRemoved, onlyAdded, keepsOrder(onlyRemoved, onlyAdded, sharedRuns));
+        }
+
+        /**
+         * Returns true if each of {@code sharedRuns} has as many elements that are kept before it in the first list
+         * as in the second, so that removing {@code removed} and then adding {@code added} in order leaves it in
+         * place.
+         */
+        private static <E> boolean keepsOrder(List<Change<E>> removed, List<Change<E>> added,
+                                               List<int[]> sharedRuns) {
+            for (int[] run : sharedRuns) {
+                if (run[0] - countBefore(removed, run[0]) != run[1] - countBefore(added, run[1])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the number of {@code changes}, which are in order of position, before {@code index}.
+         */
+        private static <E> int countBefore(List<Change<E>> changes, int index) {
+            int low = 0;
+            int high = changes.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (changes.get(middle).index < index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the elements removed, with their positions in the first list, in order of position.
+         */
+        public List<Change<E>> getRemoved() {
+            return Collections.unmodifiableList(removed);
+        }
+
+        /**
+         * Returns the elements added, with their positions in the second list, in order of position.
+         */
+        public List<Change<E>> getAdded() {
+            return Collections.unmodifiableList(added);
+        }
+
+        /**
+         * Returns true if the elements in both lists are in the same order in both, so that removing the removed
+         * elements from the first list and then inserting the added elements in order of position gives the second.
+         */
+        public boolean isOrderKept() {
+            return isOrderKept;
+        }
+    }
+}
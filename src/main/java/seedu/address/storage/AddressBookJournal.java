@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * An append-only log of {@link JournalEntry}s kept next to an address book data file.
+ *
+ * The first line names the snapshot (data file) that the journal applies to by the snapshot's checksum, so that a
+ * journal left over from an older snapshot is never replayed onto a newer one. Every following line holds one entry
+ * prefixed by a checksum of the line, so that a line torn by a crash during an append is detected and discarded.
+ * An entry is committed once {@link #append(List)} returns.
+ */
+class AddressBookJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final String HEADER_PREFIX = "#corppro-journal 2 ";
+    /** The header of journals written before persons were recorded with their ids. */
+    private static final String HEADER_PREFIX_WITHOUT_IDS = "#corppro-journal 1 ";
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final char LINE_SEPARATOR = '\n';
+    private static final char ESCAPE = '\\';
+    private static final String NULL_FIELD = "\\0";
+
+    private final Path file;
+    private final FileChannel channel;
+
+    private AddressBookJournal(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Opens an existing journal for appending.
+     */
+    static AddressBookJournal open(Path file) throws IOException {
+        requireNonNull(file);
+        return new AddressBookJournal(file);
+    }
+
+    /**
+     * Creates, or replaces, the journal at {@code file} so that it applies to the snapshot with checksum
+     * {@code snapshotChecksum} and contains the already-encoded entries in {@code entryBytes}.
+     * The new journal is on disk when this method returns.
+     */
+    static void create(Path file, String snapshotChecksum, byte[] entryBytes) throws IOException {
+        requireNonNull(file);
+        requireNonNull(snapshotChecksum);
+        requireNonNull(entryBytes);
+        byte[] header = (HEADER_PREFIX + snapshotChecksum + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        try (FileChannel newChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(newChannel, ByteBuffer.wrap(header));
+            writeFully(newChannel, ByteBuffer.wrap(entryBytes));
+            newChannel.force(true);
+        }
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the data file at {@code dataFile}.
+     */
+    static Path getJournalPath(Path dataFile) {
+        return Paths.get(dataFile.toString() + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns a checksum of the contents of {@code file}, used to tie a journal to a snapshot.
+     */
+    static String checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        long length = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                length += read;
+            }
+        }
+        return Long.toHexString(crc.getValue()) + ":" + length;
+    }
+
+    /**
+     * Reads the journal at {@code file}.
+     * Returns {@code Optional.empty()} if there is no journal or it does not have a valid header.
+     * Reading stops at the first torn or corrupted line; everything before it is returned.
+     *
+     * @throws DataConversionException if a committed entry violates any data constraints.
+     */
+    static Optional<Contents> read(Path file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int headerEnd = indexOf(bytes, LINE_SEPARATOR, 0);
+        if (headerEnd < 0) {
+            return Optional.empty();
+        }
+        String header = new String(bytes, 0, headerEnd, StandardCharsets.UTF_8);
+        boolean hasPersonIds = header.startsWith(HEADER_PREFIX);
+        if (!hasPersonIds && !header.startsWith(HEADER_PREFIX_WITHOUT_IDS)) {
+            return Optional.empty();
+        }
+        String headerPrefix = hasPersonIds ? HEADER_PREFIX : HEADER_PREFIX_WITHOUT_IDS;
+        String snapshotChecksum = header.substring(headerPrefix.length());
+
+        List<JournalEntry> entries = new ArrayList<>();
+        int lineStart = headerEnd + 1;
+        int lineEnd;
+        while ((lineEnd = indexOf(bytes, LINE_SEPARATOR, lineStart)) >= 0) {
+            String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            Optional<String> body = verifyLine(line);
+            if (!body.isPresent()) {
+                break;
+            }
+            try {
+                entries.add(JournalEntry.fromFields(decodeFields(body.get()), hasPersonIds));
+            } catch (IllegalValueException ive) {
+                throw new DataConversionException(ive);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return Optional.of(new Contents(snapshotChecksum, entries, lineStart, hasPersonIds));
+    }
+
+    /**
+     * Appends {@code entries} to the journal and forces them to disk.
+     */
+    void append(List<JournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        if (entries.isEmpty()) {
+            return;
+        }
+        writeFully(channel, ByteBuffer.wrap(encode(entries)));
+        channel.force(false);
+    }
+
+    /**
+     * Returns the encoded form of {@code entries}, as it would be appended to a journal.
+     */
+    static byte[] encode(List<JournalEntry> entries) {
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            String body = encodeFields(entry.toFields());
+            lines.append(lineChecksumOf(body)).append(FIELD_SEPARATOR).append(body).append(LINE_SEPARATOR);
+        }
+        return lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Discards everything after the first {@code length} bytes of the journal, e.g. a torn line.
+     */
+    void truncate(long length) throws IOException {
+        channel.truncate(length);
+    }
+
+    /**
+     * Returns the bytes of the journal from {@code position} to its end.
+     */
+    byte[] readFrom(long position) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        int start = (int) Math.min(position, bytes.length);
+        byte[] tail = new byte[bytes.length - start];
+        System.arraycopy(bytes, start, tail, 0, tail.length);
+        return tail;
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the body of {@code line} if its checksum is correct.
+     */
+    private static Optional<String> verifyLine(String line) {
+        int separator = line.indexOf(FIELD_SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String body = line.substring(separator + 1);
+        if (!line.substring(0, separator).equals(lineChecksumOf(body))) {
+            return Optional.empty();
+        }
+        return Optional.of(body);
+    }
+
+    /**
+     * Returns the checksum that prefixes a line with the given {@code body}.
+     */
+    private static String lineChecksumOf(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Joins {@code fields} into a single line, escaping separators so that any field value can be represented.
+     */
+    private static String encodeFields(List<String> fields) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                body.append(FIELD_SEPARATOR);
+            }
+            String field = fields.get(i);
+            if (field == null) {
+                body.append(NULL_FIELD);
+                continue;
+            }
+            for (char c : field.toCharArray()) {
+                switch (c) {
+                case ESCAPE:
+                    body.append(ESCAPE).append(ESCAPE);
+                    break;
+                case FIELD_SEPARATOR:
+                    body.append(ESCAPE).append('t');
+                    break;
+                case LINE_SEPARATOR:
+                    body.append(ESCAPE).append('n');
+                    break;
+                case '\r':
+                    body.append(ESCAPE).append('r');
+                    break;
+                default:
+                    body.append(c);
+                }
+            }
+        }
+        return body.toString();
+    }
+
+    /**
+     * Splits a line produced by {@link #encodeFields(List)} back into its fields.
+     */
+    private static List<String> decodeFields(String body) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isNull = false;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                fields.add(isNull ? null : field.toString());
+                field.setLength(0);
+                isNull = false;
+            } else if (c == ESCAPE && i + 1 < body.length()) {
+                char escaped = body.charAt(++i);
+                if (escaped == '0') {
+                    isNull = true;
+                } else if (escaped == 't') {
+                    field.append(FIELD_SEPARATOR);
+                } else if (escaped == 'n') {
+                    field.append(LINE_SEPARATOR);
+                } else if (escaped == 'r') {
+                    field.append('\r');
+                } else {
+                    field.append(escaped);
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(isNull ? null : field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the index of the first {@code target} byte in {@code bytes} at or after {@code from}, or -1.
+     */
+    private static int indexOf(byte[] bytes, char target, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * The committed contents of a journal.
+     */
+    static class Contents {
+        private final String snapshotChecksum;
+        private final List<JournalEntry> entries;
+        private final long validLength;
+        private final boolean isCurrentFormat;
+
+        private Contents(String snapshotChecksum, List<JournalEntry> entries, long validLength,
+                         boolean isCurrentFormat) {
+            this.snapshotChecksum = snapshotChecksum;
+            this.entries = entries;
+            this.validLength = validLength;
+            this.isCurrentFormat = isCurrentFormat;
+        }
+
+        String getSnapshotChecksum() {
+            return snapshotChecksum;
+        }
+
+        List<JournalEntry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * Returns the length in bytes of the header and all committed entries.
+         */
+        long getValidLength() {
+            return validLength;
+        }
+
+        /**
+         * Returns true if new entries can be appended to the journal, which is not the case for a journal written in
+         * an older format.
+         */
+        boolean isCurrentFormat() {
+            return isCurrentFormat;
+        }
+    }
+}
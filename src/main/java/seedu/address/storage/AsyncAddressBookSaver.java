@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book in the background, coalescing bursts of save requests into a single write.
+ *
+ * The first request after a write starts a timer of {@code maxStalenessMillis}; further requests made before the
+ * timer expires only replace the data to be saved and add to its changes. When the timer expires, the latest data is
+ * snapshotted once on the {@code modelExecutor} (the thread that owns the model) and written, with the combined
+ * changes, on a dedicated background thread.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long maxStalenessMillis;
+    private final Executor modelExecutor;
+    private final Consumer<IOException> errorHandler;
+    private final ScheduledExecutorService saveExecutor;
+
+    private ReadOnlyAddressBook pendingData;
+    private AddressBookChanges pendingChanges = new AddressBookChanges();
+    private ScheduledFuture<?> scheduledSave;
+    private int requestsSinceLastSave;
+    private long totalRequests;
+    private long totalSaves;
+
+    /**
+     * @param addressBookStorage the storage to write the address book to.
+     * @param maxStalenessMillis the longest time a change may wait before it is written.
+     * @param modelExecutor runs tasks on the thread that mutates the model, so snapshots are consistent.
+     * @param errorHandler receives any exception thrown while writing, on the {@code modelExecutor}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage addressBookStorage, long maxStalenessMillis,
+                                 Executor modelExecutor, Consumer<IOException> errorHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(modelExecutor);
+        requireNonNull(errorHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.modelExecutor = modelExecutor;
+        this.errorHandler = errorHandler;
+        this.saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookSaver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests that {@code data} be saved within the staleness window, as a whole.
+     * Must be called from the thread that owns the model.
+     */
+    public void requestSave(ReadOnlyAddressBook data) {
+        requestSave(data, AddressBookChanges.fullReload());
+    }
+
+    /**
+     * Requests that {@code data}, which is the previously requested data with {@code changes} applied, be saved
+     * within the staleness window.
+     * Must be called from the thread that owns the model.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook data, AddressBookChanges changes) {
+        requireNonNull(data);
+        requireNonNull(changes);
+        pendingData = data;
+        pendingChanges.recordAll(changes);
+        requestsSinceLastSave++;
+        totalRequests++;
+        if (scheduledSave == null) {
+            scheduledSave = saveExecutor.schedule(() -> modelExecutor.execute(this::snapshotAndSave),
+                    maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any pending data immediately and waits until all writes have completed.
+     * Must be called from the thread that owns the model.
+     */
+    public void flush() {
+        if (saveExecutor.isShutdown()) {
+            return;
+        }
+        snapshotAndSave();
+        try {
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to flush address book: " + e.getCause());
+        }
+    }
+
+    /**
+     * Flushes pending data and stops the background thread.
+     */
+    public void shutdown() {
+        flush();
+        saveExecutor.shutdown();
+        logger.info(String.format("Address book saver stopped: %d save requests written in %d saves",
+                getSaveCount() + getCoalescedSaveCount(), getSaveCount()));
+    }
+
+    /**
+     * Returns the number of save requests that did not need a write of their own.
+     */
+    public synchronized long getCoalescedSaveCount() {
+        return totalRequests - totalSaves;
+    }
+
+    /**
+     * Returns the number of writes performed.
+     */
+    public synchronized long getSaveCount() {
+        return totalSaves;
+    }
+
+    /**
+     * Copies the persons and activities of the pending data, if any, and queues them to be written.
+     * The copy and the queueing happen atomically so that writes are queued in the order the copies were taken.
+     */
+    private synchronized void snapshotAndSave() {
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+            scheduledSave = null;
+        }
+        if (pendingData == null) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(AddressBookSnapshot.of(pendingData), pendingChanges, requestsSinceLastSave);
+        pendingData = null;
+        pendingChanges = new AddressBookChanges();
+        requestsSinceLastSave = 0;
+        totalSaves++;
+        saveExecutor.execute(() -> write(snapshot));
+    }
+
+    /**
+     * Writes {@code snapshot} to storage, passing any failure to the error handler.
+     */
+    private void write(Snapshot snapshot) {
+        try {
+            addressBookStorage.saveAddressBookChanges(snapshot.data, snapshot.changes);
+            logger.fine(String.format("Saved address book, coalesced %d save requests into one write",
+                    snapshot.requestCount));
+        } catch (IOException e) {
+            modelExecutor.execute(() -> errorHandler.accept(e));
+        }
+    }
+
+    /**
+     * A copy of the address book together with its changes since the last save and the number of save requests it
+     * covers.
+     */
+    private static class Snapshot {
+        private final ReadOnlyAddressBook data;
+        private final AddressBookChanges changes;
+        private final int requestCount;
+
+        private Snapshot(ReadOnlyAddressBook data, AddressBookChanges changes, int requestCount) {
+            this.data = data;
+            this.changes = changes;
+            this.requestCount = requestCount;
+        }
+    }
+}
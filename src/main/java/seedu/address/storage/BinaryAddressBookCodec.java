@@ -0,0 +1,370 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the address book in a compact binary format.
+ *
+ * Every distinct string (names, addresses, positions, tags, ...) is stored once in a dictionary at the start of the
+ * file, and persons and activities refer to strings by their index in it. All numbers are stored as varints.
+ *
+ * <pre>
+ * file       = magic version checksum body
+ * magic      = "CPAB"
+ * version    = varint
+ * checksum   = CRC32 of body, 4 bytes big-endian
+ * body       = count string*  count person*  count activity*
+ * string     = varint (length in bytes) UTF-8 bytes
+ * person     = id name phone email address optional optional optional count tag*
+ *              (id is a varint, absent in version 1 files; name, phone, email, address and tag are string
+ *              indexes; optional is 0 or string index + 1)
+ * activity   = varint (zigzag-encoded epoch milliseconds) string index optional
+ *              (optional is the recurrence, absent in version 1 and 2 files)
+ * </pre>
+ */
+public class BinaryAddressBookCodec {
+
+    public static final int VERSION = 3;
+
+    /** The oldest version that can still be read, in which persons were stored without their ids. */
+    private static final int VERSION_WITHOUT_IDS = 1;
+    /** The version in which activities were stored without their recurrences. */
+    private static final int VERSION_WITHOUT_RECURRENCES = 2;
+
+    private static final byte[] MAGIC = {'C', 'P', 'A', 'B'};
+    private static final int CHECKSUM_LENGTH = 4;
+
+    /**
+     * Returns true if {@code file} starts with the magic bytes of this format.
+     */
+    public static boolean isBinaryFile(Path file) throws IOException {
+        requireNonNull(file);
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read = 0;
+            while (read < start.length) {
+                int count = in.read(start, read, start.length - read);
+                if (count < 0) {
+                    return false;
+                }
+                read += count;
+            }
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws DataConversionException if the file is not in this format, is of an unsupported version, or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated or duplicate persons.
+     */
+    public static AddressBook read(Path file) throws IOException, DataConversionException, IllegalValueException {
+        requireNonNull(file);
+        Decoder in = new Decoder(Files.readAllBytes(file));
+
+        for (byte expected : MAGIC) {
+            if (in.readByte() != expected) {
+                throw in.corrupted("not a binary address book file");
+            }
+        }
+        int version = in.readInt();
+        if (version != VERSION && version != VERSION_WITHOUT_RECURRENCES && version != VERSION_WITHOUT_IDS) {
+            throw in.corrupted("unsupported version " + version);
+        }
+        long checksum = 0;
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            checksum = (checksum << 8) | (in.readByte() & 0xFF);
+        }
+        if (checksum != in.checksumOfRemaining()) {
+            throw in.corrupted("checksum mismatch");
+        }
+
+        String[] strings = new String[in.readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readString();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        ParallelPersonConverter persons = new ParallelPersonConverter();
+        int personCount = in.readCount();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(in, strings, version != VERSION_WITHOUT_IDS));
+        }
+        addressBook.setPersonsAndTags(persons.finish());
+        int activityCount = in.readCount();
+        for (int i = 0; i < activityCount; i++) {
+            Date date = new Date(in.readSignedLong());
+            String name = in.readString(strings);
+            String recurrence = version == VERSION ? in.readOptionalString(strings) : null;
+            addressBook.addActivity(new XmlAdaptedActivity(date, name, recurrence).toModelType());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code file}.
+     */
+    public static void write(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        Encoder records = new Encoder();
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        records.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(records, person, dictionary, strings);
+        }
+        records.writeInt(addressBook.getActivityList().size());
+        for (Activity activity : addressBook.getActivityList()) {
+            records.writeSignedLong(activity.getDate().getTime());
+            records.writeInt(indexOf(activity.getActivityName(), dictionary, strings));
+            records.writeInt(activity.isRecurring()
+                    ? indexOf(activity.getRecurrence().toString(), dictionary, strings) + 1 : 0);
+        }
+
+        Encoder body = new Encoder();
+        body.writeInt(strings.size());
+        for (String string : strings) {
+            body.writeString(string);
+        }
+        records.writeTo(body);
+        byte[] bodyBytes = body.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(bodyBytes);
+        long checksum = crc.getValue();
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            Encoder header = new Encoder();
+            header.write(MAGIC, 0, MAGIC.length);
+            header.writeInt(VERSION);
+            for (int shift = 8 * (CHECKSUM_LENGTH - 1); shift >= 0; shift -= 8) {
+                header.write((int) (checksum >>> shift));
+            }
+            header.writeTo(out);
+            out.write(bodyBytes);
+        }
+    }
+
+    /**
+     * Reads a person, and its id if {@code hasId}. The person is validated when it is converted to the model type.
+     */
+    private static XmlAdaptedPerson readPerson(Decoder in, String[] strings, boolean hasId)
+            throws DataConversionException {
+        String id = hasId ? Long.toString(in.readLong()) : null;
+        String name = in.readString(strings);
+        String phone = in.readString(strings);
+        String email = in.readString(strings);
+        String address = in.readString(strings);
+        String position = in.readOptionalString(strings);
+        String kpi = in.readOptionalString(strings);
+        String note = in.readOptionalString(strings);
+        int tagCount = in.readCount();
+        List<XmlAdaptedTag> tagged = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tagged.add(new XmlAdaptedTag(in.readString(strings)));
+        }
+        return new XmlAdaptedPerson(id, name, phone, email, address, position, kpi, note, tagged);
+    }
+
+    /**
+     * Writes {@code person}, adding its strings to the dictionary.
+     */
+    private static void writePerson(Encoder out, Person person, Map<String, Integer> dictionary,
+                                    List<String> strings) {
+        out.writeLong(person.getId());
+        out.writeInt(indexOf(person.getName().fullName, dictionary, strings));
+        out.writeInt(indexOf(person.getPhone().value, dictionary, strings));
+        out.writeInt(indexOf(person.getEmail().value, dictionary, strings));
+        out.writeInt(indexOf(person.getAddress().value, dictionary, strings));
+        out.writeInt(person.positionDoesExist() ? indexOf(person.getPosition().value, dictionary, strings) + 1 : 0);
+        out.writeInt(person.kpiDoesExist() ? indexOf(person.getKpi().value, dictionary, strings) + 1 : 0);
+        out.writeInt(person.noteDoesExist() ? indexOf(person.getNote().value, dictionary, strings) + 1 : 0);
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(indexOf(new XmlAdaptedTag(tag).getTagName(), dictionary, strings));
+        }
+    }
+
+    /**
+     * Returns the dictionary index of {@code string}, adding it to the dictionary if it is new.
+     */
+    private static int indexOf(String string, Map<String, Integer> dictionary, List<String> strings) {
+        Integer index = dictionary.get(string);
+        if (index == null) {
+            index = strings.size();
+            dictionary.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    /**
+     * Writes varints and strings to a growable buffer.
+     */
+    private static class Encoder extends ByteArrayOutputStream {
+
+        void writeInt(int value) {
+            writeLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeSignedLong(long value) {
+            writeLong((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * Writes {@code value} as an unsigned varint, 7 bits per byte, least significant group first.
+         */
+        void writeLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Reads varints and strings from a byte array, reporting any read past its end as corruption.
+     */
+    private static class Decoder {
+        private final byte[] bytes;
+        private int position;
+
+        Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Reads a single byte.
+         */
+        byte readByte() throws DataConversionException {
+            if (position >= bytes.length) {
+                throw corrupted("unexpected end of file");
+            }
+            return bytes[position++];
+        }
+
+        /**
+         * Reads an unsigned varint that must fit in an {@code int}.
+         */
+        int readInt() throws DataConversionException {
+            long value = readLong();
+            if (value > Integer.MAX_VALUE) {
+                throw corrupted("number out of range");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the number of items that follow, each of which takes at least one byte.
+         */
+        int readCount() throws DataConversionException {
+            int count = readInt();
+            if (count > bytes.length - position) {
+                throw corrupted("count out of range");
+            }
+            return count;
+        }
+
+        long readSignedLong() throws DataConversionException {
+            long value = readLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Reads an unsigned varint written by {@link Encoder#writeLong(long)}.
+         */
+        long readLong() throws DataConversionException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw corrupted("malformed number");
+        }
+
+        /**
+         * Reads a length-prefixed UTF-8 string.
+         */
+        String readString() throws DataConversionException {
+            int length = readInt();
+            if (length > bytes.length - position) {
+                throw corrupted("unexpected end of file");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        /**
+         * Reads a dictionary index and returns the string it refers to.
+         */
+        String readString(String[] strings) throws DataConversionException {
+            int index = readInt();
+            if (index >= strings.length) {
+                throw corrupted("string index out of range");
+            }
+            return strings[index];
+        }
+
+        /**
+         * Reads a dictionary index plus one, where 0 means the string is absent.
+         */
+        String readOptionalString(String[] strings) throws DataConversionException {
+            int index = readInt();
+            if (index == 0) {
+                return null;
+            }
+            if (index > strings.length) {
+                throw corrupted("string index out of range");
+            }
+            return strings[index - 1];
+        }
+
+        long checksumOfRemaining() {
+            CRC32 crc = new CRC32();
+            crc.update(bytes, position, bytes.length - position);
+            return crc.getValue();
+        }
+
+        DataConversionException corrupted(String reason) {
+            return new DataConversionException(
+                    new IOException("Corrupted binary address book at byte " + position + ": " + reason));
+        }
+    }
+}
@@ -115,27 +115,27 @@ public class CsvReader {
             Name name = new Name(sections.get(0));
             Phone phone = new Phone(sections.get(1));
             Email email = new Email(sections.get(2));
-            Address address = new Address(sections.get(3));
+            Address address = Address.intern(new Address(sections.get(3)));
 
             Position position;
             if (sections.get(4).equals("null")) {
-                position = new Position();
+                position = Position.intern(new Position());
             } else {
-                position = new Position(sections.get(4).trim());
+                position = Position.intern(new Position(sections.get(4).trim()));
             }
 
             Kpi kpi;
             if (sections.get(5).equals("null")) {
-                kpi = new Kpi();
+                kpi = Kpi.intern(new Kpi());
             } else {
-                kpi = new Kpi(sections.get(5).trim());
+                kpi = Kpi.intern(new Kpi(sections.get(5).trim()));
             }
 
             Note note;
             if (sections.get(6).equals("null")) {
-                note = new Note();
+                note = Note.intern(new Note());
             } else {
-                note = new Note(sections.get(6).trim());
+                note = Note.intern(new Note(sections.get(6).trim()));
             }
 
             Set<Tag> tagList = new HashSet<>();
@@ -151,7 +151,7 @@ public class CsvReader {
                         tag = new Tag(tagName.trim());
                     }
 
-                    tagList.add(tag);
+                    tagList.add(Tag.intern(tag));
                 }
             }
             return new Person(name, phone, email, address, position, kpi, note, tagList);
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single change to the address book, as recorded in an {@link AddressBookJournal}.
+ * An entry is encoded as a list of string fields, the first of which identifies the operation.
+ */
+class JournalEntry {
+
+    /**
+     * The operations that can be recorded.
+     */
+    enum Operation {
+        ADD_PERSON("P+"),
+        REMOVE_PERSON("P-"),
+        UPDATE_PERSON("P="),
+        ADD_ACTIVITY("A+"),
+        REMOVE_ACTIVITY("A-");
+
+        private final String code;
+
+        Operation(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Returns the operation identified by {@code code}.
+         */
+        private static Operation fromCode(String code) throws IllegalValueException {
+            for (Operation operation : values()) {
+                if (operation.code.equals(code)) {
+                    return operation;
+                }
+            }
+            throw new IllegalValueException("Unknown journal operation: " + code);
+        }
+    }
+
+    /** The number of fields of a person before its tags, the last of which is its id. */
+    private static final int PERSON_FIELD_COUNT = 8;
+
+    private final Operation operation;
+    private final Name targetName;
+    private final Person person;
+    private final Activity activity;
+
+    private JournalEntry(Operation operation, Name targetName, Person person, Activity activity) {
+        this.operation = operation;
+        this.targetName = targetName;
+        this.person = person;
+        this.activity = activity;
+    }
+
+    static JournalEntry addPerson(Person person) {
+        requireNonNull(person);
+        return new JournalEntry(Operation.ADD_PERSON, null, person, null);
+    }
+
+    static JournalEntry removePerson(Name name) {
+        requireNonNull(name);
+        return new JournalEntry(Operation.REMOVE_PERSON, name, null, null);
+    }
+
+    /**
+     * Returns an entry that replaces the person named {@code targetName} with {@code person}, in place.
+     */
+    static JournalEntry updatePerson(Name targetName, Person person) {
+        requireNonNull(targetName);
+        requireNonNull(person);
+        return new JournalEntry(Operation.UPDATE_PERSON, targetName, person, null);
+    }
+
+    static JournalEntry addActivity(Activity activity) {
+        requireNonNull(activity);
+        return new JournalEntry(Operation.ADD_ACTIVITY, null, null, activity);
+    }
+
+    static JournalEntry removeActivity(Activity activity) {
+        requireNonNull(activity);
+        return new JournalEntry(Operation.REMOVE_ACTIVITY, null, null, activity);
+    }
+
+    Operation getOperation() {
+        return operation;
+    }
+
+    Name getTargetName() {
+        return targetName;
+    }
+
+    Person getPerson() {
+        return person;
+    }
+
+    Activity getActivity() {
+        return activity;
+    }
+
+    /**
+     * Returns the fields that represent this entry. A null field represents an absent optional value.
+     */
+    List<String> toFields() {
+        List<String> fields = new ArrayList<>();
+        fields.add(operation.code);
+        switch (operation) {
+        case ADD_PERSON:
+            addPersonFields(fields, person);
+            break;
+        case REMOVE_PERSON:
+            fields.add(targetName.fullName);
+            break;
+        case UPDATE_PERSON:
+            fields.add(targetName.fullName);
+            addPersonFields(fields, person);
+            break;
+        default:
+            fields.add(Long.toString(activity.getDate().getTime()));
+            fields.add(activity.getActivityName());
+            if (activity.isRecurring()) {
+                fields.add(activity.getRecurrence().toString());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Converts fields produced by {@link #toFields()} back into an entry.
+     * The persons of entries written before persons were recorded with their ids, when {@code hasPersonIds} is
+     * false, are given new ids.
+     *
+     * @throws IllegalValueException if the fields are malformed or violate any data constraints.
+     */
+    static JournalEntry fromFields(List<String> fields, boolean hasPersonIds) throws IllegalValueException {
+        if (fields.isEmpty()) {
+            throw new IllegalValueException("Empty journal entry");
+        }
+        Operation operation = Operation.fromCode(fields.get(0));
+        List<String> arguments = fields.subList(1, fields.size());
+        switch (operation) {
+        case ADD_PERSON:
+            return addPerson(toPerson(arguments, hasPersonIds));
+        case REMOVE_PERSON:
+            requireFieldCount(arguments, 1);
+            return removePerson(toName(arguments.get(0)));
+        case UPDATE_PERSON:
+            requireFieldCount(arguments, 1);
+            return updatePerson(toName(arguments.get(0)),
+                    toPerson(arguments.subList(1, arguments.size()), hasPersonIds));
+        case ADD_ACTIVITY:
+            return addActivity(toActivity(arguments));
+        default:
+            return removeActivity(toActivity(arguments));
+        }
+    }
+
+    /**
+     * Appends the fields that represent {@code person} to {@code fields}.
+     */
+    private static void addPersonFields(List<String> fields, Person person) {
+        fields.add(person.getName().fullName);
+        fields.add(person.getPhone().value);
+        fields.add(person.getEmail().value);
+        fields.add(person.getAddress().value);
+        fields.add(person.positionDoesExist() ? person.getPosition().value : null);
+        fields.add(person.kpiDoesExist() ? person.getKpi().value : null);
+        fields.add(person.noteDoesExist() ? person.getNote().value : null);
+        fields.add(Long.toString(person.getId()));
+        for (Tag tag : person.getTags()) {
+            fields.add(new XmlAdaptedTag(tag).getTagName());
+        }
+    }
+
+    /**
+     * Converts person fields into a {@code Person}, applying the same validation as the XML data file.
+     * The fields include the id of the person only if {@code hasId}.
+     */
+    private static Person toPerson(List<String> fields, boolean hasId) throws IllegalValueException {
+        int fieldCount = hasId ? PERSON_FIELD_COUNT : PERSON_FIELD_COUNT - 1;
+        requireFieldCount(fields, fieldCount);
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        for (String tagName : fields.subList(fieldCount, fields.size())) {
+            tags.add(new XmlAdaptedTag(tagName));
+        }
+        String id = hasId ? fields.get(PERSON_FIELD_COUNT - 1) : null;
+        return new XmlAdaptedPerson(id, fields.get(0), fields.get(1), fields.get(2), fields.get(3), fields.get(4),
+                fields.get(5), fields.get(6), tags).toModelType();
+    }
+
+    /**
+     * Converts a name field into a {@code Name}.
+     */
+    private static Name toName(String name) throws IllegalValueException {
+        if (name == null || !Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    /**
+     * Converts activity fields into an {@code Activity}, applying the same validation as the XML data file.
+     * The recurrence field is only present for repeating activities.
+     */
+    private static Activity toActivity(List<String> fields) throws IllegalValueException {
+        requireFieldCount(fields, 2);
+        Date date;
+        try {
+            date = new Date(Long.parseLong(fields.get(0)));
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(Activity.MESSAGE_DATE_CONSTRAINTS, e);
+        }
+        String recurrence = fields.size() > 2 ? fields.get(2) : null;
+        return new XmlAdaptedActivity(date, fields.get(1), recurrence).toModelType();
+    }
+
+    private static void requireFieldCount(List<String> fields, int minimum) throws IllegalValueException {
+        if (fields.size() < minimum) {
+            throw new IllegalValueException("Journal entry is missing fields: " + Arrays.toString(fields.toArray()));
+        }
+    }
+}
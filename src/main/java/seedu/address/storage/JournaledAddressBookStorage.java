@@ -0,0 +1,706 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot plus an append-only journal of later changes.
+ *
+ * Saving appends only the changes since the last save to the journal, instead of rewriting the whole data file. The
+ * changes are either given, as {@link AddressBookChanges}, or found by comparing the address book with the last saved
+ * one. Once the journal grows beyond {@code compactionThresholdBytes}, a new snapshot is
+ * written in the background and the journal is started afresh. Reading replays the journal onto the snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String NEXT_JOURNAL_FILE_EXTENSION = ".next";
+    private static final String COMPACTING_FILE_EXTENSION = ".compacting";
+    private static final int MIN_EMPTY_SLOTS_TO_COMPACT = 16;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path nextJournalPath;
+    private final long compactionThresholdBytes;
+    private final XmlAddressBookStorage snapshotStorage;
+    private final ExecutorService compactionExecutor;
+
+    // The last saved data, or null if it is not known yet. Guarded by this.
+    private SavedData saved;
+    private AddressBookJournal journal;
+    private boolean isSnapshotNeeded;
+    private boolean isJournalEmpty;
+    private long snapshotGeneration;
+    private boolean isCompactionScheduled;
+
+    public JournaledAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        this(new XmlAddressBookStorage(filePath), compactionThresholdBytes);
+    }
+
+    /**
+     * @param snapshotStorage reads and writes the snapshots, in its own format, at its own file path.
+     */
+    public JournaledAddressBookStorage(XmlAddressBookStorage snapshotStorage, long compactionThresholdBytes) {
+        requireNonNull(snapshotStorage);
+        Path filePath = snapshotStorage.getAddressBookFilePath();
+        this.filePath = filePath;
+        this.journalPath = AddressBookJournal.getJournalPath(filePath);
+        this.nextJournalPath = Paths.get(journalPath.toString() + NEXT_JOURNAL_FILE_EXTENSION);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookCompactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * Files other than this storage's own data file are read as plain xml files.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        synchronized (this) {
+            if (saved == null) {
+                recoverInterruptedCompaction();
+            }
+            Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+            if (!snapshot.isPresent() || !Files.exists(filePath)) {
+                // Nothing to replay onto; an encrypted data file is read (and rejected) as before.
+                return snapshot;
+            }
+
+            String snapshotChecksum = AddressBookJournal.checksumOf(filePath);
+            Optional<AddressBookJournal.Contents> contents = AddressBookJournal.read(journalPath);
+            if (contents.isPresent() && !contents.get().getSnapshotChecksum().equals(snapshotChecksum)) {
+                logger.warning("Ignoring journal " + journalPath + " as it does not belong to " + filePath);
+                contents = Optional.empty();
+            }
+
+            ReadOnlyAddressBook addressBook = snapshot.get();
+            closeJournal();
+            if (contents.isPresent()) {
+                try {
+                    addressBook = replay(addressBook, contents.get().getEntries());
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                    throw new DataConversionException(ive);
+                }
+                logger.info(String.format("Replayed %d journal entries onto %s",
+                        contents.get().getEntries().size(), filePath));
+                if (contents.get().isCurrentFormat()) {
+                    journal = AddressBookJournal.open(journalPath);
+                    // Discards a torn entry, if any, so that new entries are not appended after it.
+                    journal.truncate(contents.get().getValidLength());
+                } else {
+                    // Rewrites the entries in the current format, with the ids given to their persons on replay.
+                    AddressBookJournal.create(journalPath, snapshotChecksum,
+                            AddressBookJournal.encode(contents.get().getEntries()));
+                    journal = AddressBookJournal.open(journalPath);
+                }
+                isJournalEmpty = contents.get().getEntries().isEmpty();
+            } else {
+                AddressBookJournal.create(journalPath, snapshotChecksum, new byte[0]);
+                journal = AddressBookJournal.open(journalPath);
+                isJournalEmpty = true;
+            }
+            remember(addressBook);
+            return Optional.of(addressBook);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Files other than this storage's own data file are written as plain xml files.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<Activity> activities = new ArrayList<>(addressBook.getActivityList());
+        synchronized (this) {
+            List<JournalEntry> entries = journal == null || isSnapshotNeeded ? null : diff(persons, activities);
+            if (entries == null || isCheaperAsSnapshot(entries, persons.size())) {
+                // Unknown previous state, a reordering, or so many changes that a snapshot is cheaper.
+                saveSnapshot(persons, activities);
+                return;
+            }
+
+            appendToJournal(entries);
+            saved = new SavedData(persons, activities);
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal without comparing {@code addressBook} with the last saved data.
+     * The whole address book is saved instead if the changes are a full reload, add persons anywhere but at the end,
+     * or do not fit the last saved data.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        synchronized (this) {
+            List<Person> persons = addressBook.getPersonList();
+            if (journal == null || isSnapshotNeeded || changes.isFullReload()
+                    || !isAddedAtEnd(changes.getAddedPersons(), persons)) {
+                saveAddressBook(addressBook);
+                return;
+            }
+
+            List<JournalEntry> entries = entriesOf(changes);
+            try {
+                saved.apply(entries);
+            } catch (IllegalValueException ive) {
+                logger.info("Changes do not fit the last saved data, saving a snapshot instead: " + ive.getMessage());
+                isSnapshotNeeded = true;
+            }
+            if (isSnapshotNeeded || saved.getPersonCount() != persons.size()
+                    || saved.getActivityCount() != addressBook.getActivityList().size()
+                    || isCheaperAsSnapshot(entries, persons.size())) {
+                saveSnapshot(new ArrayList<>(persons), new ArrayList<>(addressBook.getActivityList()));
+                return;
+            }
+            appendToJournal(entries);
+        }
+    }
+
+    /**
+     * Returns true if {@code persons} ends with {@code addedPersons}, in order, which is where replaying the journal
+     * puts them.
+     */
+    private static boolean isAddedAtEnd(List<Person> addedPersons, List<Person> persons) {
+        int start = persons.size() - addedPersons.size();
+        return start >= 0 && persons.subList(start, persons.size()).equals(addedPersons);
+    }
+
+    /**
+     * Returns true if writing a snapshot is cheaper than journaling {@code entries} for {@code personCount} persons.
+     */
+    private static boolean isCheaperAsSnapshot(List<JournalEntry> entries, int personCount) {
+        return entries.size() > personCount / 2 + 1;
+    }
+
+    /**
+     * Writes {@code persons} and {@code activities} as the new snapshot, with an empty journal.
+     */
+    private void saveSnapshot(List<Person> persons, List<Activity> activities) throws IOException {
+        assert Thread.holdsLock(this);
+        isSnapshotNeeded = true;
+        installSnapshot(writeSnapshot(persons, activities), new byte[0]);
+        saved = new SavedData(persons, activities);
+        isSnapshotNeeded = false;
+    }
+
+    /**
+     * Appends {@code entries} to the journal, and compacts the journal in the background once it grows too large.
+     * If the entries cannot be written, the next save writes a snapshot.
+     */
+    private void appendToJournal(List<JournalEntry> entries) throws IOException {
+        assert Thread.holdsLock(this);
+        try {
+            journal.append(entries);
+        } catch (IOException e) {
+            isSnapshotNeeded = true;
+            throw e;
+        }
+        isJournalEmpty &= entries.isEmpty();
+        if (journal.size() > compactionThresholdBytes && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactionExecutor.execute(this::compactInBackground);
+        }
+    }
+
+    /**
+     * Writes a new snapshot that includes every journaled change and empties the journal.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            compactionExecutor.submit(() -> {
+                compact();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new AssertionError("Unexpected exception " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Compacts the journal, logging any failure; the journal stays valid if compaction fails.
+     */
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warning("Failed to compact " + journalPath + ": " + e);
+        }
+    }
+
+    /**
+     * Writes the last saved data as a new snapshot and starts a new journal holding only the changes saved since.
+     * The slow part, writing the snapshot, does not block saves.
+     */
+    private void compact() throws IOException {
+        List<Person> persons;
+        List<Activity> activities;
+        long journalOffset;
+        long generation;
+        synchronized (this) {
+            isCompactionScheduled = false;
+            if (journal == null || isJournalEmpty) {
+                return;
+            }
+            persons = saved.getPersons();
+            activities = saved.getActivities();
+            journalOffset = journal.size();
+            generation = snapshotGeneration;
+        }
+
+        Path snapshot = writeSnapshot(persons, activities);
+
+        synchronized (this) {
+            if (generation != snapshotGeneration) {
+                // A newer snapshot was installed while this one was being written.
+                Files.deleteIfExists(snapshot);
+                return;
+            }
+            installSnapshot(snapshot, journal.readFrom(journalOffset));
+        }
+        logger.fine("Compacted journal " + journalPath);
+    }
+
+    /**
+     * Writes {@code persons} and {@code activities} to a new temporary snapshot file next to the data file and
+     * returns its path.
+     * Each snapshot gets a file of its own, so that a compaction and a save can write snapshots at the same time.
+     */
+    private Path writeSnapshot(List<Person> persons, List<Activity> activities) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path snapshot = Files.createTempFile(getDataDirectory(), filePath.getFileName() + ".",
+                COMPACTING_FILE_EXTENSION);
+        try {
+            snapshotStorage.saveAddressBook(new AddressBookSnapshot(persons, activities), snapshot);
+            try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(snapshot);
+            throw e;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the directory that holds the data file.
+     */
+    private Path getDataDirectory() {
+        return filePath.toAbsolutePath().getParent();
+    }
+
+    /**
+     * Replaces the data file with {@code snapshot} and the journal with {@code newerEntries}, the encoded entries
+     * that the snapshot does not include.
+     * A crash at any point leaves either the old snapshot and journal or the new ones.
+     */
+    private void installSnapshot(Path snapshot, byte[] newerEntries) throws IOException {
+        assert Thread.holdsLock(this);
+        AddressBookJournal.create(nextJournalPath, AddressBookJournal.checksumOf(snapshot), newerEntries);
+        move(snapshot, filePath);
+        closeJournal();
+        move(nextJournalPath, journalPath);
+        journal = AddressBookJournal.open(journalPath);
+        isJournalEmpty = newerEntries.length == 0;
+        snapshotGeneration++;
+    }
+
+    /**
+     * Finishes or discards a compaction that was interrupted by a crash.
+     * If the new journal was written but not yet moved into place, it belongs to the current data file.
+     */
+    private void recoverInterruptedCompaction() throws IOException {
+        deleteTemporarySnapshots();
+        if (!Files.exists(nextJournalPath)) {
+            return;
+        }
+        Optional<String> nextChecksum;
+        try {
+            nextChecksum = AddressBookJournal.read(nextJournalPath)
+                    .map(AddressBookJournal.Contents::getSnapshotChecksum);
+        } catch (DataConversionException e) {
+            nextChecksum = Optional.empty();
+        }
+        if (Files.exists(filePath) && nextChecksum.isPresent()
+                && nextChecksum.get().equals(AddressBookJournal.checksumOf(filePath))) {
+            closeJournal();
+            move(nextJournalPath, journalPath);
+        } else {
+            Files.delete(nextJournalPath);
+        }
+    }
+
+    /**
+     * Deletes the temporary snapshot files left behind by snapshots that were never installed.
+     */
+    private void deleteTemporarySnapshots() throws IOException {
+        if (!Files.isDirectory(getDataDirectory())) {
+            return;
+        }
+        String prefix = filePath.getFileName() + ".";
+        DirectoryStream.Filter<Path> isSnapshot = path -> path.getFileName().toString().startsWith(prefix)
+                && path.getFileName().toString().endsWith(COMPACTING_FILE_EXTENSION);
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(getDataDirectory(), isSnapshot)) {
+            for (Path snapshot : snapshots) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Returns the journal entries that turn the last saved data into {@code persons} and {@code activities}, or
+     * null if they cannot be expressed as such.
+     */
+    private List<JournalEntry> diff(List<Person> persons, List<Activity> activities) {
+        List<JournalEntry> entries = diffPersons(saved.getPersons(), persons);
+        if (entries != null) {
+            entries.addAll(diffActivities(saved.getActivities(), activities));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal entries that apply {@code changes}: the removals, then the updates, then the additions.
+     * An updated activity is removed and added again.
+     */
+    private static List<JournalEntry> entriesOf(AddressBookChanges changes) {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (Person person : changes.getRemovedPersons()) {
+            entries.add(JournalEntry.removePerson(person.getName()));
+        }
+        for (Map.Entry<Person, Person> update : changes.getUpdatedPersons().entrySet()) {
+            entries.add(JournalEntry.updatePerson(update.getKey().getName(), update.getValue()));
+        }
+        for (Person person : changes.getAddedPersons()) {
+            entries.add(JournalEntry.addPerson(person));
+        }
+        for (Activity activity : changes.getRemovedActivities()) {
+            entries.add(JournalEntry.removeActivity(activity));
+        }
+        for (Map.Entry<Activity, Activity> update : changes.getUpdatedActivities().entrySet()) {
+            entries.add(JournalEntry.removeActivity(update.getKey()));
+            entries.add(JournalEntry.addActivity(update.getValue()));
+        }
+        for (Activity activity : changes.getAddedActivities()) {
+            entries.add(JournalEntry.addActivity(activity));
+        }
+        return entries;
+    }
+
+    /**
+     * Walks both lists in step. Persons are matched by name; a person missing from {@code after} that lines up
+     * with a person missing from {@code before} was edited in place, and new persons can only appear at the end.
+     */
+    private static List<JournalEntry> diffPersons(List<Person> before, List<Person> after) {
+        Set<Name> namesBefore = namesOf(before);
+        Set<Name> namesAfter = namesOf(after);
+        List<JournalEntry> entries = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            Person oldPerson = i < before.size() ? before.get(i) : null;
+            Person newPerson = j < after.size() ? after.get(j) : null;
+            if (oldPerson != null && newPerson != null && oldPerson.isSamePerson(newPerson)) {
+                if (oldPerson != newPerson && !oldPerson.equals(newPerson)) {
+                    entries.add(JournalEntry.updatePerson(oldPerson.getName(), newPerson));
+                }
+                i++;
+                j++;
+            } else if (oldPerson != null && !namesAfter.contains(oldPerson.getName())) {
+                if (newPerson != null && !namesBefore.contains(newPerson.getName())) {
+                    entries.add(JournalEntry.updatePerson(oldPerson.getName(), newPerson));
+                    j++;
+                } else {
+                    entries.add(JournalEntry.removePerson(oldPerson.getName()));
+                }
+                i++;
+            } else if (oldPerson == null && !namesBefore.contains(newPerson.getName())) {
+                entries.add(JournalEntry.addPerson(newPerson));
+                j++;
+            } else {
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the activities removed from and added to {@code before}, in that order.
+     */
+    private static List<JournalEntry> diffActivities(List<Activity> before, List<Activity> after) {
+        Map<Activity, Integer> surplus = new LinkedHashMap<>();
+        for (Activity activity : before) {
+            surplus.merge(activity, 1, Integer::sum);
+        }
+        for (Activity activity : after) {
+            surplus.merge(activity, -1, Integer::sum);
+        }
+        List<JournalEntry> removals = new ArrayList<>();
+        List<JournalEntry> additions = new ArrayList<>();
+        for (Map.Entry<Activity, Integer> entry : surplus.entrySet()) {
+            for (int count = entry.getValue(); count > 0; count--) {
+                removals.add(JournalEntry.removeActivity(entry.getKey()));
+            }
+            for (int count = entry.getValue(); count < 0; count++) {
+                additions.add(JournalEntry.addActivity(entry.getKey()));
+            }
+        }
+        removals.addAll(additions);
+        return removals;
+    }
+
+    /**
+     * Applies {@code entries} to {@code snapshot}, in order.
+     *
+     * @throws IllegalValueException if an entry does not fit the data it is applied to.
+     */
+    private static ReadOnlyAddressBook replay(ReadOnlyAddressBook snapshot, List<JournalEntry> entries)
+            throws IllegalValueException {
+        SavedData data = new SavedData(snapshot.getPersonList(), snapshot.getActivityList());
+        data.apply(entries);
+
+        AddressBook addressBook = new AddressBook();
+        for (Person person : data.getPersons()) {
+            addressBook.addPerson(person);
+        }
+        for (Activity activity : data.getActivities()) {
+            addressBook.addActivity(activity);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the names of {@code persons}.
+     */
+    private static Set<Name> namesOf(List<Person> persons) {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Records {@code addressBook} as the last saved data.
+     */
+    private void remember(ReadOnlyAddressBook addressBook) {
+        assert Thread.holdsLock(this);
+        saved = new SavedData(addressBook.getPersonList(), addressBook.getActivityList());
+    }
+
+    /**
+     * Closes the journal, if it is open.
+     */
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The last saved persons and activities, which journal entries are applied to.
+     * Removed persons leave an empty slot so that the positions of later persons need not be updated.
+     */
+    private static class SavedData {
+        private final List<Person> slots;
+        private final Map<Name, Integer> positions = new HashMap<>();
+        private final List<Activity> activities;
+
+        SavedData(List<Person> persons, List<Activity> activities) {
+            slots = new ArrayList<>(persons);
+            for (int i = 0; i < slots.size(); i++) {
+                positions.put(slots.get(i).getName(), i);
+            }
+            this.activities = new ArrayList<>(activities);
+        }
+
+        /**
+         * Applies {@code entries}, in order.
+         *
+         * @throws IllegalValueException if an entry does not fit the data it is applied to.
+         */
+        void apply(List<JournalEntry> entries) throws IllegalValueException {
+            for (JournalEntry entry : entries) {
+                switch (entry.getOperation()) {
+                case ADD_PERSON:
+                    if (positions.containsKey(entry.getPerson().getName())) {
+                        throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    positions.put(entry.getPerson().getName(), slots.size());
+                    slots.add(entry.getPerson());
+                    break;
+                case REMOVE_PERSON:
+                    slots.set(positionOf(entry.getTargetName()), null);
+                    positions.remove(entry.getTargetName());
+                    break;
+                case UPDATE_PERSON:
+                    int position = positionOf(entry.getTargetName());
+                    positions.remove(entry.getTargetName());
+                    if (positions.containsKey(entry.getPerson().getName())) {
+                        throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    positions.put(entry.getPerson().getName(), position);
+                    slots.set(position, entry.getPerson());
+                    break;
+                case ADD_ACTIVITY:
+                    activities.add(entry.getActivity());
+                    break;
+                case REMOVE_ACTIVITY:
+                    if (!activities.remove(entry.getActivity())) {
+                        throw new IllegalValueException("Journal removes a missing activity: " + entry.getActivity());
+                    }
+                    break;
+                default:
+                    throw new AssertionError("Unknown journal operation " + entry.getOperation());
+                }
+            }
+            if (slots.size() > 2 * positions.size() + MIN_EMPTY_SLOTS_TO_COMPACT) {
+                compactSlots();
+            }
+        }
+
+        /**
+         * Returns the position of the person named {@code name}.
+         *
+         * @throws IllegalValueException if there is no such person.
+         */
+        private int positionOf(Name name) throws IllegalValueException {
+            Integer position = positions.get(name);
+            if (position == null) {
+                throw new IllegalValueException("Journal refers to a missing person: " + name);
+            }
+            return position;
+        }
+
+        /**
+         * Drops the empty slots left by removed persons.
+         */
+        private void compactSlots() {
+            List<Person> persons = getPersons();
+            slots.clear();
+            slots.addAll(persons);
+            for (int i = 0; i < slots.size(); i++) {
+                positions.put(slots.get(i).getName(), i);
+            }
+        }
+
+        int getPersonCount() {
+            return positions.size();
+        }
+
+        int getActivityCount() {
+            return activities.size();
+        }
+
+        /**
+         * Returns a copy of the persons, in order.
+         */
+        List<Person> getPersons() {
+            List<Person> persons = new ArrayList<>(positions.size());
+            for (Person person : slots) {
+                if (person != null) {
+                    persons.add(person);
+                }
+            }
+            return persons;
+        }
+
+        /**
+         * Returns a copy of the activities.
+         */
+        List<Activity> getActivities() {
+            return new ArrayList<>(activities);
+        }
+    }
+}
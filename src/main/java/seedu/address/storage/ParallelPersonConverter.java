@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons, in the order they are read, into the model's persons.
+ *
+ * Records are collected into batches, and the records of a batch are validated and converted in parallel on the
+ * common fork-join pool. Results are then checked in record order, so the error reported for a file with several
+ * malformed or duplicate records is always the one for the first such record, as if they were converted one by one.
+ * A person whose id was already taken by an earlier record, such as one copied by hand in the data file, is given a
+ * new id.
+ */
+class ParallelPersonConverter {
+
+    static final int BATCH_SIZE = 4096;
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+    private final Set<Long> ids = new HashSet<>();
+    private final List<XmlAdaptedPerson> pending = new ArrayList<>();
+
+    /**
+     * Converts all of {@code records}.
+     *
+     * @throws IllegalValueException for the first record that violates any data constraints or is a duplicate.
+     */
+    static List<Person> convertAll(List<XmlAdaptedPerson> records) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (XmlAdaptedPerson record : records) {
+            converter.add(record);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Queues {@code record} for conversion, converting the batch if it is full.
+     *
+     * @throws IllegalValueException for the first record of the batch that violates any data constraints or is a
+     *     duplicate.
+     */
+    void add(XmlAdaptedPerson record) throws IllegalValueException {
+        requireNonNull(record);
+        pending.add(record);
+        if (pending.size() >= BATCH_SIZE) {
+            convertPending();
+        }
+    }
+
+    /**
+     * Converts any queued records and returns all converted persons, in record order.
+     *
+     * @throws IllegalValueException for the first queued record that violates any data constraints or is a duplicate.
+     */
+    List<Person> finish() throws IllegalValueException {
+        convertPending();
+        return persons;
+    }
+
+    /**
+     * Converts the queued records, in parallel if there are enough of them.
+     */
+    private void convertPending() throws IllegalValueException {
+        Conversion[] conversions = new Conversion[pending.size()];
+        IntStream indexes = IntStream.range(0, conversions.length);
+        if (conversions.length >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> conversions[i] = new Conversion(pending.get(i)));
+        pending.clear();
+
+        for (Conversion conversion : conversions) {
+            if (conversion.error != null) {
+                throw conversion.error;
+            }
+            Person person = conversion.person;
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (!ids.add(person.getId())) {
+                person = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                        person.getPosition(), person.getKpi(), person.getNote(), person.getTags());
+                ids.add(person.getId());
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * The outcome of converting one record: either a person or the reason it is invalid.
+     */
+    private static class Conversion {
+        private Person person;
+        private IllegalValueException error;
+
+        private Conversion(XmlAdaptedPerson record) {
+            try {
+                person = record.toModelType();
+            } catch (IllegalValueException ive) {
+                error = ive;
+            }
+        }
+    }
+}
@@ -36,4 +36,18 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Writes any address book changes that have not been saved yet and waits for the write to complete,
+     * leaving all data in the data file itself.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    @Override
+    void flushAddressBook();
+
+    /**
+     * Writes any address book changes that have not been saved yet and stops saving in the background.
+     * Later changes are saved immediately.
+     */
+    void stopAddressBookSaver();
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -10,8 +11,10 @@ import com.google.common.eventbus.Subscribe;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFlushRequestEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -23,6 +26,7 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AsyncAddressBookSaver addressBookSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
@@ -31,6 +35,22 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that saves address book changes in the background.
+     * Changes are written at most {@code maxSaveStalenessMillis} after they are made, and changes made within that
+     * window are written together. A window of 0 saves every change immediately.
+     *
+     * @param modelExecutor runs tasks on the thread that mutates the model.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long maxSaveStalenessMillis, Executor modelExecutor) {
+        this(addressBookStorage, userPrefsStorage);
+        if (maxSaveStalenessMillis > 0) {
+            addressBookSaver = new AsyncAddressBookSaver(addressBookStorage, maxSaveStalenessMillis, modelExecutor,
+                e -> raise(new DataSavingExceptionEvent(e)));
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -63,6 +83,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flushPendingSaves();
         logger.fine("Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
@@ -78,16 +99,63 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        logger.fine("Attempting to write changes to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+
+    @Override
+    public void flushAddressBook() {
+        flushPendingSaves();
+        try {
+            addressBookStorage.flushAddressBook();
+        } catch (IOException e) {
+            raise(new DataSavingExceptionEvent(e));
+        }
+    }
+
+    /**
+     * Writes any changes still waiting in the background saver.
+     */
+    private void flushPendingSaves() {
+        if (addressBookSaver != null) {
+            addressBookSaver.flush();
+        }
+    }
+
+    @Override
+    public void stopAddressBookSaver() {
+        if (addressBookSaver != null) {
+            addressBookSaver.shutdown();
+            addressBookSaver = null;
+        }
+    }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        if (event.changes.isEmpty()) {
+            return;
+        }
+        if (addressBookSaver != null) {
+            addressBookSaver.requestSave(event.data, event.changes);
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
-            saveAddressBook(event.data);
+            saveAddressBookChanges(event.data, event.changes);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Subscribe
+    public void handleAddressBookFlushRequestEvent(AddressBookFlushRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Writing pending changes to file"));
+        flushAddressBook();
+    }
+
 }
@@ -6,9 +6,11 @@ import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Recurrence;
 
 /**
  * JAXB-friendly version of the Activity.
+ * A repeating activity is stored once, with its recurrence rule and exceptions, rather than once per occurrence.
  */
 public class XmlAdaptedActivity {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Activity's %s field is missing!";
@@ -17,6 +19,8 @@ public class XmlAdaptedActivity {
     private Date date;
     @XmlElement
     private String activity;
+    @XmlElement
+    private String recurrence;
 
     /**
      * Constructs an XmlAdaptedActivity.
@@ -29,8 +33,17 @@ public class XmlAdaptedActivity {
      * Constructs an {@code XmlAdaptedActivity} with the given activity.
      */
     public XmlAdaptedActivity(Date date, String activity) {
+        this(date, activity, null);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedActivity} with the given activity, repeating as the stored {@code recurrence},
+     * which is null if the activity does not repeat.
+     */
+    public XmlAdaptedActivity(Date date, String activity, String recurrence) {
         this.date = date;
         this.activity = activity;
+        this.recurrence = recurrence;
     }
 
     /**
@@ -41,6 +54,7 @@ public class XmlAdaptedActivity {
     public XmlAdaptedActivity(Activity source) {
         this.date = source.getDate();
         this.activity = source.getActivityName();
+        this.recurrence = source.isRecurring() ? source.getRecurrence().toString() : null;
     }
 
     /**
@@ -59,7 +73,17 @@ public class XmlAdaptedActivity {
         if (!Activity.isValidActivity(activity)) {
             throw new IllegalValueException(Activity.MESSAGE_ACTIVITY_CONSTRAINTS);
         }
-        return new Activity(date, activity);
+        if (recurrence == null) {
+            return new Activity(date, activity);
+        }
+        if (!Recurrence.isValidRecurrence(recurrence)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_RECURRENCE_CONSTRAINTS);
+        }
+        Recurrence modelRecurrence = Recurrence.fromString(recurrence);
+        if (modelRecurrence.getUntil().isBefore(Activity.toLocalDate(date))) {
+            throw new IllegalValueException(Recurrence.MESSAGE_END_DATE_CONSTRAINTS);
+        }
+        return new Activity(Activity.toLocalDate(date), activity, modelRecurrence);
     }
 
     @Override
@@ -74,6 +98,7 @@ public class XmlAdaptedActivity {
 
         XmlAdaptedActivity otherActivity = (XmlAdaptedActivity) other;
         return Objects.equals(date, otherActivity.date)
-                && Objects.equals(activity, otherActivity.activity);
+                && Objects.equals(activity, otherActivity.activity)
+                && Objects.equals(recurrence, otherActivity.recurrence);
     }
 }
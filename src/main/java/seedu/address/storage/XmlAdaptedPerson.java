@@ -27,6 +27,8 @@ public class XmlAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    @XmlElement
+    private String id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -56,6 +58,16 @@ public class XmlAdaptedPerson {
      */
     public XmlAdaptedPerson(String name, String phone, String email, String address, String position, String kpi,
                             String note, List<XmlAdaptedTag> tagged) {
+        this(null, name, phone, email, address, position, kpi, note, tagged);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedPerson} with the given person details and id.
+     * A null {@code id} gives the person a new id when it is converted to the model type.
+     */
+    public XmlAdaptedPerson(String id, String name, String phone, String email, String address, String position,
+                            String kpi, String note, List<XmlAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -74,6 +86,7 @@ public class XmlAdaptedPerson {
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(Person source) {
+        id = Long.toString(source.getId());
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -94,13 +107,14 @@ public class XmlAdaptedPerson {
 
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
+     * Values that many persons share, such as addresses, positions and tags, are interned.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public Person toModelType() throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
-            personTags.add(tag.toModelType());
+            personTags.add(Tag.intern(tag.toModelType()));
         }
 
         if (name == null) {
@@ -133,38 +147,43 @@ public class XmlAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.intern(new Address(address));
         //@@author LowGinWee
         final Position modelPosition;
         if (position == null) {
-            modelPosition = new Position();
+            modelPosition = Position.intern(new Position());
         } else if (!Position.isValidPosition(position)) {
             throw new IllegalValueException(Position.MESSAGE_POSITION_CONSTRAINTS);
         } else {
-            modelPosition = new Position(position);
+            modelPosition = Position.intern(new Position(position));
         }
 
         final Kpi modelKpi;
         if (kpi == null) {
-            modelKpi = new Kpi();
+            modelKpi = Kpi.intern(new Kpi());
         } else if (!Kpi.isValidKpi(kpi)) {
             throw new IllegalValueException(Kpi.MESSAGE_KPI_CONSTRAINTS);
         } else {
-            modelKpi = new Kpi(kpi);
+            modelKpi = Kpi.intern(new Kpi(kpi));
         }
 
         final Note modelNote;
         if (note == null) {
-            modelNote = new Note();
+            modelNote = Note.intern(new Note());
         } else if (!Note.isValidNote(note)) {
             throw new IllegalValueException(Note.MESSAGE_NOTE_CONSTRAINTS);
         } else {
-            modelNote = new Note(note);
+            modelNote = Note.intern(new Note(note));
         }
         //@@author
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelPosition, modelKpi, modelNote,
+                    modelTags);
+        }
         return new Person(
+                toModelId(id),
                 modelName,
                 modelPhone,
                 modelEmail,
@@ -175,6 +194,24 @@ public class XmlAdaptedPerson {
                 modelTags);
     }
 
+    /**
+     * Converts a stored id into the id of a person.
+     *
+     * @throws IllegalValueException if {@code id} is not a valid person id.
+     */
+    private static long toModelId(String id) throws IllegalValueException {
+        long modelId;
+        try {
+            modelId = Long.parseLong(id);
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+        }
+        if (!Person.isValidId(modelId)) {
+            throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+        }
+        return modelId;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -186,7 +223,8 @@ public class XmlAdaptedPerson {
         }
 
         XmlAdaptedPerson otherPerson = (XmlAdaptedPerson) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+                && Objects.equals(name, otherPerson.name)
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(email, otherPerson.email)
                 && Objects.equals(address, otherPerson.address)
@@ -41,6 +41,13 @@ public class XmlAdaptedTag {
         }
     }
 
+    /**
+     * Returns the tag as it is stored, i.e. its name followed by its priority if the priority is not low.
+     */
+    String getTagName() {
+        return tagName;
+    }
+
     /**
      * Converts this jaxb-friendly adapted tag object into the model's Tag object.
      *
@@ -0,0 +1,381 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the xml data file one person or activity at a time, without building the whole
+ * {@link XmlSerializableAddressBook} object graph in memory first.
+ *
+ * The format is exactly the one that JAXB produces from {@link XmlSerializableAddressBook}, byte for byte, so files
+ * written by either can be read by the other.
+ */
+public class XmlAddressBookCodec {
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String ACTIVITY_ELEMENT = "activities";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String INDENT = "    ";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicate persons.
+     */
+    public static AddressBook read(Path file) throws FileNotFoundException, DataConversionException,
+            IllegalValueException {
+        requireNonNull(file);
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return readAddressBook(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code file}, indented for readability if {@code isFormatted}.
+     */
+    public static void write(Path file, ReadOnlyAddressBook addressBook, boolean isFormatted) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            ElementWriter writer = new ElementWriter(out, isFormatted);
+            out.write(XML_DECLARATION);
+            if (addressBook.getPersonList().isEmpty() && addressBook.getActivityList().isEmpty()) {
+                writer.emptyElement(ROOT_ELEMENT, 0);
+                writer.newLine();
+                return;
+            }
+            writer.startElement(ROOT_ELEMENT, 0);
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(writer, person);
+            }
+            for (Activity activity : addressBook.getActivityList()) {
+                writeActivity(writer, activity);
+            }
+            writer.endElement(ROOT_ELEMENT, 0);
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Reads the root element and everything in it.
+     */
+    private static AddressBook readAddressBook(XMLStreamReader reader) throws XMLStreamException,
+            IllegalValueException {
+        reader.nextTag();
+        if (!reader.getLocalName().equals(ROOT_ELEMENT)) {
+            throw new XMLStreamException("Unexpected element " + reader.getLocalName(), reader.getLocation());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        ParallelPersonConverter persons = new ParallelPersonConverter();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case PERSON_ELEMENT:
+                persons.add(readPerson(reader));
+                break;
+            case ACTIVITY_ELEMENT:
+                addressBook.addActivity(readActivity(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        addressBook.setPersonsAndTags(persons.finish());
+        return addressBook;
+    }
+
+    /**
+     * Reads a person element. The person is validated when it is converted to the model type.
+     */
+    private static XmlAdaptedPerson readPerson(XMLStreamReader reader) throws XMLStreamException {
+        String id = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String position = null;
+        String kpi = null;
+        String note = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "id":
+                id = reader.getElementText();
+                break;
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "address":
+                address = reader.getElementText();
+                break;
+            case "position":
+                position = reader.getElementText();
+                break;
+            case "kpi":
+                kpi = reader.getElementText();
+                break;
+            case "note":
+                note = reader.getElementText();
+                break;
+            case "tagged":
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPerson(id, name, phone, email, address, position, kpi, note, tagged);
+    }
+
+    /**
+     * Reads an activity element, applying the same validation as {@link XmlAdaptedActivity#toModelType()}.
+     */
+    private static Activity readActivity(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        Date date = null;
+        String activity = null;
+        String recurrence = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "date":
+                date = parseDate(reader.getElementText());
+                break;
+            case "activity":
+                activity = reader.getElementText();
+                break;
+            case "recurrence":
+                recurrence = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedActivity(date, activity, recurrence).toModelType();
+    }
+
+    /**
+     * Returns the date in {@code text}, or null if it is not a valid date, like JAXB does.
+     */
+    private static Date parseDate(String text) {
+        try {
+            return DatatypeConverter.parseDateTime(text.trim()).getTime();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Skips the current element and everything in it.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Writes a person element in the same form as JAXB writes an {@link XmlAdaptedPerson}.
+     */
+    private static void writePerson(ElementWriter writer, Person person) throws IOException {
+        writer.startElement(PERSON_ELEMENT, 1);
+        writer.textElement("id", Long.toString(person.getId()), 2);
+        writer.textElement("name", person.getName().fullName, 2);
+        writer.textElement("phone", person.getPhone().value, 2);
+        writer.textElement("email", person.getEmail().value, 2);
+        writer.textElement("address", person.getAddress().value, 2);
+        if (person.positionDoesExist()) {
+            writer.textElement("position", person.getPosition().value, 2);
+        }
+        if (person.kpiDoesExist()) {
+            writer.textElement("kpi", person.getKpi().value, 2);
+        }
+        if (person.noteDoesExist()) {
+            writer.textElement("note", person.getNote().value, 2);
+        }
+        for (Tag tag : person.getTags()) {
+            writer.textElement("tagged", new XmlAdaptedTag(tag).getTagName(), 2);
+        }
+        writer.endElement(PERSON_ELEMENT, 1);
+    }
+
+    /**
+     * Writes an activity element in the same form as JAXB writes an {@link XmlAdaptedActivity}.
+     */
+    private static void writeActivity(ElementWriter writer, Activity activity) throws IOException {
+        Calendar date = Calendar.getInstance();
+        date.setTime(activity.getDate());
+        writer.startElement(ACTIVITY_ELEMENT, 1);
+        writer.textElement("date", DatatypeConverter.printDateTime(date), 2);
+        writer.textElement("activity", activity.getActivityName(), 2);
+        if (activity.isRecurring()) {
+            writer.textElement("recurrence", activity.getRecurrence().toString(), 2);
+        }
+        writer.endElement(ACTIVITY_ELEMENT, 1);
+    }
+
+    /**
+     * Returns an input factory that does not resolve external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Writes elements with the same indentation and escaping as JAXB's formatted or unformatted output.
+     */
+    private static class ElementWriter {
+        private final Writer out;
+        private final boolean isFormatted;
+
+        private ElementWriter(Writer out, boolean isFormatted) {
+            this.out = out;
+            this.isFormatted = isFormatted;
+        }
+
+        /**
+         * Writes the start tag of {@code name} at {@code depth}.
+         */
+        void startElement(String name, int depth) throws IOException {
+            indent(depth);
+            out.write('<');
+            out.write(name);
+            out.write('>');
+        }
+
+        /**
+         * Writes the end tag of {@code name} at {@code depth}.
+         */
+        void endElement(String name, int depth) throws IOException {
+            indent(depth);
+            out.write("</");
+            out.write(name);
+            out.write('>');
+        }
+
+        /**
+         * Writes {@code name} as an element without content at {@code depth}.
+         */
+        void emptyElement(String name, int depth) throws IOException {
+            indent(depth);
+            out.write('<');
+            out.write(name);
+            out.write("/>");
+        }
+
+        /**
+         * Writes {@code name} as an element containing only {@code text} at {@code depth}.
+         */
+        void textElement(String name, String text, int depth) throws IOException {
+            startElement(name, depth);
+            escape(text);
+            out.write("</");
+            out.write(name);
+            out.write('>');
+        }
+
+        void newLine() throws IOException {
+            if (isFormatted) {
+                out.write('\n');
+            }
+        }
+
+        /**
+         * Starts a new line indented to {@code depth}, if the output is formatted.
+         */
+        private void indent(int depth) throws IOException {
+            if (!isFormatted) {
+                return;
+            }
+            out.write('\n');
+            for (int i = 0; i < depth; i++) {
+                out.write(INDENT);
+            }
+        }
+
+        /**
+         * Writes {@code text}, escaping the characters that cannot appear in element content.
+         */
+        private void escape(String text) throws IOException {
+            int start = 0;
+            for (int i = 0; i < text.length(); i++) {
+                String entity;
+                switch (text.charAt(i)) {
+                case '&':
+                    entity = "&amp;";
+                    break;
+                case '<':
+                    entity = "&lt;";
+                    break;
+                case '>':
+                    entity = "&gt;";
+                    break;
+                default:
+                    continue;
+                }
+                out.write(text, start, i - start);
+                out.write(entity);
+                start = i + 1;
+            }
+            out.write(text, start, text.length() - start);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -19,6 +18,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as an xml file on the hard disk.
+ * Files in the binary format of {@link BinaryAddressBookCodec} are recognised and read as well,
+ * and the data can be saved in that format instead of xml.
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
@@ -26,9 +27,21 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     private Path filePath;
     private Path encryptedFilePath;
+    private final boolean isFormattedOutput;
+    private final boolean isBinaryOutput;
 
     public XmlAddressBookStorage(Path filePath) {
+        this(filePath, true, false);
+    }
+
+    /**
+     * @param isFormattedOutput whether saved xml files are indented for readability.
+     * @param isBinaryOutput whether files are saved in the binary format instead of xml.
+     */
+    public XmlAddressBookStorage(Path filePath, boolean isFormattedOutput, boolean isBinaryOutput) {
         this.filePath = filePath;
+        this.isFormattedOutput = isFormattedOutput;
+        this.isBinaryOutput = isBinaryOutput;
     }
 
     public Path getAddressBookFilePath() {
@@ -46,7 +59,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
         encryptedFilePath = Paths.get(filePath.toString() + FileEncryptor.getExtension());
 
@@ -55,9 +68,11 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            if (Files.exists(filePath) && BinaryAddressBookCodec.isBinaryFile(filePath)) {
+                return Optional.of(BinaryAddressBookCodec.read(filePath));
+            }
+            return Optional.of(XmlAddressBookCodec.read(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -78,7 +93,16 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
+        if (isBinaryOutput) {
+            BinaryAddressBookCodec.write(filePath, addressBook);
+        } else {
+            XmlAddressBookCodec.write(filePath, addressBook, isFormattedOutput);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save rewrites the whole file.
     }
 
 }
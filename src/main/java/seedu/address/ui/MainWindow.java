@@ -126,7 +126,7 @@ public class MainWindow extends UiPart<Stage> {
         browserPanel = new BrowserPanel();
         browserPlaceholder.getChildren().add(browserPanel.getRoot());
 
-        schedulePanel = new SchedulePanel(logic.getSchedule());
+        schedulePanel = new SchedulePanel(logic.getActivityList());
         schedulePlaceholder.getChildren().add(schedulePanel.getRoot());
 
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
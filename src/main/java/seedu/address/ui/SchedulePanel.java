@@ -1,89 +1,84 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.TreeMap;
-import java.util.logging.Logger;
-
-import com.google.common.eventbus.Subscribe;
-
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.FlowPane;
-import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.schedule.Activity;
 
 
 
 /**
  * The Schedule Panel of the App.
+ *
+ * The panel shows the schedule's sorted list of activities as it is, so adding, updating or deleting an activity only
+ * adds, redraws or removes its own row instead of the whole schedule being drawn again.
  */
 public class SchedulePanel extends UiPart<Region> {
 
     private static final String FXML = "SchedulePanel.fxml";
 
-    private final Logger logger = LogsCenter.getLogger(getClass());
-
     @FXML
     private VBox schedulePanel;
     @FXML
-    private ScrollPane scrollPane;
+    private ListView<Activity> scheduleListView;
 
-    public SchedulePanel(TreeMap<Date, ArrayList<Activity>> schedule) {
+    public SchedulePanel(ObservableList<Activity> activityList) {
         super(FXML);
-        loadSchedule(schedule);
-        registerAsAnEventHandler(this);
+        scheduleListView.setItems(activityList);
+        scheduleListView.setCellFactory(listView -> new ScheduleListViewCell());
     }
 
     /**
-     * Loads the schedule of the address book.
+     * Custom {@code ListCell} that displays an {@code Activity} with its number in the schedule, under a heading with
+     * its date if it is the first activity on that date.
      */
-    public void loadSchedule(TreeMap<Date, ArrayList<Activity>> schedule) {
-        schedulePanel.getChildren().clear();
-        Label title = new Label();
-        title.setText("Schedule");
-        title.setPadding(new Insets(5, 5, 5, 5));
-        title.setFont(new Font(25));
-        schedulePanel.getChildren().add(title);
-        ListView contents = new ListView();
-        VBox.setVgrow(contents, Priority.ALWAYS);
-        int count = 1;
-        for (Date date : schedule.keySet()) {
-            FlowPane datePane = new FlowPane();
+    class ScheduleListViewCell extends ListCell<Activity> {
+        private final VBox cellPane = new VBox();
+        private final FlowPane datePane = new FlowPane();
+        private final Label dateLabel = new Label();
+        private final Label activityLabel = new Label();
+
+        ScheduleListViewCell() {
             datePane.setStyle("-fx-background-color: #7f7f7f;");
             datePane.setPadding(new Insets(5, 5, 5, 5));
-            Label dateLabel = new Label();
             dateLabel.setStyle("-fx-text-fill:white;");
-            dateLabel.setText(Activity.getDateString(date));
             datePane.getChildren().add(dateLabel);
-            contents.getItems().add(datePane);
-            for (Activity activity : schedule.get(date)) {
-                Label activityLabel = new Label();
-                activityLabel.setText(count + ". " + activity.getActivityName());
-                activityLabel.setPadding(new Insets(5, 5, 5, 5));
-                contents.getItems().add(activityLabel);
-                count++;
-            }
+            activityLabel.setPadding(new Insets(5, 5, 5, 5));
         }
-        scrollPane.setContent(contents);
-        VBox.setVgrow(scrollPane, Priority.ALWAYS);
-        schedulePanel.getChildren().add(scrollPane);
-    }
 
-    @Subscribe
-    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "updating schedule"));
+        @Override
+        protected void updateItem(Activity activity, boolean empty) {
+            super.updateItem(activity, empty);
 
-        loadSchedule(event.data.getSchedule());
+            if (empty || activity == null) {
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+            cellPane.getChildren().clear();
+            if (isFirstOnDate(activity)) {
+                dateLabel.setText(Activity.getDateString(activity.getLocalDate()));
+                cellPane.getChildren().add(datePane);
+            }
+            activityLabel.setText((getIndex() + 1) + ". " + activity.getActivityName()
+                    + (activity.isRecurring() ? " (" + activity.getRecurrence().describe() + ")" : ""));
+            cellPane.getChildren().add(activityLabel);
+            setGraphic(cellPane);
+        }
 
+        /**
+         * Returns true if the activity in this cell is the first one in the list on its date.
+         */
+        private boolean isFirstOnDate(Activity activity) {
+            int index = getIndex();
+            return index == 0
+                    || !getListView().getItems().get(index - 1).getLocalDate().equals(activity.getLocalDate());
+        }
     }
-
 }
@@ -16,7 +16,14 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : CorpProC\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Max save staleness (ms) : 500\n"
+                + "Address book journal limit (bytes) : 1048576\n"
+                + "Formatted data file : true\n"
+                + "Binary data file : false\n"
+                + "Undo history limit (bytes) : 16777216\n"
+                + "Snapshot undo history : false\n"
+                + "Parallel search threshold (words) : 10000";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.Address;
+
+public class InternerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Interner<Address> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        interner.intern(null);
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Address first = new Address("Blk 30 Geylang Street 29");
+        Address second = new Address("Blk 30 Geylang Street 29");
+        Address other = new Address("Blk 31 Geylang Street 29");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertNotSame(first, interner.intern(other));
+        assertEquals(2, interner.size());
+    }
+}
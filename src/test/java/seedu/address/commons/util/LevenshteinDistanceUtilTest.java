@@ -0,0 +1,135 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LevenshteinDistanceUtilTest {
+
+    /** Letters to build strings from, with one that is not in the lookup table of the bit-parallel distance. */
+    private static final String ALPHABET = "abcdeé中";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void levenshteinDistance_knownPairs_correctDistance() {
+        assertEquals(0, LevenshteinDistanceUtil.levenshteinDistance("", ""));
+        assertEquals(4, LevenshteinDistanceUtil.levenshteinDistance("", "kurz"));
+        assertEquals(1, LevenshteinDistanceUtil.levenshteinDistance("kurz", "kunz"));
+        assertEquals(3, LevenshteinDistanceUtil.levenshteinDistance("kitten", "sitting"));
+        assertEquals(2, LevenshteinDistanceUtil.levenshteinDistance("ab", "ba"));
+        assertEquals(1, LevenshteinDistanceUtil.damerauLevenshteinDistance("ab", "ba", 5));
+        assertEquals(3, LevenshteinDistanceUtil.damerauLevenshteinDistance("ca", "abc", 5));
+    }
+
+    @Test
+    public void levenshteinDistance_overMaximum_maximumPlusOne() {
+        assertEquals(2, LevenshteinDistanceUtil.levenshteinDistance("kitten", "sitting", 1));
+        assertEquals(1, LevenshteinDistanceUtil.levenshteinDistance("a", "abcdef", 0));
+        assertEquals(3, LevenshteinDistanceUtil.bandedDistance("kitten", "sitting", 2, false));
+        assertEquals(3, LevenshteinDistanceUtil.bitParallelDistance("kitten", "sitting", 2));
+    }
+
+    @Test
+    public void bitParallelDistance_bothStringsTooLong_throwsIllegalArgumentException() {
+        String longString = new String(new char[LevenshteinDistanceUtil.MAX_BIT_PARALLEL_LENGTH + 1]);
+        thrown.expect(IllegalArgumentException.class);
+        LevenshteinDistanceUtil.bitParallelDistance(longString, longString, 1);
+    }
+
+    @Test
+    public void allVariants_randomStrings_sameAsFullMatrix() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            // Some strings are longer than a long has bits, and most pairs share a prefix or suffix.
+            String lhs = randomString(random, random.nextInt(i % 10 == 0 ? 90 : 12));
+            String rhs = random.nextBoolean() ? mutate(random, lhs) : randomString(random, random.nextInt(12));
+            int maxDistance = random.nextInt(8);
+            int levenshtein = fullMatrixDistance(lhs, rhs, false);
+            int damerau = fullMatrixDistance(lhs, rhs, true);
+            int bounded = Math.min(levenshtein, maxDistance + 1);
+
+            assertEquals(levenshtein, LevenshteinDistanceUtil.levenshteinDistance(lhs, rhs));
+            assertEquals(bounded, LevenshteinDistanceUtil.levenshteinDistance(lhs, rhs, maxDistance));
+            assertEquals(bounded, LevenshteinDistanceUtil.bandedDistance(lhs, rhs, maxDistance, false));
+            assertEquals(Math.min(damerau, maxDistance + 1),
+                    LevenshteinDistanceUtil.damerauLevenshteinDistance(lhs, rhs, maxDistance));
+            if (Math.min(lhs.length(), rhs.length()) <= LevenshteinDistanceUtil.MAX_BIT_PARALLEL_LENGTH) {
+                assertEquals(bounded, LevenshteinDistanceUtil.bitParallelDistance(lhs, rhs, maxDistance));
+            }
+        }
+    }
+
+    /**
+     * Returns the edit distance between {@code lhs} and {@code rhs} worked out over the whole matrix.
+     */
+    private static int fullMatrixDistance(String lhs, String rhs, boolean allowTranspositions) {
+        int[][] distances = new int[lhs.length() + 1][rhs.length() + 1];
+        for (int i = 0; i <= lhs.length(); i++) {
+            for (int j = 0; j <= rhs.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                    continue;
+                }
+                int cost = lhs.charAt(i - 1) == rhs.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(distances[i - 1][j - 1] + cost,
+                        Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                if (allowTranspositions && i > 1 && j > 1 && lhs.charAt(i - 1) == rhs.charAt(j - 2)
+                        && lhs.charAt(i - 2) == rhs.charAt(j - 1)) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return distances[lhs.length()][rhs.length()];
+    }
+
+    /**
+     * Returns a string of {@code length} random letters of the alphabet.
+     */
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code string} with a few random characters replaced, inserted, deleted or swapped.
+     */
+    private static String mutate(Random random, String string) {
+        StringBuilder builder = new StringBuilder(string);
+        for (int edits = random.nextInt(4); edits > 0; edits--) {
+            int position = builder.length() == 0 ? 0 : random.nextInt(builder.length());
+            char letter = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(4)) {
+            case 0:
+                builder.insert(position, letter);
+                break;
+            case 1:
+                if (builder.length() > 0) {
+                    builder.setCharAt(position, letter);
+                }
+                break;
+            case 2:
+                if (builder.length() > 0) {
+                    builder.deleteCharAt(position);
+                }
+                break;
+            default:
+                if (position + 1 < builder.length()) {
+                    char swapped = builder.charAt(position);
+                    builder.setCharAt(position, builder.charAt(position + 1));
+                    builder.setCharAt(position + 1, swapped);
+                }
+                break;
+            }
+        }
+        return builder.toString();
+    }
+}
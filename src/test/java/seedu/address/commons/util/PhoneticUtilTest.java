@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PhoneticUtilTest {
+
+    @Test
+    public void encode_noLetters_noCodes() {
+        assertArrayEquals(new String[0], PhoneticUtil.encode(""));
+        assertArrayEquals(new String[0], PhoneticUtil.encode("123 -"));
+    }
+
+    @Test
+    public void encode_twoWaysToSay_primaryAndAlternateCodes() {
+        assertArrayEquals(new String[] {"K0RN", "KTRN"}, PhoneticUtil.encode("Catherine"));
+        assertArrayEquals(new String[] {"XMT", "SKMT"}, PhoneticUtil.encode("Schmidt"));
+
+        // codes are cut to the maximum length
+        assertArrayEquals(new String[] {"MKSM"}, PhoneticUtil.encode("Maximilian"));
+    }
+
+    @Test
+    public void soundsLike() {
+        // spelt differently but said the same
+        assertTrue(PhoneticUtil.soundsLike("Catherine", "Kathryn"));
+        assertTrue(PhoneticUtil.soundsLike("Smith", "Schmidt"));
+        assertTrue(PhoneticUtil.soundsLike("Stephen", "Steven"));
+        assertTrue(PhoneticUtil.soundsLike("Philip", "Filip"));
+        assertTrue(PhoneticUtil.soundsLike("Meyer", "meier"));
+
+        // silent letters
+        assertTrue(PhoneticUtil.soundsLike("Knight", "Night"));
+        assertTrue(PhoneticUtil.soundsLike("Wright", "Right"));
+
+        // different sounds
+        assertFalse(PhoneticUtil.soundsLike("Kurz", "Meier"));
+        assertFalse(PhoneticUtil.soundsLike("Kurz", "Kunz"));
+        assertFalse(PhoneticUtil.soundsLike("", ""));
+    }
+}
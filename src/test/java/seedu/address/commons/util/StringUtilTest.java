@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -142,6 +143,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toWords --------------------------------------
+
+    @Test
+    public void toWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.toWords(" \t "));
+        assertArrayEquals(new String[] {"AAA", "bBb", "ccc@1"}, StringUtil.toWords("  AAA\tbBb   ccc@1"));
+    }
+
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(""));
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(" \t "));
+        assertArrayEquals(new String[] {"aaa", "bbb", "ccc@1"}, StringUtil.toLowerCaseWords("  AAA\tbBb   ccc@1"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -141,6 +143,22 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void saveDataToFile_unformatted_dataSavedWithoutIndentation() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        AddressBookBuilder builder = new AddressBookBuilder(new AddressBook());
+        XmlSerializableAddressBook dataToWrite =
+                new XmlSerializableAddressBook(builder.withPerson(new PersonBuilder().build()).build());
+
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite, false);
+        assertFalse(FileUtil.readFromFile(TEMP_FILE).trim().contains("\n"));
+        assertEquals(dataToWrite, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class));
+
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite, true);
+        assertTrue(FileUtil.readFromFile(TEMP_FILE).trim().contains("\n"));
+        assertEquals(dataToWrite, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class));
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
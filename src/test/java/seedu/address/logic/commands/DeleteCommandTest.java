@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -10,12 +11,16 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_LIST_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_LIST_SECOND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
 
 import seedu.address.commons.core.Messages;
@@ -23,8 +28,13 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 /**
  * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
@@ -32,6 +42,9 @@ import seedu.address.model.person.Person;
  */
 public class DeleteCommandTest {
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     private CommandHistory commandHistory = new CommandHistory();
 
@@ -49,6 +62,18 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, commandHistory, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndices_addressBookSavedOnce() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage();
+        new StorageManager(addressBookStorage, new JsonUserPrefsStorage(Paths.get("dummy")));
+        DeleteCommand deleteCommand = new DeleteCommand(new ArrayList<>(Arrays.asList(
+                INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON)));
+
+        deleteCommand.execute(model, commandHistory);
+
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -192,4 +217,20 @@ public class DeleteCommandTest {
         }
         return String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, deletedPersons.size(), output);
     }
+
+    /**
+     * A stub that counts the saves of the address book instead of writing them.
+     */
+    private class SaveCountingAddressBookStorage extends XmlAddressBookStorage {
+        private int saveCount;
+
+        SaveCountingAddressBookStorage() {
+            super(Paths.get("dummy"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saveCount++;
+        }
+    }
 }
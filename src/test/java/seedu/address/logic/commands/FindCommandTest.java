@@ -12,9 +12,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.WILSON;
@@ -23,6 +26,9 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -34,16 +40,11 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.ClosestMatchList;
-import seedu.address.model.person.EmailContainsKeywordsPredicate;
-import seedu.address.model.person.KpiContainsKeywordPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.NoteContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PhoneContainsKeywordPredicate;
-import seedu.address.model.person.PositionContainsKeywordsPredicate;
-import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.SearchableField;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -115,6 +116,22 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_soundsLikeKeywords_soundAlikePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Meier Meyer");
+        expectedMessage += combinedActualMatches("{Meyer}", "{Meier}");
+
+        Map<Prefix, String[]> prefixKeywordsMap = new HashMap<>();
+        prefixKeywordsMap.put(PREFIX_SOUNDS_LIKE, new String[] {"Meyer"});
+        Set<Prefix> keys = prefixKeywordsMap.keySet();
+
+        FindCommand command = new FindCommand(prefixKeywordsMap, keys.toArray(new Prefix[0]));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_multipleAttributes_multiplePersonsFound() {
         Map<Prefix, String[]> prefixKeywordMap = new HashMap<>();
@@ -136,7 +153,6 @@ public class FindCommandTest {
 
 
         Set<Prefix> keys = prefixKeywordMap.keySet();
-        Prefix[] types = keys.toArray(new Prefix[0]);
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
         expectedMessage += combinedActualMatches(
 
@@ -144,12 +160,9 @@ public class FindCommandTest {
                 "{Sample, street, sample}"
         );
 
-        Predicate<Person> combinedPredicate = PREDICATE_SHOW_ALL_PERSONS;
         FindCommand command = new FindCommand(prefixKeywordMap, keys.toArray(new Prefix[0]));
 
-        combinedPredicate = getPersonPredicate(prefixKeywordMap, types, combinedPredicate);
-
-        expectedModel.updateFilteredPersonList(combinedPredicate);
+        expectedModel.updateFilteredPersonList(getPersonPredicate(prefixKeywordMap, keys.toArray(new Prefix[0])));
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
     }
@@ -161,73 +174,87 @@ public class FindCommandTest {
         prefixKeywordMap.put(PREFIX_EMAIL, emails);
 
         Set<Prefix> keys = prefixKeywordMap.keySet();
-        Prefix[] types = keys.toArray(new Prefix[0]);
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
         expectedMessage += combinedActualMatches("{wow@gmail.com}", "{}");
 
-        Predicate<Person> combinedPredicate = PREDICATE_SHOW_ALL_PERSONS;
         FindCommand command = new FindCommand(prefixKeywordMap, keys.toArray(new Prefix[0]));
 
-        combinedPredicate = getPersonPredicate(prefixKeywordMap, types, combinedPredicate);
-
-        expectedModel.updateFilteredPersonList(combinedPredicate);
+        expectedModel.updateFilteredPersonList(getPersonPredicate(prefixKeywordMap, keys.toArray(new Prefix[0])));
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(WILSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_addressSearch_multiplePersonsFound() {
+        assertFieldSearchSuccess(PREFIX_ADDRESS, new String[] {"street"}, "{street}", "{}",
+                Arrays.asList(CARL, DANIEL, WILSON));
+    }
+
+    @Test
+    public void execute_noteSearch_onePersonFound() {
+        assertFieldSearchSuccess(PREFIX_NOTE, new String[] {"Daniel"}, "{Daniel}", "{}",
+                Arrays.asList(DANIEL));
+    }
+
+    @Test
+    public void execute_tagSearch_onePersonFound() {
+        assertFieldSearchSuccess(PREFIX_TAG, new String[] {"owesMoney"}, "{owesMoney}", "{}",
+                Arrays.asList(BENSON));
+    }
+
+    @Test
+    public void execute_findThenPersonEdited_editedPersonFound() throws Exception {
+        Map<Prefix, String[]> prefixKeywordMap = new HashMap<>();
+        prefixKeywordMap.put(PREFIX_NAME, new String[] {"Kurz"});
+        new FindCommand(prefixKeywordMap, new Prefix[] {PREFIX_NAME}).execute(model, commandHistory);
+
+        Person editedElle = new PersonBuilder(ELLE).withId(ELLE.getId()).withName("Elle Kurz").build();
+        model.updatePerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(CARL, editedElle, FIONA), model.getFilteredPersonList());
+    }
+
+    /**
+     * Asserts that searching {@code field} for {@code keywords} matches {@code matchedKeywords} and guesses
+     * {@code guessedKeywords}, and finds the {@code expectedPersons}, which are also the persons whose words of the
+     * field match.
+     */
+    private void assertFieldSearchSuccess(Prefix field, String[] keywords, String matchedKeywords,
+                                          String guessedKeywords, List<Person> expectedPersons) {
+        Map<Prefix, String[]> prefixKeywordMap = new HashMap<>();
+        prefixKeywordMap.put(field, keywords);
+        Prefix[] types = {field};
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.size())
+                + combinedActualMatches(matchedKeywords, guessedKeywords);
+
+        FindCommand command = new FindCommand(prefixKeywordMap, types);
+
+        expectedModel.updateFilteredPersonList(getPersonPredicate(prefixKeywordMap, types));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
     /**
-     * Gets the person's predicate based on attributes
+     * Gets the person's predicate based on attributes, testing the words of each field of every person against the
+     * approved keywords instead of looking the persons up in the index, as {@code FindCommand} does.
      * @param prefixKeywordMap obtains the keywordMap of PREFIX_TYPE and arguments
      * @param types is a list of PREFIX types
-     * @param combinedPredicate Combined predicate of all persons
-     * @return
+     * @return the combined predicate of all the attributes
      */
-    private Predicate<Person> getPersonPredicate(
-            Map<Prefix,
-            String[]> prefixKeywordMap,
-            Prefix[] types,
-            Predicate<Person> combinedPredicate) {
-
+    private Predicate<Person> getPersonPredicate(Map<Prefix, String[]> prefixKeywordMap, Prefix[] types) {
+        Predicate<Person> combinedPredicate = PREDICATE_SHOW_ALL_PERSONS;
         for (Prefix type : types) {
             ClosestMatchList closestMatch = new ClosestMatchList(model, type, prefixKeywordMap.get(type));
-            String[] approvedList = closestMatch.getApprovedList();
-
-            if (type == PREFIX_PHONE) {
-                combinedPredicate = combinedPredicate.and(
-                        new PhoneContainsKeywordPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_NAME) {
-                combinedPredicate = combinedPredicate.and(
-                        new NameContainsKeywordsPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_ADDRESS) {
-                combinedPredicate = combinedPredicate.and(
-                        new AddressContainsKeywordsPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_EMAIL) {
-                combinedPredicate = combinedPredicate.and(
-                        new EmailContainsKeywordsPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_NOTE) {
-                combinedPredicate = combinedPredicate.and(
-                        new NoteContainsKeywordsPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_POSITION) {
-                combinedPredicate = combinedPredicate.and(
-                        new PositionContainsKeywordsPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_TAG) {
-                combinedPredicate = combinedPredicate.and(
-                        new TagContainsKeywordsPredicate(Arrays.asList(approvedList))
-                );
-            } else if (type == PREFIX_KPI) {
-                combinedPredicate = combinedPredicate.and(
-                        new KpiContainsKeywordPredicate(Arrays.asList(approvedList))
-                );
+            SearchableField field = closestMatch.getField();
+            Set<String> approvedWords = new HashSet<>();
+            for (String approved : closestMatch.getApprovedList()) {
+                approvedWords.add(approved.toLowerCase(Locale.ROOT));
             }
+            combinedPredicate = combinedPredicate.and(person ->
+                    Arrays.stream(person.getLowerCaseWords(field)).anyMatch(approvedWords::contains));
         }
         return combinedPredicate;
     }
+
     //@@author
 
 
@@ -1,12 +1,16 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.logic.commands.ListCommand.TYPE_ALL;
+import static seedu.address.logic.commands.ListCommand.TYPE_KPI;
 import static seedu.address.logic.commands.ListCommand.TYPE_TAG;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
@@ -22,7 +26,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Kpi;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -91,6 +97,28 @@ public class ListCommandTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_listTagsThenPersonEdited_editedPersonFiltered() throws Exception {
+        new ListCommand(TYPE_TAG, new HashSet<>(Arrays.asList(new Tag("friends")))).execute(model, commandHistory);
+        Person taggedCarl = new PersonBuilder(CARL).withId(CARL.getId()).withTags("friends").build();
+        model.updatePerson(CARL, taggedCarl);
+        model.commitAddressBook();
+        assertTrue(model.getFilteredPersonList().contains(taggedCarl));
+
+        model.undoAddressBook();
+        assertFalse(model.getFilteredPersonList().contains(CARL));
+        model.redoAddressBook();
+        assertTrue(model.getFilteredPersonList().contains(taggedCarl));
+    }
+
+    @Test
+    public void execute_listKpiThenPersonEdited_editedPersonFiltered() throws Exception {
+        new ListCommand(TYPE_KPI, Arrays.asList("3.2")).execute(model, commandHistory);
+        Person editedCarl = new PersonBuilder(CARL).withId(CARL.getId()).withKpi("3.2").build();
+        model.updatePerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BENSON, editedCarl), model.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         ListCommand listAllCommand = new ListCommand(TYPE_ALL, new ArrayList<>());
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.ACTIVITY_ONE_NAME;
@@ -8,10 +9,12 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
 import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_2;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
 import static seedu.address.testutil.TypicalActivity.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ACTIVITY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_ACTIVITY;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.junit.Rule;
@@ -137,6 +140,38 @@ public class ScheduleCommandTest {
                 ACTIVITY_TWO_NAME)));
     }
 
+    @Test
+    public void execute_editOccurrence_onlyOccurrenceRenamed() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addActivity(RECURRING_ACTIVITY);
+        Model recurringModel = new ModelManager(addressBook, new UserPrefs());
+        LocalDate occurrence = LocalDate.of(2018, 1, 22);
+        ScheduleEditCommand scheduleEditCommand = new ScheduleEditCommand(INDEX_FIRST_ACTIVITY, occurrence,
+                ACTIVITY_ONE_NAME);
+
+        String expectedMessage = String.format(ScheduleEditCommand.MESSAGE_SUCCESS,
+                RECURRING_ACTIVITY.getActivityName(),
+                Activity.getDateString(occurrence),
+                ACTIVITY_ONE_NAME);
+        Model expectedModel = new ModelManager(new AddressBook(addressBook), new UserPrefs());
+        expectedModel.updateActivity(RECURRING_ACTIVITY, new Activity(RECURRING_ACTIVITY.getLocalDate(),
+                RECURRING_ACTIVITY.getActivityName(),
+                RECURRING_ACTIVITY.getRecurrence().withRenamed(occurrence, ACTIVITY_ONE_NAME)));
+        expectedModel.commitAddressBook();
+        assertCommandSuccess(scheduleEditCommand, recurringModel, commandHistory, expectedMessage, expectedModel);
+        assertEquals(1, recurringModel.getActivityList().size());
+    }
+
+    @Test
+    public void execute_editOccurrenceNotInSeries_failure() {
+        LocalDate notAnOccurrence = LocalDate.of(2018, 1, 15);
+        ScheduleEditCommand scheduleEditCommand = new ScheduleEditCommand(INDEX_FIRST_ACTIVITY, notAnOccurrence,
+                ACTIVITY_ONE_NAME);
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_NOT_AN_OCCURRENCE,
+                model.getActivityList().get(0).getActivityName(), Activity.getDateString(notAnOccurrence));
+        assertCommandFailure(scheduleEditCommand, model, commandHistory, expectedMessage);
+    }
+
     ////ScheduleDeleteCommand tests
     @Test
     public void execute_deleteValidIndex_success() {
@@ -162,6 +197,41 @@ public class ScheduleCommandTest {
         assertCommandFailure(scheduleDeleteCommand, model, commandHistory, ScheduleCommand.MESSAGE_INVALID_INDEX);
     }
 
+    @Test
+    public void execute_deleteOccurrence_occurrenceCancelled() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addActivity(RECURRING_ACTIVITY);
+        Model recurringModel = new ModelManager(addressBook, new UserPrefs());
+        LocalDate occurrence = LocalDate.of(2018, 1, 8);
+        ScheduleDeleteCommand scheduleDeleteCommand = new ScheduleDeleteCommand(INDEX_FIRST_ACTIVITY, occurrence);
+
+        String expectedMessage = String.format(ScheduleDeleteCommand.MESSAGE_SUCCESS,
+                "Team lunch at noon.",
+                Activity.getDateString(occurrence));
+        Model expectedModel = new ModelManager(new AddressBook(addressBook), new UserPrefs());
+        expectedModel.updateActivity(RECURRING_ACTIVITY, new Activity(RECURRING_ACTIVITY.getLocalDate(),
+                RECURRING_ACTIVITY.getActivityName(), RECURRING_ACTIVITY.getRecurrence().withCancelled(occurrence)));
+        expectedModel.commitAddressBook();
+        assertCommandSuccess(scheduleDeleteCommand, recurringModel, commandHistory, expectedMessage, expectedModel);
+        assertEquals(3, recurringModel.getOccurrencesBetween(null, null).size());
+    }
+
+    @Test
+    public void execute_listRepeatingActivity_indexAndOccurrenceDateShown() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addActivity(RECURRING_ACTIVITY);
+        addressBook.addActivity(ACTIVITY_TASK_2);
+        Model recurringModel = new ModelManager(addressBook, new UserPrefs());
+        LocalDate occurrence = LocalDate.of(2018, 1, 8);
+        ScheduleListCommand scheduleListCommand = new ScheduleListCommand(LocalDate.of(2018, 1, 2), occurrence);
+
+        String expectedMessage = String.format(ScheduleListCommand.MESSAGE_SUCCESS, 2)
+                + "\n2. " + Activity.getDateString(ACTIVITY_TASK_2.getLocalDate()) + ": Send a reminder to Bob."
+                + "\n1. " + Activity.getDateString(occurrence) + ": Team lunch at noon. (d/08/01/2018)";
+        Model expectedModel = new ModelManager(new AddressBook(addressBook), new UserPrefs());
+        assertCommandSuccess(scheduleListCommand, recurringModel, commandHistory, expectedMessage, expectedModel);
+    }
+
     @Test
     public void equals() {
         ScheduleDeleteCommand deleteFirstCommand = new ScheduleDeleteCommand(INDEX_FIRST_ACTIVITY);
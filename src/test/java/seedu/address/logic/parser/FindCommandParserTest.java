@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -55,6 +56,19 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, userInput, expectedFindCommand);
     }
 
+    @Test
+    public void parse_soundsLikeArgs_returnsFindCommand() {
+        Map<Prefix, String[]> prefixKeywordsMap = new HashMap<>();
+        prefixKeywordsMap.put(PREFIX_SOUNDS_LIKE, new String[] {"Kathryn", "Smith"});
+        prefixKeywordsMap.put(PREFIX_NAME, new String[] {"Alice"});
+        Set<Prefix> keys = prefixKeywordsMap.keySet();
+
+        FindCommand expectedFindCommand = new FindCommand(prefixKeywordsMap, keys.toArray(new Prefix[0]));
+
+        assertParseSuccess(parser, " " + PREFIX_SOUNDS_LIKE + "Kathryn Smith " + PREFIX_NAME + "Alice",
+                expectedFindCommand);
+    }
+
     //@@author lws803
     @Test
     public void parse_validMultipleArgs_returnsFindCommand () {
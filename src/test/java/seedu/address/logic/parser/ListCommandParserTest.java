@@ -13,7 +13,9 @@ import org.junit.Test;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Assert;
 
 public class ListCommandParserTest {
 
@@ -37,6 +39,23 @@ public class ListCommandParserTest {
         assertEquals(expectedListCommand, actualListCommand);
     }
 
+    @Test
+    public void parse_kpiRangeListing_success() throws ParseException {
+        ListCommandParser parserUnderTest = new ListCommandParser();
+        ListCommand actualListCommand = parserUnderTest.parse("list k/>=3.5 k/2-4");
+        ListCommand expectedListCommand =
+                new ListCommand(TYPE_KPI, new ArrayList<>(Arrays.asList(">=3.5", "2-4")));
+
+        assertEquals(expectedListCommand, actualListCommand);
+    }
+
+    @Test
+    public void parse_invalidKpiRange_throwsParseException() {
+        ListCommandParser parserUnderTest = new ListCommandParser();
+        Assert.assertThrows(ParseException.class, KpiRange.MESSAGE_KPI_RANGE_CONSTRAINTS, () ->
+                parserUnderTest.parse("list k/4-2"));
+    }
+
     @Test
     public void parse_allListing_success() throws ParseException {
         ListCommandParser parserUnderTest = new ListCommandParser();
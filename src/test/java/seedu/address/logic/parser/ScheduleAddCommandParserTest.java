@@ -9,13 +9,18 @@ import static seedu.address.logic.commands.CommandTestUtil.ACTIVITY_TWO_NAME_DES
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_ACTIVITY_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_DATE_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.ScheduleAddCommand;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Recurrence;
 import seedu.address.testutil.ActivityBuilder;
 
 public class ScheduleAddCommandParserTest {
@@ -51,6 +56,35 @@ public class ScheduleAddCommandParserTest {
 
     }
 
+    @Test
+    public void parse_repeatingActivity_success() {
+        Activity expectedActivity = new Activity(LocalDate.of(2016, 2, 29), ACTIVITY_ONE_NAME,
+                new Recurrence(Recurrence.Frequency.MONTHLY, LocalDate.of(2016, 12, 31)));
+        assertParseSuccess(parser,
+                ACTIVITY_ONE_DATE_DESC
+                        + ACTIVITY_ONE_NAME_DESC
+                        + " " + PREFIX_REPEAT + "Monthly"
+                        + " " + PREFIX_UNTIL + "31/12/2016",
+                new ScheduleAddCommand(expectedActivity));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleAddCommand.MESSAGE_USAGE);
+
+        // repeat without until
+        assertParseFailure(parser, ACTIVITY_ONE_DATE_DESC + ACTIVITY_ONE_NAME_DESC + " " + PREFIX_REPEAT + "daily",
+                expectedMessage);
+
+        // unknown frequency
+        assertParseFailure(parser, ACTIVITY_ONE_DATE_DESC + ACTIVITY_ONE_NAME_DESC + " " + PREFIX_REPEAT + "yearly "
+                + PREFIX_UNTIL + "31/12/2016", Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+
+        // ends before it starts
+        assertParseFailure(parser, ACTIVITY_ONE_DATE_DESC + ACTIVITY_ONE_NAME_DESC + " " + PREFIX_REPEAT + "daily "
+                + PREFIX_UNTIL + "28/02/2016", Recurrence.MESSAGE_END_DATE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleAddCommand.MESSAGE_USAGE);
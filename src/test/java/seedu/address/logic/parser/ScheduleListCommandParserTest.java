@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ScheduleListCommand;
+import seedu.address.model.schedule.Activity;
+
+public class ScheduleListCommandParserTest {
+    private final ScheduleListCommandParser parser = new ScheduleListCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsScheduleListCommand() {
+        assertParseSuccess(parser, " from/01/01/2026 to/31/03/2026",
+                new ScheduleListCommand(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31)));
+        assertParseSuccess(parser, " to/31/03/2026", new ScheduleListCommand(null, LocalDate.of(2026, 3, 31)));
+        assertParseSuccess(parser, " from/01/01/2026", new ScheduleListCommand(LocalDate.of(2026, 1, 1), null));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormatMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleListCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormatMessage);
+        assertParseFailure(parser, "1 from/01/01/2026", invalidFormatMessage);
+        assertParseFailure(parser, " from/31/02/2026", Activity.MESSAGE_DATE_CONSTRAINTS);
+        assertParseFailure(parser, " from/02/01/2026 to/01/01/2026", ScheduleListCommandParser.MESSAGE_INVALID_RANGE);
+    }
+}
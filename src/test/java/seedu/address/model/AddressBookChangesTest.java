@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangesTest {
+
+    private final AddressBookChanges changes = new AddressBookChanges();
+
+    @Test
+    public void recordPersonUpdated_addedPerson_reportedAsAddedInEditedForm() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags("manager").build();
+        changes.recordPersonAdded(ALICE);
+        changes.recordPersonUpdated(ALICE, editedAlice);
+
+        assertEquals(Arrays.asList(editedAlice), changes.getAddedPersons());
+        assertTrue(changes.getUpdatedPersons().isEmpty());
+        assertTrue(changes.getChangedTags().contains(new Tag("manager")));
+    }
+
+    @Test
+    public void recordPersonRemoved_addedPerson_nothingReported() {
+        changes.recordPersonAdded(ALICE);
+        changes.recordPersonRemoved(ALICE);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void recordPersonRemoved_updatedPerson_originalReportedAsRemoved() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("999").build();
+        Person twiceEditedAlice = new PersonBuilder(editedAlice).withPhone("888").build();
+        changes.recordPersonUpdated(ALICE, editedAlice);
+        changes.recordPersonUpdated(editedAlice, twiceEditedAlice);
+        assertEquals(Collections.singletonMap(ALICE, twiceEditedAlice), changes.getUpdatedPersons());
+
+        changes.recordPersonRemoved(twiceEditedAlice);
+        assertEquals(Arrays.asList(ALICE), changes.getRemovedPersons());
+        assertTrue(changes.getUpdatedPersons().isEmpty());
+    }
+
+    @Test
+    public void recordFullReload_earlierChangesDropped() {
+        changes.recordPersonAdded(ALICE);
+        changes.recordFullReload();
+        changes.recordPersonAdded(BENSON);
+
+        assertTrue(changes.isFullReload());
+        assertFalse(changes.isEmpty());
+        assertFalse(changes.hasPersonChanges());
+    }
+
+    @Test
+    public void recordAll_laterChanges_combinedWithEarlierOnes() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("999").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("888").build();
+        changes.recordPersonAdded(ALICE);
+        changes.recordPersonUpdated(BENSON, editedBenson);
+        AddressBookChanges later = new AddressBookChanges();
+        later.recordPersonUpdated(ALICE, editedAlice);
+        later.recordPersonRemoved(editedBenson);
+        later.recordPersonAdded(CARL);
+
+        changes.recordAll(later);
+        assertEquals(Arrays.asList(editedAlice, CARL), changes.getAddedPersons());
+        assertEquals(Arrays.asList(BENSON), changes.getRemovedPersons());
+        assertTrue(changes.getUpdatedPersons().isEmpty());
+
+        changes.recordAll(AddressBookChanges.fullReload());
+        assertTrue(changes.isFullReload());
+    }
+}
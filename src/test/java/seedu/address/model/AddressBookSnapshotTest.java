@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AddressBookSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_laterChanges_notSeen() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addActivity(ACTIVITY_TASK_1);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.deleteActivity(ACTIVITY_TASK_1);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), snapshot.getPersonList());
+        assertEquals(1, snapshot.getActivityList().size());
+        assertTrue(snapshot.getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void getTagListAndSchedule_sameAsAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addActivity(ACTIVITY_TASK_1);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        assertEquals(addressBook.getTagList().keySet(), snapshot.getTagList().keySet());
+        assertEquals(addressBook.getSchedule(), snapshot.getSchedule());
+    }
+
+    @Test
+    public void equals() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook());
+
+        assertTrue(snapshot.equals(snapshot));
+        assertTrue(snapshot.equals(AddressBookSnapshot.of(getTypicalAddressBook())));
+        assertFalse(snapshot.equals(null));
+        assertFalse(snapshot.equals(AddressBookSnapshot.of(new AddressBook())));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        AddressBookSnapshot.of(getTypicalAddressBook()).getPersonList().remove(0);
+    }
+}
@@ -8,12 +8,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 
 import org.junit.Rule;
@@ -24,6 +24,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.schedule.Activity;
@@ -67,6 +68,16 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void findPersons_afterUpdate_editedValueFound() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("81112222").build();
+        addressBook.updatePerson(ALICE, editedAlice);
+
+        assertEquals(Arrays.asList(editedAlice), addressBook.findPersons(PersonAttribute.PHONE, "81112222"));
+        assertTrue(addressBook.findPersons(PersonAttribute.PHONE, ALICE.getPhone().value).isEmpty());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -105,7 +116,7 @@ public class AddressBookTest {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
         private final ObservableMap<Tag, UniquePersonList> tags = FXCollections.observableHashMap();
         private final ObservableList<Activity> activityList = FXCollections.observableArrayList();
-        private final TreeMap<Date, ArrayList<Activity>> schedule = new TreeMap();
+        private final NavigableMap<LocalDate, List<Activity>> schedule = new TreeMap<>();
 
         AddressBookStub(Collection<Person> persons) {
             this.persons.setAll(persons);
@@ -120,7 +131,7 @@ public class AddressBookTest {
             return tags;
         }
         @Override
-        public TreeMap<Date, ArrayList<Activity>> getSchedule() {
+        public NavigableMap<LocalDate, List<Activity>> getSchedule() {
             return schedule;
         }
         @Override
@@ -11,18 +11,26 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -48,6 +56,59 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void endBatch_changesInNestedBatches_oneEventRaised() {
+        modelManager.startBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.startBatch();
+        modelManager.addPerson(BENSON);
+        modelManager.endBatch();
+        modelManager.deletePerson(ALICE);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+    }
+
+    @Test
+    public void undoAddressBook_afterAdd_removalDescribedWithNextVersion() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        AddressBookChangedEvent addEvent = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(Arrays.asList(ALICE), addEvent.changes.getAddedPersons());
+
+        modelManager.undoAddressBook();
+        AddressBookChangedEvent undoEvent = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(addEvent.version + 1, undoEvent.version);
+        assertEquals(Arrays.asList(ALICE), undoEvent.changes.getRemovedPersons());
+        assertTrue(undoEvent.changes.getAddedPersons().isEmpty());
+        assertFalse(undoEvent.changes.hasActivityChanges());
+    }
+
+    @Test
+    public void resetData_fullReloadRaised() {
+        modelManager.resetData(new AddressBookBuilder().withPerson(ALICE).build());
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event.changes.isFullReload());
+    }
+
+    @Test
+    public void updatePerson_noChange_noEventRaised() {
+        modelManager.addPerson(ALICE);
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.updatePerson(ALICE, ALICE);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void endBatch_noBatchStarted_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.endBatch();
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -159,4 +220,17 @@ public class ModelManagerTest {
         ArrayList<String> expectedOutputAfterReinit = new ArrayList<>(Arrays.asList("lice Pauline "));
         assertEquals(expectedOutputAfterReinit, actualOutputAfterReinit);
     }
+
+    @Test
+    public void getSelectedPersons_selectedPersonEditedAndDeleted_returnsCurrentPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.setSelectedPersons(Arrays.asList(ALICE, BENSON));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").withId(ALICE.getId()).build();
+        modelManager.updatePersonById(ALICE.getId(), editedAlice);
+        modelManager.deletePersonById(BENSON.getId());
+
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getSelectedPersons());
+    }
 }
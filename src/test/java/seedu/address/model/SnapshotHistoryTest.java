@@ -0,0 +1,157 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SnapshotHistoryTest {
+
+    private final ReadOnlyAddressBook addressBookWithAmy = new AddressBookBuilder().withPerson(AMY).build();
+    private final ReadOnlyAddressBook emptyAddressBook = new AddressBookBuilder().build();
+
+    @Test
+    public void undoRedo_snapshotHistoryWithUncommittedChanges_changesDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                VersionedAddressBook.HistoryMode.SNAPSHOTS, VersionedAddressBook.DEFAULT_HISTORY_LIMIT_BYTES);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.addPerson(CARL);
+
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+
+        versionedAddressBook.removePerson(AMY);
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undoRedo_snapshotHistory_onlyChangedPersonsUpdated() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(),
+                VersionedAddressBook.HistoryMode.SNAPSHOTS, VersionedAddressBook.DEFAULT_HISTORY_LIMIT_BYTES);
+        List<String> changes = new ArrayList<>();
+        versionedAddressBook.setChangeListener(new VersionedAddressBook.ChangeListener() {
+            @Override
+            public void personAdded(Person person) {
+                changes.add("added " + person.getName());
+            }
+
+            @Override
+            public void personRemoved(Person person) {
+                changes.add("removed " + person.getName());
+            }
+
+            @Override
+            public void personUpdated(Person target, Person editedPerson) {
+                changes.add("updated " + target.getName());
+            }
+
+            @Override
+            public void personsReplaced() {
+                changes.add("replaced");
+            }
+        });
+        Person editedCarl = new PersonBuilder(CARL).withId(CARL.getId()).withPhone(VALID_PHONE_BOB).build();
+        versionedAddressBook.updatePerson(CARL, editedCarl);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        changes.clear();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList("added " + ALICE.getName(), "updated " + CARL.getName()),
+                sorted(changes));
+        assertEquals(getTypicalAddressBook(), new AddressBook(versionedAddressBook));
+        changes.clear();
+
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList("removed " + ALICE.getName(), "updated " + CARL.getName()),
+                sorted(changes));
+    }
+
+    @Test
+    public void undoRedo_randomChanges_snapshotAndOperationHistoriesAgree() {
+        Random random = new Random(3);
+        VersionedAddressBook operations = new VersionedAddressBook(getTypicalAddressBook());
+        VersionedAddressBook snapshots = new VersionedAddressBook(getTypicalAddressBook(),
+                VersionedAddressBook.HistoryMode.SNAPSHOTS, VersionedAddressBook.DEFAULT_HISTORY_LIMIT_BYTES);
+        int nameCount = 0;
+        for (int i = 0; i < 300; i++) {
+            int action = random.nextInt(6);
+            List<Person> persons = operations.getPersonList();
+            if (action == 0 && operations.canUndo()) {
+                operations.undo();
+                snapshots.undo();
+            } else if (action == 1 && operations.canRedo()) {
+                operations.redo();
+                snapshots.redo();
+            } else if (action == 2 || persons.isEmpty()) {
+                Person person = new PersonBuilder().withName("Person " + nameCount++).build();
+                operations.addPerson(person);
+                snapshots.addPerson(person);
+            } else if (action == 3) {
+                Person person = persons.get(random.nextInt(persons.size()));
+                operations.removePerson(person);
+                snapshots.removePerson(person);
+            } else if (action == 4) {
+                Person person = persons.get(random.nextInt(persons.size()));
+                Person editedPerson = new PersonBuilder(person).withId(person.getId())
+                        .withName("Person " + nameCount++).build();
+                operations.updatePerson(person, editedPerson);
+                snapshots.updatePerson(person, editedPerson);
+            } else {
+                operations.commit();
+                snapshots.commit();
+            }
+            assertEquals(operations.getPersonList(), snapshots.getPersonList());
+            assertEquals(operations.getTagList().keySet(), snapshots.getTagList().keySet());
+            assertEquals(operations.canUndo(), snapshots.canUndo());
+            assertEquals(operations.canRedo(), snapshots.canRedo());
+        }
+    }
+
+    @Test
+    public void commit_snapshotHistoryOverLimit_oldestStatesEvicted() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                VersionedAddressBook.HistoryMode.SNAPSHOTS, 1);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        // only the last commit is kept
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
+    /**
+     * Returns a sorted copy of {@code strings}.
+     */
+    private static List<String> sorted(List<String> strings) {
+        List<String> sortedStrings = new ArrayList<>(strings);
+        Collections.sort(sortedStrings);
+        return sortedStrings;
+    }
+}
@@ -4,9 +4,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +19,7 @@ import java.util.List;
 import org.junit.Test;
 
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -207,6 +212,34 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undoRedo_personAndActivityChanges_statesRestored() {
+        assertUndoRedoRestoresStates(new VersionedAddressBook(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void undoRedo_snapshotHistory_statesRestored() {
+        assertUndoRedoRestoresStates(new VersionedAddressBook(getTypicalAddressBook(),
+                VersionedAddressBook.HistoryMode.SNAPSHOTS, VersionedAddressBook.DEFAULT_HISTORY_LIMIT_BYTES));
+    }
+
+    @Test
+    public void commit_historyOverLimit_oldestStatesEvicted() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 1);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        // only the last commit is kept
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -235,6 +268,34 @@ public class VersionedAddressBookTest {
         assertFalse(versionedAddressBook.equals(differentCurrentStatePointer));
     }
 
+    /**
+     * Asserts that undoing and redoing person and activity changes made to {@code versionedAddressBook}, which holds
+     * the typical persons, restores its persons, activities and tags.
+     */
+    private void assertUndoRedoRestoresStates(VersionedAddressBook versionedAddressBook) {
+        AddressBook expectedInitialState = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(CARL, new PersonBuilder(CARL).withPhone(VALID_PHONE_BOB).build());
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.addActivity(ACTIVITY_TASK_1);
+        versionedAddressBook.commit();
+        AddressBook expectedFinalState = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertEquals(expectedInitialState, new AddressBook(versionedAddressBook));
+        assertEquals(expectedInitialState.getActivityList(), versionedAddressBook.getActivityList());
+        assertEquals(expectedInitialState.getTagList().keySet(), versionedAddressBook.getTagList().keySet());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(expectedFinalState, new AddressBook(versionedAddressBook));
+        assertEquals(expectedFinalState.getActivityList(), versionedAddressBook.getActivityList());
+        assertEquals(expectedFinalState.getTagList().keySet(), versionedAddressBook.getTagList().keySet());
+    }
+
     /**
      * Asserts that {@code versionedAddressBook} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedAddressBook#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
@@ -6,11 +6,14 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
+import java.util.Collection;
 import java.util.List;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -19,8 +22,12 @@ import javafx.collections.ObservableList;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.KpiRange;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonAttribute;
+import seedu.address.model.person.SearchableField;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Occurrence;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TypicalPersons;
 
@@ -237,11 +244,26 @@ public class CommandCompleterTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updatePerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updatePersonById(long id, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -252,6 +274,56 @@ public class CommandCompleterTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> findPersons(PersonAttribute attribute, String value) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPrefix(PersonAttribute attribute, String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsWithKpiIn(KpiRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsWithWords(Map<SearchableField, ? extends Collection<String>> wordsByField) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> findWordsWithin(SearchableField field, Collection<String> words, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getClosestWordDistance(SearchableField field, String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findWordsSharingPrefix(SearchableField field, Collection<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findNamesSoundingLike(Collection<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsFromTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithAnyTag(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -277,6 +349,16 @@ public class CommandCompleterTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ArrayList<String> predictText(String input) {
             throw new AssertionError("This method should not be called.");
@@ -334,7 +416,12 @@ public class CommandCompleterTest {
 
 
         @Override
-        public TreeMap<Date, ArrayList<Activity>> getSchedule() {
+        public List<Occurrence> getOccurrencesBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableMap<LocalDate, List<Activity>> getSchedule() {
             throw new AssertionError("This method should not be called.");
         }
 
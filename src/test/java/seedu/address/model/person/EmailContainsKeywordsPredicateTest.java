@@ -1,41 +0,0 @@
-//@@author lws803
-package seedu.address.model.person;
-
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
-
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
-import org.junit.Test;
-
-public class EmailContainsKeywordsPredicateTest {
-    @Test
-    public void equals() {
-        List<String> firstPredicateKeywordList = Collections.singletonList("wow@gmail.com");
-        List<String> secondPredicateKeywordList = Arrays.asList("wow@gmail.com", "wow2@gmail.com");
-
-        EmailContainsKeywordsPredicate firstPredicate =
-                new EmailContainsKeywordsPredicate(firstPredicateKeywordList);
-        EmailContainsKeywordsPredicate secondPredicate =
-                new EmailContainsKeywordsPredicate(secondPredicateKeywordList);
-
-        // same object -> returns true
-        assertTrue(firstPredicate.equals(firstPredicate));
-
-        // same values -> returns true
-        EmailContainsKeywordsPredicate firstPredicateCopy =
-                new EmailContainsKeywordsPredicate(firstPredicateKeywordList);
-        assertTrue(firstPredicate.equals(firstPredicateCopy));
-
-        // different types -> returns false
-        assertFalse(firstPredicate.equals(1));
-
-        // null -> returns false
-        assertFalse(firstPredicate.equals(null));
-
-        // different person -> returns false
-        assertFalse(firstPredicate.equals(secondPredicate));
-    }
-}
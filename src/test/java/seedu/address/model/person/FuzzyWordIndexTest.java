@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyWordIndexTest {
+
+    private final FuzzyWordIndex index = new FuzzyWordIndex();
+
+    @Test
+    public void findWordsWithin_closeWords_foundWithDistances() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA));
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("Kurz", 0);
+        expected.put("Meyer", 1);
+        expected.put("Kunz", 1);
+
+        // The words are in the order of the persons they were first added with.
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(
+                index.findWordsWithin(SearchableField.NAME, Arrays.asList("kurz", "Meyers"), 1).entrySet()));
+        assertEquals(0, index.getClosestDistance(SearchableField.NAME, "MEIER"));
+        assertEquals(1, index.getClosestDistance(SearchableField.NAME, "Meiyer"));
+        assertTrue(index.findWordsWithin(SearchableField.NAME, Arrays.asList("Zzzzzz"), 3).isEmpty());
+    }
+
+    @Test
+    public void findWordsSharingPrefix_phones_longerAndShorterWordsFound() {
+        index.setPersons(Arrays.asList(ALICE, DANIEL, ELLE, FIONA));
+
+        assertEquals(Arrays.asList("9482224", "9482427"),
+                index.findWordsSharingPrefix(SearchableField.PHONE, Arrays.asList("948")));
+        assertEquals(Arrays.asList("87652533"),
+                index.findWordsSharingPrefix(SearchableField.PHONE, Arrays.asList("8765253399")));
+        assertTrue(index.findWordsSharingPrefix(SearchableField.PHONE, Arrays.asList("1")).isEmpty());
+    }
+
+    @Test
+    public void findNamesSoundingLike_soundAlikeNames_foundInOrderAdded() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA));
+
+        assertEquals(Arrays.asList("Meier", "Meyer"), index.findNamesSoundingLike(Arrays.asList("Mayer")));
+        assertEquals(Arrays.asList("Carl", "Kurz"), index.findNamesSoundingLike(Arrays.asList("karl", "Kuhrs")));
+        assertTrue(index.findNamesSoundingLike(Arrays.asList("Zoe")).isEmpty());
+
+        // Daniel still has the surname.
+        index.remove(BENSON);
+        assertEquals(Arrays.asList("Meier", "Meyer"), index.findNamesSoundingLike(Arrays.asList("Mayer")));
+
+        index.remove(DANIEL);
+        assertEquals(Arrays.asList("Meyer"), index.findNamesSoundingLike(Arrays.asList("Mayer")));
+    }
+
+    @Test
+    public void updateAndRemove_changedWords_indexKeptUpToDate() {
+        index.setPersons(Arrays.asList(BENSON, DANIEL));
+        index.remove(BENSON);
+
+        // Daniel still has the surname.
+        assertEquals(0, index.getClosestDistance(SearchableField.NAME, "Meier"));
+        assertTrue(index.findWordsWithin(SearchableField.NAME, Arrays.asList("Benson"), 0).isEmpty());
+        assertTrue(index.findWordsWithin(SearchableField.TAGS, Arrays.asList("owesMoney"), 0).isEmpty());
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withId(DANIEL.getId()).withName("Daniel Mayer")
+                .withNote("Reports weekly").build();
+        index.remove(DANIEL);
+        index.add(editedDaniel);
+
+        assertEquals(Collections.singletonMap("Mayer", 1),
+                index.findWordsWithin(SearchableField.NAME, Arrays.asList("Meyer"), 1));
+        assertEquals(1, index.getClosestDistance(SearchableField.NOTE, "report"));
+    }
+}
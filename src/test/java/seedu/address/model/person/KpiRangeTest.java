@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class KpiRangeTest {
+
+    @Test
+    public void constructor_invalidKpiRange_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new KpiRange("4-2"));
+    }
+
+    @Test
+    public void isValidKpiRange() {
+        // invalid ranges
+        assertFalse(KpiRange.isValidKpiRange("3.5")); // single score
+        assertFalse(KpiRange.isValidKpiRange(">=6")); // score out of range
+        assertFalse(KpiRange.isValidKpiRange("=>3")); // unknown operator
+        assertFalse(KpiRange.isValidKpiRange("4-2")); // lowest above highest
+        assertFalse(KpiRange.isValidKpiRange("2-")); // missing highest
+
+        // valid ranges
+        assertTrue(KpiRange.isValidKpiRange(">=3.5"));
+        assertTrue(KpiRange.isValidKpiRange("< 2"));
+        assertTrue(KpiRange.isValidKpiRange("2-4"));
+        assertTrue(KpiRange.isValidKpiRange(" 2.5 - 2.5 "));
+    }
+
+    @Test
+    public void constructor_comparison_boundsSet() {
+        KpiRange atLeast = new KpiRange(">=3.5");
+        assertEquals(3.5, atLeast.lowest, 0);
+        assertTrue(atLeast.isLowestIncluded);
+        assertEquals(Double.POSITIVE_INFINITY, atLeast.highest, 0);
+
+        KpiRange below = new KpiRange("<2");
+        assertEquals(2, below.highest, 0);
+        assertFalse(below.isHighestIncluded);
+
+        assertEquals(new KpiRange("2-4"), new KpiRange("2.0 - 4.0"));
+    }
+}
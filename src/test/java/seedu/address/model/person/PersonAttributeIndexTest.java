@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonAttributeIndexTest {
+
+    private final PersonAttributeIndex index = new PersonAttributeIndex();
+
+    @Test
+    public void find_exactValueDifferentCase_personsFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Arrays.asList(ALICE), index.find(PersonAttribute.EMAIL, "ALICE@example.com"));
+        assertEquals(Arrays.asList(BENSON), index.find(PersonAttribute.KPI, "3.2"));
+        assertTrue(index.find(PersonAttribute.PHONE, "9435").isEmpty());
+    }
+
+    @Test
+    public void findByPrefix_sharedPrefix_allMatchingPersonsFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Arrays.asList(CARL, ALICE), index.findByPrefix(PersonAttribute.KPI, "4"));
+        assertEquals(Arrays.asList(ALICE), index.findByPrefix(PersonAttribute.PHONE, "9435"));
+        assertTrue(index.findByPrefix(PersonAttribute.POSITION, "manager").isEmpty());
+    }
+
+    @Test
+    public void findByKpiRange_boundsIncludedOrExcluded_personsInRangeFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Arrays.asList(CARL, ALICE), index.findByKpiRange(new KpiRange(">=4")));
+        assertEquals(Arrays.asList(ALICE), index.findByKpiRange(new KpiRange(">4")));
+        assertEquals(Arrays.asList(BENSON, CARL), index.findByKpiRange(new KpiRange("3.2-4")));
+        assertTrue(index.findByKpiRange(new KpiRange("<3.2")).isEmpty());
+    }
+
+    @Test
+    public void remove_personWithoutOptionalValues_removedFromIndex() {
+        Person person = new PersonBuilder().withName("No Position").withPhone("81234567").build();
+        index.add(person);
+        assertEquals(Arrays.asList(person), index.find(PersonAttribute.PHONE, "81234567"));
+
+        index.remove(person);
+        assertTrue(index.find(PersonAttribute.PHONE, "81234567").isEmpty());
+    }
+}
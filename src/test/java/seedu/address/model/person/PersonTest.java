@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -96,4 +99,20 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void getLowerCaseWords() {
+        Person person = new PersonBuilder().withName("Alice  PAULINE").withTags("Friends", "colleagues").build();
+        assertArrayEquals(new String[] {"alice", "pauline"}, person.getLowerCaseWords(SearchableField.NAME));
+        assertArrayEquals(new String[0], person.getLowerCaseWords(SearchableField.POSITION));
+        assertEquals(2, person.getLowerCaseWords(SearchableField.TAGS).length);
+        assertSame(person.getLowerCaseWords(SearchableField.NAME), person.getLowerCaseWords(SearchableField.NAME));
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+    }
 }
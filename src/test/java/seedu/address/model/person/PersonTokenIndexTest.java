@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTokenIndexTest {
+
+    private final PersonTokenIndex index = new PersonTokenIndex();
+
+    @Test
+    public void find_anyWordOfField_unionOfPersons() {
+        index.setPersons(Arrays.asList(DANIEL, CARL, BENSON, ALICE));
+
+        assertEquals(Arrays.asList(ALICE, CARL), find(SearchableField.NAME, "alice", "KURZ", "nobody"));
+        assertEquals(Arrays.asList(BENSON, DANIEL), find(SearchableField.NAME, "Meier"));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), find(SearchableField.TAGS, "friends"));
+        assertTrue(find(SearchableField.NAME, "Meie").isEmpty());
+    }
+
+    @Test
+    public void find_severalFields_intersectionOfPersons() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        Map<SearchableField, List<String>> wordsByField = new EnumMap<>(SearchableField.class);
+        wordsByField.put(SearchableField.NAME, Arrays.asList("meier", "alice"));
+        wordsByField.put(SearchableField.TAGS, Collections.singletonList("owesMoney"));
+
+        assertEquals(Collections.singletonList(BENSON), index.find(wordsByField));
+
+        wordsByField.put(SearchableField.ADDRESS, Collections.singletonList("street"));
+        assertTrue(index.find(wordsByField).isEmpty());
+    }
+
+    @Test
+    public void updateAndRemove_changedWords_indexKeptUpToDate() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withId(ALICE.getId()).withNote("Likes the Meier report.")
+                .build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        assertEquals(Collections.singletonList(editedAlice), find(SearchableField.NOTE, "meier"));
+        assertEquals(Collections.singletonList(editedAlice), find(SearchableField.NAME, "pauline"));
+
+        index.remove(BENSON);
+        assertTrue(find(SearchableField.NAME, "benson").isEmpty());
+    }
+
+    private List<Person> find(SearchableField field, String... words) {
+        return index.find(Collections.singletonMap(field, Arrays.asList(words)));
+    }
+}
@@ -1,42 +0,0 @@
-//@@author lws803
-package seedu.address.model.person;
-
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
-
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
-import org.junit.Test;
-
-public class PhoneContainsKeywordsPredicateTest {
-    @Test
-    public void equals() {
-        List<String> firstPredicateKeywordList = Collections.singletonList("912311231");
-        List<String> secondPredicateKeywordList = Arrays.asList("912311231", "912311232");
-
-        PhoneContainsKeywordPredicate firstPredicate =
-                new PhoneContainsKeywordPredicate(firstPredicateKeywordList);
-        PhoneContainsKeywordPredicate secondPredicate =
-                new PhoneContainsKeywordPredicate(secondPredicateKeywordList);
-
-        // same object -> returns true
-        assertTrue(firstPredicate.equals(firstPredicate));
-
-        // same values -> returns true
-        PhoneContainsKeywordPredicate firstPredicateCopy =
-                new PhoneContainsKeywordPredicate(firstPredicateKeywordList);
-        assertTrue(firstPredicate.equals(firstPredicateCopy));
-
-        // different types -> returns false
-        assertFalse(firstPredicate.equals(1));
-
-        // null -> returns false
-        assertFalse(firstPredicate.equals(null));
-
-        // different person -> returns false
-        assertFalse(firstPredicate.equals(secondPredicate));
-    }
-
-}
@@ -6,11 +6,13 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -64,6 +66,26 @@ public class UniquePersonListTest {
         uniquePersonList.add(ALICE);
     }
 
+    @Test
+    public void add_differentPersonWithSameId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new PersonBuilder(BOB).withId(ALICE.getId()).build());
+    }
+
+    @Test
+    public void getPersonById_editedPersonKeepsId_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).withId(ALICE.getId()).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPersonById(ALICE.getId()));
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(0, uniquePersonList.indexOfId(BENSON.getId()));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +161,30 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(editedAlice);
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(BENSON);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.LevenshteinDistanceUtil;
+
+public class WordBkTreeTest {
+
+    private final WordBkTree tree = new WordBkTree();
+
+    @Test
+    public void addAndRemove_duplicateAndMissingWords_reportedAsUnchanged() {
+        assertTrue(tree.add("kurz"));
+        assertFalse(tree.add("kurz"));
+        assertFalse(tree.remove("kunz"));
+        assertTrue(tree.remove("kurz"));
+        assertFalse(tree.remove("kurz"));
+        assertEquals(0, tree.size());
+        assertEquals(Integer.MAX_VALUE, tree.closestDistance("kurz"));
+    }
+
+    @Test
+    public void forEachWithin_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            if (tree.add(word)) {
+                words.add(word);
+            }
+        }
+        // Removing most words rebuilds the tree, which must still find the words left.
+        for (int i = 0; i < 300; i++) {
+            assertTrue(tree.remove(words.remove(words.size() - 1)));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            int maxDistance = random.nextInt(4);
+            Map<String, Integer> expected = new HashMap<>();
+            int closest = Integer.MAX_VALUE;
+            for (String word : words) {
+                int distance = LevenshteinDistanceUtil.levenshteinDistance(query, word);
+                closest = Math.min(closest, distance);
+                if (distance <= maxDistance) {
+                    expected.put(word, distance);
+                }
+            }
+            Map<String, Integer> actual = new HashMap<>();
+            tree.forEachWithin(query, maxDistance, actual::put);
+
+            assertEquals(expected, actual);
+            assertEquals(closest, tree.closestDistance(query));
+        }
+    }
+
+    @Test
+    public void forEachWithin_parallelSearch_sameAsSequentialSearch() {
+        Random random = new Random(3);
+        WordBkTree parallelTree = new WordBkTree();
+        parallelTree.setParallelThreshold(0);
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            tree.add(word);
+            parallelTree.add(word);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            int maxDistance = random.nextInt(4);
+            Map<String, Integer> expected = new HashMap<>();
+            tree.forEachWithin(query, maxDistance, expected::put);
+            Map<String, Integer> actual = new HashMap<>();
+            parallelTree.forEachWithin(query, maxDistance, actual::put);
+
+            assertEquals(expected, actual);
+            assertEquals(tree.closestDistance(query), parallelTree.closestDistance(query));
+        }
+    }
+
+    /**
+     * Returns a short word of the first few letters, so that many words are close to each other.
+     */
+    private static String randomWord(Random random) {
+        char[] letters = new char[2 + random.nextInt(6)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(5));
+        }
+        return new String(letters);
+    }
+}
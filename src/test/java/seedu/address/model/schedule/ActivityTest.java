@@ -4,6 +4,7 @@ package seedu.address.model.schedule;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
 import java.util.Date;
 
 import org.junit.Test;
@@ -14,7 +15,7 @@ public class ActivityTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        Assert.assertThrows(NullPointerException.class, () -> new Activity(null, null));
+        Assert.assertThrows(NullPointerException.class, () -> new Activity((LocalDate) null, null));
     }
 
     @Test
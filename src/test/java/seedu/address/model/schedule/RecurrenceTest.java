@@ -0,0 +1,62 @@
+package seedu.address.model.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class RecurrenceTest {
+
+    @Test
+    public void constructor_endsBeforeStart_throwsIllegalArgumentException() {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.DAILY, LocalDate.of(2018, 1, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new Activity(LocalDate.of(2018, 1, 2), "Stand up.", recurrence));
+    }
+
+    @Test
+    public void toString_fromString_roundTrips() {
+        Recurrence recurrence = RECURRING_ACTIVITY.getRecurrence();
+        assertEquals("weekly 2018-01-29 2018-01-08=Team lunch at noon. 2018-01-15=", recurrence.toString());
+        assertEquals(recurrence, Recurrence.fromString(recurrence.toString()));
+
+        assertFalse(Recurrence.isValidRecurrence("yearly 2018-01-29"));
+        assertFalse(Recurrence.isValidRecurrence("weekly 29/01/2018"));
+        assertFalse(Recurrence.isValidRecurrence("weekly 2018-01-29 Team lunch"));
+        assertFalse(Recurrence.isValidRecurrence("weekly 2018-01-29 2018-01-15= lunch"));
+    }
+
+    @Test
+    public void getOccurrences_weeklyWithExceptions_onlyOccurrencesInRange() {
+        List<Activity> expected = Arrays.asList(
+                new Activity(LocalDate.of(2018, 1, 8), "Team lunch at noon."),
+                new Activity(LocalDate.of(2018, 1, 22), "Team meeting."));
+        assertEquals(expected, RECURRING_ACTIVITY.getOccurrences(LocalDate.of(2018, 1, 2), LocalDate.of(2018, 1, 28)));
+        assertEquals(4, RECURRING_ACTIVITY.getOccurrences(null, null).size());
+        assertEquals(Collections.emptyList(), RECURRING_ACTIVITY.getOccurrences(LocalDate.of(2018, 1, 30), null));
+
+        assertTrue(RECURRING_ACTIVITY.occursOn(LocalDate.of(2018, 1, 29)));
+        assertFalse(RECURRING_ACTIVITY.occursOn(LocalDate.of(2018, 1, 15)));
+        assertFalse(RECURRING_ACTIVITY.occursOn(LocalDate.of(2018, 1, 16)));
+    }
+
+    @Test
+    public void getOccurrences_monthlyOnLastDay_fallsOnLastDayOfShorterMonths() {
+        Activity activity = new Activity(LocalDate.of(2018, 1, 31), "Close the books.",
+                new Recurrence(Recurrence.Frequency.MONTHLY, LocalDate.of(2018, 4, 30)));
+        List<Activity> expected = Arrays.asList(
+                new Activity(LocalDate.of(2018, 2, 28), "Close the books."),
+                new Activity(LocalDate.of(2018, 3, 31), "Close the books."),
+                new Activity(LocalDate.of(2018, 4, 30), "Close the books."));
+        assertEquals(expected, activity.getOccurrences(LocalDate.of(2018, 2, 1), null));
+    }
+}
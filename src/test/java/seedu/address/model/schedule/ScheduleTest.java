@@ -5,7 +5,10 @@ import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
 import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_2;
 import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_3;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
 
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -14,6 +17,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 
 public class ScheduleTest {
     @Rule
@@ -87,4 +91,57 @@ public class ScheduleTest {
         ObservableList<Activity> activityList = schedule.getActivities();
         activityList.remove(0);
     }
+
+    @Test
+    public void add_outOfOrder_activitiesSortedByDate() {
+        ObservableList<Activity> activityList = schedule.getActivities();
+        schedule.add(ACTIVITY_TASK_3);
+        schedule.add(ACTIVITY_TASK_1);
+        schedule.add(ACTIVITY_TASK_2);
+        assertEquals(Arrays.asList(ACTIVITY_TASK_1, ACTIVITY_TASK_2, ACTIVITY_TASK_3), activityList);
+
+        schedule.delete(ACTIVITY_TASK_2);
+        assertEquals(Arrays.asList(ACTIVITY_TASK_1, ACTIVITY_TASK_3), activityList);
+    }
+
+    @Test
+    public void getActivities_dateRange_activitiesInRange() {
+        schedule.setSchedule(Arrays.asList(ACTIVITY_TASK_3, ACTIVITY_TASK_2, ACTIVITY_TASK_1));
+        LocalDate date1 = ACTIVITY_TASK_1.getLocalDate();
+        LocalDate date2 = ACTIVITY_TASK_2.getLocalDate();
+        LocalDate date3 = ACTIVITY_TASK_3.getLocalDate();
+
+        assertEquals(Arrays.asList(ACTIVITY_TASK_2, ACTIVITY_TASK_3), schedule.getActivities(date2, date3));
+        assertEquals(Arrays.asList(ACTIVITY_TASK_1, ACTIVITY_TASK_2), schedule.getActivities(null, date2));
+        assertEquals(Collections.singletonList(ACTIVITY_TASK_3), schedule.getActivities(date3, null));
+        assertEquals(Collections.emptyList(), schedule.getActivities(date3.plusDays(1), null));
+        assertEquals(1, schedule.countActivitiesBefore(date2));
+    }
+
+    @Test
+    public void getActivities_recurringActivity_occurrencesInRangeExpanded() {
+        schedule.setSchedule(Arrays.asList(ACTIVITY_TASK_3, RECURRING_ACTIVITY));
+        assertEquals(Arrays.asList(RECURRING_ACTIVITY, ACTIVITY_TASK_3), schedule.getActivities());
+
+        List<Activity> expected = Arrays.asList(
+                ACTIVITY_TASK_3,
+                new Activity(LocalDate.of(2018, 1, 8), "Team lunch at noon."),
+                new Activity(LocalDate.of(2018, 1, 22), "Team meeting."));
+        assertEquals(expected, schedule.getActivities(LocalDate.of(2018, 1, 2), LocalDate.of(2018, 1, 28)));
+        assertEquals(5, schedule.getActivities(null, null).size());
+
+        schedule.delete(RECURRING_ACTIVITY);
+        assertEquals(Collections.singletonList(ACTIVITY_TASK_3), schedule.getActivities(null, null));
+    }
+
+    @Test
+    public void getOccurrences_recurringActivity_indexOfStoredActivityGiven() {
+        schedule.setSchedule(Arrays.asList(ACTIVITY_TASK_3, RECURRING_ACTIVITY));
+
+        List<Occurrence> expected = Arrays.asList(
+                new Occurrence(ACTIVITY_TASK_3, Index.fromOneBased(2)),
+                new Occurrence(new Activity(LocalDate.of(2018, 1, 8), "Team lunch at noon."), Index.fromOneBased(1)),
+                new Occurrence(new Activity(LocalDate.of(2018, 1, 22), "Team meeting."), Index.fromOneBased(1)));
+        assertEquals(expected, schedule.getOccurrences(LocalDate.of(2018, 1, 2), LocalDate.of(2018, 1, 28)));
+    }
 }
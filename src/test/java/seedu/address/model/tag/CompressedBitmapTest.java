@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void addRemove_acrossArrayAndBitmapChunks_sameAsTreeSet() {
+        Random random = new Random(1);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // Dense enough in the first chunk to switch to a bitmap, sparse in the others
+        for (int i = 0; i < 20000; i++) {
+            int value = i % 4 == 0 ? random.nextInt(300000) : random.nextInt(10000);
+            assertEquals(expected.add(value), bitmap.add(value));
+        }
+        assertSameValues(expected, bitmap);
+
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(10000);
+            assertEquals(expected.remove(value), bitmap.remove(value));
+        }
+        assertSameValues(expected, bitmap);
+    }
+
+    @Test
+    public void orAnd_mixedChunks_sameAsTreeSet() {
+        Random random = new Random(2);
+        CompressedBitmap first = new CompressedBitmap();
+        CompressedBitmap second = new CompressedBitmap();
+        TreeSet<Integer> firstValues = new TreeSet<>();
+        TreeSet<Integer> secondValues = new TreeSet<>();
+        for (int i = 0; i < 10000; i++) {
+            int dense = random.nextInt(8000);
+            first.add(dense);
+            firstValues.add(dense);
+            int sparse = random.nextInt(200000);
+            second.add(sparse);
+            secondValues.add(sparse);
+        }
+
+        TreeSet<Integer> union = new TreeSet<>(firstValues);
+        union.addAll(secondValues);
+        assertSameValues(union, first.or(second));
+
+        TreeSet<Integer> intersection = new TreeSet<>(firstValues);
+        intersection.retainAll(secondValues);
+        assertSameValues(intersection, first.and(second));
+        assertSameValues(firstValues, first.and(first));
+    }
+
+    @Test
+    public void remove_absentValue_returnsFalse() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(70000);
+        assertFalse(bitmap.remove(5));
+        assertTrue(bitmap.remove(70000));
+        assertTrue(bitmap.isEmpty());
+    }
+
+    /**
+     * Asserts that {@code bitmap} holds exactly {@code expected}.
+     */
+    private void assertSameValues(TreeSet<Integer> expected, CompressedBitmap bitmap) {
+        List<Integer> actual = new ArrayList<>();
+        bitmap.forEach(actual::add);
+        assertEquals(new ArrayList<>(expected), actual);
+        assertEquals(expected.size(), bitmap.cardinality());
+    }
+}
@@ -6,10 +6,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.FRIENDS;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Rule;
@@ -164,6 +166,29 @@ public class UniqueTagListTest {
         assertEquals(expectedPersonList.getPersons(), uniqueTagList.getPersons(FRIENDS));
     }
 
+    @Test
+    public void getPersonsWithAnyTagAndAllTags_severalTags_combinedPersons() {
+        uniqueTagList.setTagsOf(Arrays.asList(ALICE, BENSON, BOB));
+        Tag owesMoney = new Tag("owesMoney");
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), uniqueTagList.getPersonsWithAnyTag(Arrays.asList(FRIENDS,
+                husband)));
+        assertEquals(Arrays.asList(BENSON), uniqueTagList.getPersonsWithAllTags(Arrays.asList(FRIENDS, owesMoney)));
+        assertEquals(2, uniqueTagList.countPersons(FRIENDS));
+    }
+
+    @Test
+    public void remove_personWithSharedTag_ordinalReused() {
+        uniqueTagList.add(ALICE);
+        uniqueTagList.add(BENSON);
+        uniqueTagList.remove(ALICE);
+        uniqueTagList.add(BOB);
+
+        assertEquals(Arrays.asList(BENSON), uniqueTagList.getPersons(FRIENDS));
+        assertEquals(1, uniqueTagList.countPersons(FRIENDS));
+    }
+
     @Test
     public void getUnqiueTagList_noTagInList_throwsTagNotFoundException() {
         thrown.expect(TagNotFoundException.class);
@@ -178,6 +203,18 @@ public class UniqueTagListTest {
         assertEquals(expectedTagList, uniqueTagList.getUniqueTagList());
     }
 
+    @Test
+    public void setTagsOf_persons_sameAsAddingEachPerson() {
+        uniqueTagList.add(new PersonBuilder().withName("Stale").withTags("stale").build());
+        uniqueTagList.setTagsOf(Arrays.asList(ALICE, BENSON, BOB));
+
+        UniqueTagList expectedUniqueTagList = new UniqueTagList();
+        expectedUniqueTagList.add(ALICE);
+        expectedUniqueTagList.add(BENSON);
+        expectedUniqueTagList.add(BOB);
+        assertEquals(expectedUniqueTagList.asUnmodifiableObservableMap(), uniqueTagList.asUnmodifiableObservableMap());
+    }
+
     @Test
     public void asUnmodifiableObservableMap_modifyMap_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
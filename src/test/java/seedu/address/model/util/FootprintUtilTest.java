@@ -0,0 +1,31 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FootprintUtilTest {
+
+    @Test
+    public void estimateBytes_sharedTagSets_countedOnce() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withTags("colleagues", "friends").build());
+        }
+        assertSame(persons.get(0).getTags(), persons.get(9).getTags());
+
+        long bytes = FootprintUtil.estimateBytes(persons);
+        long unsharedBytes = FootprintUtil.estimateUnsharedBytes(persons);
+        assertTrue(bytes < unsharedBytes);
+        assertEquals(unsharedBytes, 10 * FootprintUtil.estimateBytes(Collections.singletonList(persons.get(0))));
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_list_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(8, list.size());
+        assertEquals(Integer.valueOf(5), list.get(4));
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void updates_manyRandomOperations_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                list = list.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            }
+        }
+        assertEquals(expected, list.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void updates_earlierVersionUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> updated = original.set(1, "x").remove(0).add("d");
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("x", "c", "d"), updated.toList());
+    }
+
+    @Test
+    public void diff_versionsMadeByUpdates_changesTurnOneIntoTheOther() {
+        Random random = new Random(7);
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        versions.add(list);
+        for (int i = 10; i < 400; i++) {
+            int operation = random.nextInt(3);
+            if (list.isEmpty() || operation == 0) {
+                list = list.add(random.nextInt(list.size() + 1), i);
+            } else if (operation == 1) {
+                list = list.set(random.nextInt(list.size()), i);
+            } else {
+                list = list.remove(random.nextInt(list.size()));
+            }
+            versions.add(list);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            PersistentList<Integer> first = versions.get(random.nextInt(versions.size()));
+            PersistentList<Integer> second = versions.get(random.nextInt(versions.size()));
+            PersistentList.Diff<Integer> diff = first.diff(second);
+            assertTrue(diff.isOrderKept());
+            assertEquals(second.toList(), applyDiff(first.toList(), diff));
+        }
+    }
+
+    @Test
+    public void diff_singleUpdate_onlyChangedElementsReturned() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+        PersistentList<Integer> updated = list.set(500, 5000);
+
+        PersistentList.Diff<Integer> diff = updated.diff(list);
+        assertEquals(1, diff.getRemoved().size());
+        assertEquals(Integer.valueOf(5000), diff.getRemoved().get(0).getElement());
+        assertEquals(1, diff.getAdded().size());
+        assertEquals(500, diff.getAdded().get(0).getIndex());
+
+        assertTrue(list.diff(list).getRemoved().isEmpty());
+        assertEquals(1, list.diff(list.remove(0)).getRemoved().size());
+    }
+
+    @Test
+    public void diff_reorderedElements_orderNotKept() {
+        List<Integer> elements = Arrays.asList(1, 2, 3);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        PersistentList<Integer> reversed = PersistentList.of(Arrays.asList(elements.get(2), elements.get(1),
+                elements.get(0)));
+
+        PersistentList.Diff<Integer> diff = list.diff(reversed);
+        assertFalse(diff.isOrderKept());
+        assertTrue(diff.getRemoved().isEmpty());
+        assertTrue(diff.getAdded().isEmpty());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList("a")).get(1);
+    }
+
+    @Test
+    public void add_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList("a")).add(2, "b");
+    }
+
+    /**
+     * Returns {@code elements} with the elements removed by {@code diff} removed and those added by it inserted.
+     */
+    private static <E> List<E> applyDiff(List<E> elements, PersistentList.Diff<E> diff) {
+        List<E> result = new ArrayList<>(elements);
+        List<PersistentList.Change<E>> removed = diff.getRemoved();
+        for (int i = removed.size() - 1; i >= 0; i--) {
+            assertTrue(result.get(removed.get(i).getIndex()) == removed.get(i).getElement());
+            result.remove(removed.get(i).getIndex());
+        }
+        for (PersistentList.Change<E> added : diff.getAdded()) {
+            result.add(added.getIndex(), added.getElement());
+        }
+        return result;
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different elements -> returns false
+        assertFalse(list.equals(list.set(0, "c")));
+    }
+}
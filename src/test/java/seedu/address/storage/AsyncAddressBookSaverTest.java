@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final long LONG_WINDOW_MILLIS = 60000;
+
+    private AsyncAddressBookSaver saver;
+
+    @After
+    public void tearDown() {
+        if (saver != null) {
+            saver.shutdown();
+        }
+    }
+
+    @Test
+    public void flush_manyRequests_coalescedIntoOneWrite() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        saver = new AsyncAddressBookSaver(storage, LONG_WINDOW_MILLIS, Runnable::run, e -> { });
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            saver.requestSave(addressBook);
+        }
+        addressBook.addPerson(ALICE);
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook.getPersonList(), storage.saved.get(0).getPersonList());
+        assertEquals(1, saver.getSaveCount());
+        assertEquals(999, saver.getCoalescedSaveCount());
+    }
+
+    @Test
+    public void flush_noPendingRequests_nothingWritten() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        saver = new AsyncAddressBookSaver(storage, LONG_WINDOW_MILLIS, Runnable::run, e -> { });
+
+        saver.flush();
+        saver.requestSave(getTypicalAddressBook());
+        saver.flush();
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flush_snapshotIsIsolatedFromLaterChanges() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        saver = new AsyncAddressBookSaver(storage, LONG_WINDOW_MILLIS, Runnable::run, e -> { });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(addressBook);
+        saver.flush();
+        addressBook.removePerson(ALICE);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), storage.saved.get(0).getPersonList());
+    }
+
+    @Test
+    public void requestSave_windowElapses_writtenInBackground() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        saver = new AsyncAddressBookSaver(storage, 10, Runnable::run, e -> { });
+
+        saver.requestSave(getTypicalAddressBook());
+        for (int i = 0; i < 500 && saver.getSaveCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flush_writeFails_errorHandled() {
+        List<IOException> errors = new ArrayList<>();
+        saver = new AsyncAddressBookSaver(new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        }, LONG_WINDOW_MILLIS, Runnable::run, errors::add);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void shutdown_pendingRequest_written() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        saver = new AsyncAddressBookSaver(storage, LONG_WINDOW_MILLIS, Runnable::run, e -> { });
+
+        saver.requestSave(getTypicalAddressBook());
+        saver.shutdown();
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+    }
+
+    /**
+     * An address book storage that records the data it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("dummy");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveAddressBook(addressBook);
+        }
+
+        @Override
+        public void flushAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_2;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.schedule.Activity;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class BinaryAddressBookCodecTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndRead_allInOrder_success() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Zed").withAddress("a&b<c>d\"e ü😀")
+                .withPosition("Boss").withKpi("3.5").withNote("Some note.").withTags("friends", "colleagues")
+                .build());
+        original.addActivity(ACTIVITY_TASK_1);
+        original.addActivity(ACTIVITY_TASK_2);
+        original.addActivity(new Activity(new Date(-1000L), "Before the epoch."));
+        original.addActivity(RECURRING_ACTIVITY);
+        Path file = testFolder.newFile().toPath();
+
+        BinaryAddressBookCodec.write(file, original);
+        AddressBook readBack = BinaryAddressBookCodec.read(file);
+
+        assertTrue(BinaryAddressBookCodec.isBinaryFile(file));
+        assertEquals(original, readBack);
+        assertEquals(original.getActivityList(), readBack.getActivityList());
+    }
+
+    @Test
+    public void write_repeatedStrings_smallerThanXml() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withTags("colleagues").build());
+        }
+        Path binaryFile = testFolder.newFile().toPath();
+        Path xmlFile = testFolder.newFile().toPath();
+
+        BinaryAddressBookCodec.write(binaryFile, addressBook);
+        XmlAddressBookCodec.write(xmlFile, addressBook, false);
+
+        assertTrue(Files.size(binaryFile) * 3 < Files.size(xmlFile));
+    }
+
+    @Test
+    public void isBinaryFile_xmlFile_returnsFalse() throws Exception {
+        Path file = testFolder.newFile().toPath();
+        XmlAddressBookCodec.write(file, TypicalPersons.getTypicalAddressBook(), true);
+        assertFalse(BinaryAddressBookCodec.isBinaryFile(file));
+        assertFalse(BinaryAddressBookCodec.isBinaryFile(testFolder.newFile().toPath()));
+    }
+
+    @Test
+    public void read_corruptedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.newFile().toPath();
+        BinaryAddressBookCodec.write(file, TypicalPersons.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+
+        thrown.expect(DataConversionException.class);
+        BinaryAddressBookCodec.read(file);
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.newFile().toPath();
+        BinaryAddressBookCodec.write(file, TypicalPersons.getTypicalAddressBook());
+        Files.write(file, Arrays.copyOf(Files.readAllBytes(file), 6));
+
+        thrown.expect(DataConversionException.class);
+        BinaryAddressBookCodec.read(file);
+    }
+}
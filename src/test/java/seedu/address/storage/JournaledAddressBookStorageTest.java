@@ -0,0 +1,357 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Activity;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final long NO_COMPACTION = Long.MAX_VALUE;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Path filePath;
+    private Path journalPath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        journalPath = AddressBookJournal.getJournalPath(filePath);
+    }
+
+    @Test
+    public void readAndSave_allInOrder_success() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        original.addActivity(ACTIVITY_TASK_1);
+
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // Add, edit and rename persons
+        original.addPerson(HOON);
+        original.updatePerson(ALICE, new PersonBuilder(ALICE).withAddress("Blk 1\\2\tJurong West").build());
+        original.updatePerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").withTags().build());
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+
+        // Remove persons and replace activities
+        original.removePerson(CARL);
+        original.deleteActivity(ACTIVITY_TASK_1);
+        original.addActivity(new Activity(ACTIVITY_TASK_1.getDate(), "Plan the offsite."));
+        original.addActivity(RECURRING_ACTIVITY);
+        storage.saveAddressBook(original);
+        assertReadBack(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_smallChange_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(journalPath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertReadBack(original);
+    }
+
+    @Test
+    public void readAddressBook_tornJournalEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulate a crash in the middle of appending an entry
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 5));
+        assertReadBack(expected);
+
+        // The torn entry is discarded, so later entries are not lost after it
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        reopened.readAddressBook();
+        expected.addPerson(IDA);
+        reopened.saveAddressBook(expected);
+        assertReadBack(expected);
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // The data file is replaced, e.g. by another copy, without its journal
+        AddressBook expected = new AddressBook();
+        expected.addPerson(IDA);
+        new XmlAddressBookStorage(filePath).saveAddressBook(expected);
+        assertReadBack(expected);
+    }
+
+    @Test
+    public void saveAddressBook_journalLimitExceeded_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertEquals(original, new XmlAddressBookStorage(filePath).readAddressBook().get());
+        assertTrue(AddressBookJournal.read(journalPath).get().getEntries().isEmpty());
+        assertReadBack(original);
+    }
+
+    @Test
+    public void flushAddressBook_journaledChanges_writtenToDataFile() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        storage.flushAddressBook();
+
+        assertEquals(original, new XmlAddressBookStorage(filePath).readAddressBook().get());
+        assertReadBack(original);
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedBeforeSnapshotReplaced_oldJournalReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // A new journal was written for a new snapshot that never replaced the data file
+        Path nextJournalPath = testFolder.getRoot().toPath().resolve("addressbook.xml.journal.next");
+        AddressBookJournal.create(nextJournalPath, "0:0", new byte[0]);
+
+        assertReadBack(original);
+        assertFalse(Files.exists(nextJournalPath));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedAfterSnapshotReplaced_newJournalUsed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        // The data file was replaced but the old journal, for the previous data file, was not
+        Path nextJournalPath = testFolder.getRoot().toPath().resolve("addressbook.xml.journal.next");
+        Files.copy(journalPath, nextJournalPath);
+        AddressBookJournal.create(journalPath, "0:0", AddressBookJournal.encode(
+                Collections.singletonList(JournalEntry.removePerson(ALICE.getName()))));
+
+        assertReadBack(original);
+        assertFalse(Files.exists(nextJournalPath));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsDuringCompaction_lastSaveReadBack() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AtomicReference<Exception> compactionFailure = new AtomicReference<>();
+        AtomicBoolean isSaving = new AtomicBoolean(true);
+        Thread compactor = new Thread(() -> {
+            try {
+                while (isSaving.get()) {
+                    storage.flushAddressBook();
+                }
+            } catch (IOException e) {
+                compactionFailure.set(e);
+            }
+        });
+        compactor.start();
+        try {
+            for (int i = 0; i < 50; i++) {
+                // Journaled, so that the compactor has something to compact
+                original.addPerson(HOON);
+                storage.saveAddressBook(original);
+                // A reordering, which is saved as a snapshot
+                List<Person> reversed = new ArrayList<>(original.getPersonList());
+                Collections.reverse(reversed);
+                original.setPersons(reversed);
+                storage.saveAddressBook(original);
+                original.removePerson(HOON);
+                storage.saveAddressBook(original);
+            }
+        } finally {
+            isSaving.set(false);
+            compactor.join();
+        }
+
+        assertNull(compactionFailure.get());
+        storage.flushAddressBook();
+        assertReadBack(original);
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            assertFalse(files.anyMatch(path -> path.toString().endsWith(".compacting")));
+        }
+    }
+
+    @Test
+    public void readAddressBook_leftoverSnapshotFiles_deleted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // Snapshots that a crash left behind before they could replace the data file
+        Path leftover = testFolder.getRoot().toPath().resolve("addressbook.xml.123.compacting");
+        Path oldLeftover = testFolder.getRoot().toPath().resolve("addressbook.xml.compacting");
+        Files.write(leftover, new byte[] {1});
+        Files.write(oldLeftover, new byte[] {1});
+
+        assertReadBack(original);
+        assertFalse(Files.exists(leftover));
+        assertFalse(Files.exists(oldLeftover));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writtenAsPlainXml() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        Path otherPath = testFolder.getRoot().toPath().resolve("backup.xml");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherPath);
+
+        assertEquals(original, new XmlAddressBookStorage(otherPath).readAddressBook().get());
+        assertEquals(original, storage.readAddressBook(otherPath).get());
+        assertFalse(Files.exists(AddressBookJournal.getJournalPath(otherPath)));
+    }
+
+    @Test
+    public void saveAddressBookChanges_modelChanges_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        original.addActivity(ACTIVITY_TASK_1);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        ModelManager model = new ModelManager(original, new UserPrefs());
+
+        model.addPerson(HOON);
+        saveLatestChanges(storage);
+        model.updatePerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        saveLatestChanges(storage);
+        model.deletePerson(CARL);
+        saveLatestChanges(storage);
+        model.deleteActivity(ACTIVITY_TASK_1);
+        saveLatestChanges(storage);
+        model.addActivity(RECURRING_ACTIVITY);
+        saveLatestChanges(storage);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertReadBack(new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_personAddedBeforeOthers_snapshotWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        long emptyJournalSize = Files.size(journalPath);
+        ModelManager model = new ModelManager(original, new UserPrefs());
+
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        saveLatestChanges(storage);
+        model.undoAddressBook();
+        saveLatestChanges(storage);
+
+        assertEquals(emptyJournalSize, Files.size(journalPath));
+        assertReadBack(new AddressBook(model.getAddressBook()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesToOtherData_snapshotWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NO_COMPACTION);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(DANIEL);
+        ModelManager model = new ModelManager(original, new UserPrefs());
+
+        model.deletePerson(ALICE);
+        saveLatestChanges(storage);
+        model.addPerson(IDA);
+        saveLatestChanges(storage);
+
+        assertReadBack(new AddressBook(model.getAddressBook()));
+    }
+
+    /**
+     * Saves the changes of the last {@code AddressBookChangedEvent} raised by the model to {@code storage}.
+     */
+    private void saveLatestChanges(JournaledAddressBookStorage storage) throws Exception {
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        storage.saveAddressBookChanges(event.data, event.changes);
+    }
+
+    /**
+     * Asserts that a new storage reading the data file sees {@code expected}.
+     */
+    private void assertReadBack(ReadOnlyAddressBook expected) throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, NO_COMPACTION).readAddressBook().get();
+        assertEquals(expected, readBack);
+        assertEquals(expected.getActivityList(), readBack.getActivityList());
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.storage.XmlAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int RECORD_COUNT = ParallelPersonConverter.BATCH_SIZE * 2 + 100;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void convertAll_manyPersons_convertedInOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        List<XmlAdaptedPerson> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withTags("team" + i % 7).build();
+            expected.add(person);
+            records.add(new XmlAdaptedPerson(person));
+        }
+
+        assertEquals(expected, ParallelPersonConverter.convertAll(records));
+    }
+
+    @Test
+    public void convertAll_severalInvalidPersons_firstErrorReported() throws Exception {
+        List<XmlAdaptedPerson> records = createRecords();
+        // Later in the file, and in a later batch, than the invalid phone below
+        records.set(RECORD_COUNT - 1, new XmlAdaptedPerson(null, "123", "a@b.com", "Street", null, null, null, null));
+        records.set(ParallelPersonConverter.BATCH_SIZE + 5, new XmlAdaptedPerson("Person", "+65", "a@b.com",
+                "Street", null, null, null, null));
+        records.set(ParallelPersonConverter.BATCH_SIZE + 6, records.get(0));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        ParallelPersonConverter.convertAll(records);
+    }
+
+    @Test
+    public void convertAll_duplicateBeforeInvalidPerson_duplicateReported() throws Exception {
+        List<XmlAdaptedPerson> records = createRecords();
+        records.set(ParallelPersonConverter.BATCH_SIZE + 5, records.get(3));
+        records.set(ParallelPersonConverter.BATCH_SIZE + 6,
+                new XmlAdaptedPerson(null, "123", "a@b.com", "Street", null, null, null, null));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        ParallelPersonConverter.convertAll(records);
+    }
+
+    @Test
+    public void finish_invalidPersonInLastBatch_errorReported() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (XmlAdaptedPerson record : createRecords()) {
+            converter.add(record);
+        }
+        converter.add(new XmlAdaptedPerson(null, "123", "a@b.com", "Street", null, null, null, null));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        converter.finish();
+    }
+
+    /**
+     * Returns {@code RECORD_COUNT} valid records of distinct persons.
+     */
+    private static List<XmlAdaptedPerson> createRecords() {
+        List<XmlAdaptedPerson> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(new XmlAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        return records;
+    }
+}
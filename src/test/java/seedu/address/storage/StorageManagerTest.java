@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -19,6 +20,7 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -69,6 +71,22 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_backgroundSaving_readReturnsLatestData() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new XmlAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                60000, Runnable::run);
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getTypicalPersons()) {
+            addressBook.addPerson(person);
+            backgroundStorageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        }
+
+        ReadOnlyAddressBook retrieved = backgroundStorageManager.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(retrieved));
+        backgroundStorageManager.stopAddressBookSaver();
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -4,6 +4,7 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.storage.XmlAdaptedActivity.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_3;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
 
 import java.util.Date;
 
@@ -11,6 +12,7 @@ import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Recurrence;
 import seedu.address.testutil.Assert;
 
 
@@ -26,6 +28,23 @@ public class XmlAdaptedActivityTest {
         assertEquals(ACTIVITY_TASK_3, activity.toModelType());
     }
 
+    @Test
+    public void toModelType_recurringActivity_returnsActivityWithRecurrence() throws Exception {
+        XmlAdaptedActivity activity = new XmlAdaptedActivity(RECURRING_ACTIVITY);
+        assertEquals(RECURRING_ACTIVITY, activity.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        XmlAdaptedActivity activity = new XmlAdaptedActivity(VALID_DATE, VALID_ACTIVITY, "fortnightly 2018-12-31");
+        Assert.assertThrows(IllegalValueException.class, Recurrence.MESSAGE_RECURRENCE_CONSTRAINTS,
+                activity::toModelType);
+
+        XmlAdaptedActivity endsBeforeStart = new XmlAdaptedActivity(VALID_DATE, VALID_ACTIVITY, "daily 2017-12-31");
+        Assert.assertThrows(IllegalValueException.class, Recurrence.MESSAGE_END_DATE_CONSTRAINTS,
+                endsBeforeStart::toModelType);
+    }
+
     @Test
     public void toModelType_nullDate_throwsIllegalValueException() {
         XmlAdaptedActivity activity = new XmlAdaptedActivity(null, VALID_ACTIVITY);
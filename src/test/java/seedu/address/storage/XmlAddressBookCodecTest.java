@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_1;
+import static seedu.address.testutil.TypicalActivity.ACTIVITY_TASK_2;
+import static seedu.address.testutil.TypicalActivity.RECURRING_ACTIVITY;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.schedule.Activity;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class XmlAddressBookCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlAddressBookStorageTest",
+            "NotXmlFormatAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), XmlAddressBookCodec.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlAddressBookCodec.read(INVALID_PERSON_FILE);
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        XmlAddressBookCodec.read(DUPLICATE_PERSON_FILE);
+    }
+
+    @Test
+    public void read_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlAddressBookCodec.read(NOT_XML_FILE);
+    }
+
+    @Test
+    public void write_formatted_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(getAddressBookWithSpecialCharacters(), true);
+        assertSameBytesAsJaxb(new AddressBook(), true);
+    }
+
+    @Test
+    public void write_unformatted_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(getAddressBookWithSpecialCharacters(), false);
+        assertSameBytesAsJaxb(new AddressBook(), false);
+    }
+
+    @Test
+    public void read_fileWrittenByJaxb_sameAsJaxb() throws Exception {
+        AddressBook addressBook = getAddressBookWithSpecialCharacters();
+        Path file = testFolder.newFile().toPath();
+        XmlUtil.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+
+        AddressBook expected = XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class).toModelType();
+        AddressBook actual = XmlAddressBookCodec.read(file);
+        assertEquals(expected, actual);
+        assertEquals(expected.getActivityList(), actual.getActivityList());
+    }
+
+    @Test
+    public void read_unknownElements_ignored() throws Exception {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, ("<addressbook><extra><a>1</a></extra><persons><name>Bob</name><phone>999</phone>"
+                + "<email>bob@example.com</email><address>Street</address><unknown/></persons></addressbook>")
+                .getBytes());
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(new PersonBuilder().withName("Bob").withPhone("999").withEmail("bob@example.com")
+                .withAddress("Street").withTags().build());
+        assertEquals(expected, XmlAddressBookCodec.read(file));
+    }
+
+    /**
+     * Asserts that the codec writes {@code addressBook} exactly as JAXB does.
+     */
+    private void assertSameBytesAsJaxb(AddressBook addressBook, boolean isFormatted) throws Exception {
+        Path jaxbFile = testFolder.newFile().toPath();
+        Path codecFile = testFolder.newFile().toPath();
+        XmlUtil.saveDataToFile(jaxbFile, new XmlSerializableAddressBook(addressBook), isFormatted);
+        XmlAddressBookCodec.write(codecFile, addressBook, isFormatted);
+        assertArrayEquals(Files.readAllBytes(jaxbFile), Files.readAllBytes(codecFile));
+    }
+
+    private AddressBook getAddressBookWithSpecialCharacters() {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Zed").withAddress("a&b<c>d\"e'f\tg ü😀 ]]>")
+                .withPosition("Boss").withKpi("3.5").withNote("Some note.").withTags("friends", "colleagues")
+                .build());
+        addressBook.addActivity(ACTIVITY_TASK_1);
+        addressBook.addActivity(ACTIVITY_TASK_2);
+        addressBook.addActivity(new Activity(new Date(1514736000123L), "With milliseconds."));
+        addressBook.addActivity(RECURRING_ACTIVITY);
+        return addressBook;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
@@ -99,6 +100,20 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_binaryOutput_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalAddressBook();
+        XmlAddressBookStorage binaryStorage = new XmlAddressBookStorage(filePath, true, true);
+
+        binaryStorage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookCodec.isBinaryFile(filePath));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+
+        // Read by a storage that saves xml
+        assertEquals(original, new XmlAddressBookStorage(filePath).readAddressBook().get());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
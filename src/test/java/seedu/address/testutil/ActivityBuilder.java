@@ -1,6 +1,6 @@
 package seedu.address.testutil;
 
-import java.util.Date;
+import java.time.LocalDate;
 
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -14,7 +14,7 @@ public class ActivityBuilder {
     private static final String DEFAULT_DATE = "01/01/2018";
 
     private String activityName;
-    private Date date;
+    private LocalDate date;
 
     public ActivityBuilder() {
         try {
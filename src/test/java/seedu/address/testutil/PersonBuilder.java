@@ -35,6 +35,7 @@ public class PersonBuilder {
     private Kpi kpi;
     private Note note;
     private Set<Tag> tags;
+    private Long id;
 
     public PersonBuilder() {
         name = new Name(DEFAULT_NAME);
@@ -125,8 +126,22 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Person} that we are building, which is otherwise a new id.
+     */
+    public PersonBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * Builds the {@code Person}, with a new id unless one was set with {@link #withId(long)}.
+     */
     public Person build() {
-        return new Person(name, phone, email, address, position, kpi, note, tags);
+        if (id == null) {
+            return new Person(name, phone, email, address, position, kpi, note, tags);
+        }
+        return new Person(id, name, phone, email, address, position, kpi, note, tags);
     }
 
 }
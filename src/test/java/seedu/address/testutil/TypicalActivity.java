@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -7,6 +8,7 @@ import java.util.List;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.schedule.Activity;
+import seedu.address.model.schedule.Recurrence;
 
 /**
  * A utility class containing a list of {@code Activity} objects to be used in tests.
@@ -22,6 +24,12 @@ public class TypicalActivity {
 
     public static final Activity ACTIVITY_TASK_3 = new Activity(DATE_3, "Give Alexia a raise.");
 
+    /** Weekly on Mondays in January 2018, renamed on the 8th and cancelled on the 15th. */
+    public static final Activity RECURRING_ACTIVITY = new Activity(LocalDate.of(2018, 1, 1), "Team meeting.",
+            new Recurrence(Recurrence.Frequency.WEEKLY, LocalDate.of(2018, 1, 29))
+                    .withRenamed(LocalDate.of(2018, 1, 8), "Team lunch at noon.")
+                    .withCancelled(LocalDate.of(2018, 1, 15)));
+
     public static AddressBook getTypicalAddressBook() {
         AddressBook ab = new AddressBook();
         for (Activity activity : getTypicalActivities()) {